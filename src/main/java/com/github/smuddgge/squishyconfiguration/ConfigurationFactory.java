@@ -1,18 +1,34 @@
 package com.github.smuddgge.squishyconfiguration;
 
+import com.github.smuddgge.squishyconfiguration.implementation.EnginePool;
+import com.github.smuddgge.squishyconfiguration.implementation.JsonConfiguration;
 import com.github.smuddgge.squishyconfiguration.implementation.TomlConfiguration;
 import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
 import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryOptions;
+import com.moandjiezana.toml.TomlWriter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.Yaml;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * <h1>Represents the configuration factory</h1>
  * Used to create a configuration file.
  */
 public enum ConfigurationFactory {
-    YAML {
+    YAML(".yml") {
         @Override
         public Configuration create(String path) {
             return this.create(new File(path + ".yml"));
@@ -28,6 +44,16 @@ public enum ConfigurationFactory {
             return new YamlConfiguration(file);
         }
 
+        @Override
+        public @NotNull Configuration create(@NotNull File file, @NotNull MemoryOptions options) {
+            return new YamlConfiguration(file, options);
+        }
+
+        @Override
+        public @Nullable Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException {
+            return YamlConfiguration.parse(inputStream);
+        }
+
         @Override
         public @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull String path) {
             return new PreparedConfigurationFactory(this, new File(path + ".yml"));
@@ -43,7 +69,7 @@ public enum ConfigurationFactory {
             return new PreparedConfigurationFactory(this, file);
         }
     },
-    TOML {
+    TOML(".toml") {
         @Override
         public Configuration create(String path) {
             return this.create(new File(path + ".toml"));
@@ -59,6 +85,16 @@ public enum ConfigurationFactory {
             return new TomlConfiguration(file);
         }
 
+        @Override
+        public @NotNull Configuration create(@NotNull File file, @NotNull MemoryOptions options) {
+            return new TomlConfiguration(file, options);
+        }
+
+        @Override
+        public @Nullable Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException {
+            return TomlConfiguration.parse(inputStream);
+        }
+
         @Override
         public @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull String path) {
             return new PreparedConfigurationFactory(this, new File(path + ".toml"));
@@ -69,12 +105,70 @@ public enum ConfigurationFactory {
             return new PreparedConfigurationFactory(this, new File(folder, path + ".toml"));
         }
 
+        @Override
+        public @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull File file) {
+            return new PreparedConfigurationFactory(this, file);
+        }
+    },
+    JSON(".json") {
+        @Override
+        public Configuration create(String path) {
+            return this.create(new File(path + ".json"));
+        }
+
+        @Override
+        public Configuration create(File folder, String path) {
+            return new JsonConfiguration(folder, path + ".json");
+        }
+
+        @Override
+        public Configuration create(File file) {
+            return new JsonConfiguration(file);
+        }
+
+        @Override
+        public @NotNull Configuration create(@NotNull File file, @NotNull MemoryOptions options) {
+            return new JsonConfiguration(file, options);
+        }
+
+        @Override
+        public @Nullable Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException {
+            return JsonConfiguration.parse(inputStream);
+        }
+
+        @Override
+        public @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull String path) {
+            return new PreparedConfigurationFactory(this, new File(path + ".json"));
+        }
+
+        @Override
+        public @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull File folder, @NotNull String path) {
+            return new PreparedConfigurationFactory(this, new File(folder, path + ".json"));
+        }
+
         @Override
         public @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull File file) {
             return new PreparedConfigurationFactory(this, file);
         }
     };
 
+    private final @NotNull String extension;
+
+    ConfigurationFactory(@NotNull String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Used to get the file extension used
+     * by this type of configuration file.
+     * <li>Example: ".yml"</li>
+     *
+     * @return The file extension.
+     */
+    public @NotNull String getExtension() {
+        return this.extension;
+    }
+
     /**
      * Used to create a configuration file.
      *
@@ -100,6 +194,239 @@ public enum ConfigurationFactory {
      */
     public abstract Configuration create(File file);
 
+    /**
+     * Used to create a configuration file with options.
+     *
+     * @param file    The instance of the file.
+     * @param options The options used to store the data.
+     * @return The instance of a new configuration file instance.
+     */
+    public abstract @NotNull Configuration create(@NotNull File file, @NotNull MemoryOptions options);
+
+    /**
+     * Used to create a configuration file that can be
+     * shared between threads.
+     * <p>
+     * Reads never block, values are set one at a time for each
+     * top level key, and loaded data is only visible once it
+     * has been fully loaded. See {@link MemoryOptions#isConcurrent()}.
+     *
+     * @param path The location of this file without extensions.
+     * @return The instance of a new configuration file instance.
+     */
+    public @NotNull Configuration createConcurrent(@NotNull String path) {
+        return this.createConcurrent(new File(path + this.extension));
+    }
+
+    /**
+     * Used to create a configuration file that can be
+     * shared between threads.
+     * See {@link ConfigurationFactory#createConcurrent(String)}.
+     *
+     * @param folder The instance of the parent folder.
+     * @param path   The location in the file without the extensions.
+     * @return The instance of a new configuration file instance.
+     */
+    public @NotNull Configuration createConcurrent(@NotNull File folder, @NotNull String path) {
+        return this.createConcurrent(new File(folder, path + this.extension));
+    }
+
+    /**
+     * Used to create a configuration file that can be
+     * shared between threads.
+     * See {@link ConfigurationFactory#createConcurrent(String)}.
+     *
+     * @param file The instance of the file.
+     * @return The instance of a new configuration file instance.
+     */
+    public @NotNull Configuration createConcurrent(@NotNull File file) {
+        return this.create(file, new MemoryOptions(true));
+    }
+
+    /**
+     * Used to parse the content of this type of
+     * configuration without a file.
+     * <p>
+     * The stream is read but not closed.
+     *
+     * @param inputStream The content to parse.
+     * @return The data, or null if the content is empty.
+     * @throws IOException If the content can't be read.
+     */
+    public abstract @Nullable Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException;
+
+    /**
+     * Used to load a section from content that
+     * doesn't have a backing file, such as defaults
+     * embedded in a jar or received over the network.
+     * <p>
+     * The section is only kept in memory, so it can
+     * be changed but not saved. The stream is read
+     * but not closed.
+     * <pre>{@code
+     * MemoryConfigurationSection defaults = ConfigurationFactory.YAML.load(inputStream);
+     * }</pre>
+     *
+     * @param inputStream The content to load.
+     * @return The loaded section.
+     * @throws IOException If the content can't be read.
+     */
+    public @NotNull MemoryConfigurationSection load(@NotNull InputStream inputStream) throws IOException {
+        return this.load(inputStream, new MemoryOptions());
+    }
+
+    /**
+     * Used to load a section from content that
+     * doesn't have a backing file with options.
+     * See {@link ConfigurationFactory#load(InputStream)}.
+     *
+     * @param inputStream The content to load.
+     * @param options     The options used to store the data.
+     * @return The loaded section.
+     * @throws IOException If the content can't be read.
+     */
+    public @NotNull MemoryConfigurationSection load(@NotNull InputStream inputStream, @NotNull MemoryOptions options) throws IOException {
+
+        // Some parsers close the stream when they reach
+        // the end, which should be left to the caller.
+        Map<?, ?> data = this.parse(new FilterInputStream(inputStream) {
+            @Override
+            public void close() {
+            }
+        });
+
+        if (data == null) data = new HashMap<>();
+        return MemoryConfigurationSection.of(data, options);
+    }
+
+    /**
+     * Used to load a section from content held in memory.
+     * See {@link ConfigurationFactory#load(InputStream)}.
+     *
+     * @param content The content to load.
+     * @return The loaded section.
+     * @throws IOException If the content can't be read.
+     */
+    public @NotNull MemoryConfigurationSection load(byte @NotNull [] content) throws IOException {
+        return this.load(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Used to load a section from the remaining
+     * content of a buffer.
+     * See {@link ConfigurationFactory#load(InputStream)}.
+     * <p>
+     * The position of the buffer is not changed.
+     *
+     * @param buffer The content to load.
+     * @return The loaded section.
+     * @throws IOException If the content can't be read.
+     */
+    public @NotNull MemoryConfigurationSection load(@NotNull ByteBuffer buffer) throws IOException {
+        ByteBuffer content = buffer.duplicate();
+
+        // Heap buffers are read without copying them.
+        if (content.hasArray()) {
+            return this.load(new ByteArrayInputStream(
+                    content.array(),
+                    content.arrayOffset() + content.position(),
+                    content.remaining()
+            ));
+        }
+
+        return this.load(new ByteBufferInputStream(content));
+    }
+
+    /**
+     * Used to load a section from a resource in the jar.
+     * See {@link ConfigurationFactory#load(InputStream)}.
+     * <pre>{@code
+     * MemoryConfigurationSection defaults = ConfigurationFactory.YAML.loadResource("defaults.yml");
+     * }</pre>
+     *
+     * @param path The path of the resource, including the extension.
+     * @return The loaded section.
+     * @throws IOException If the resource doesn't exist or can't be read.
+     */
+    public @NotNull MemoryConfigurationSection loadResource(@NotNull String path) throws IOException {
+        return this.loadResource(ConfigurationFactory.class, path);
+    }
+
+    /**
+     * Used to load a section from a resource in the
+     * jar that contains a class, such as a plugin's jar.
+     * See {@link ConfigurationFactory#load(InputStream)}.
+     *
+     * @param resourceClass A class in the jar containing the resource.
+     * @param path          The path of the resource, including the extension.
+     * @return The loaded section.
+     * @throws IOException If the resource doesn't exist or can't be read.
+     */
+    public @NotNull MemoryConfigurationSection loadResource(@NotNull Class<?> resourceClass, @NotNull String path) throws IOException {
+        try (InputStream inputStream = resourceClass.getResourceAsStream("/" + path)) {
+            if (inputStream == null) throw new FileNotFoundException("Resource " + path + " does not exist.");
+            return this.load(inputStream);
+        }
+    }
+
+    /**
+     * Used to set the yaml engine used by yaml
+     * configurations created after this is called.
+     * <p>
+     * Engines are reused by each load and save, and
+     * are only used by one thread at a time.
+     * <pre>{@code
+     * ConfigurationFactory.setYamlEngine(() -> new Yaml(new LoaderOptions()));
+     * }</pre>
+     *
+     * @param engine Used to create a new yaml engine.
+     */
+    public static void setYamlEngine(@NotNull Supplier<Yaml> engine) {
+        YamlConfiguration.setDefaultEngines(new EnginePool<>(engine));
+    }
+
+    /**
+     * Used to set if yaml configurations created after this is
+     * called are read with the built in parser for block style yaml.
+     * <p>
+     * This is off by default. Content the parser doesn't support,
+     * such as anchors, tags or block scalars, is still read by
+     * the yaml engine, so a custom engine from
+     * {@link #setYamlEngine(Supplier)} only reads that content.
+     *
+     * @param fastYaml True to use the fast parser.
+     */
+    public static void setFastYaml(boolean fastYaml) {
+        YamlConfiguration.setDefaultFastParser(fastYaml);
+    }
+
+    /**
+     * Used to set if toml configurations created after this
+     * is called use the built in toml 1.0 parser and writer.
+     * <p>
+     * This is on by default. When it is turned off, files
+     * are read and written with toml4j instead.
+     *
+     * @param nativeToml False to use toml4j.
+     */
+    public static void setNativeToml(boolean nativeToml) {
+        TomlConfiguration.setDefaultNative(nativeToml);
+    }
+
+    /**
+     * Used to set the toml writer used by toml
+     * configurations created after this is called
+     * when toml4j is used, see {@link #setNativeToml(boolean)}.
+     * <p>
+     * Writers are reused by each save, and are
+     * only used by one thread at a time.
+     *
+     * @param engine Used to create a new toml writer.
+     */
+    public static void setTomlEngine(@NotNull Supplier<TomlWriter> engine) {
+        TomlConfiguration.setDefaultEngines(new EnginePool<>(engine));
+    }
+
     /**
      * Used to create a prepared factory of a configuration file.
      * This can then be used to create the configuration instance later.
@@ -127,4 +454,38 @@ public enum ConfigurationFactory {
      * @return The prepared configuration factory.
      */
     public abstract @NotNull PreparedConfigurationFactory createPreparedFactory(@NotNull File file);
-}
\ No newline at end of file
+
+    /**
+     * Represents a stream that reads
+     * the remaining content of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final @NotNull ByteBuffer buffer;
+
+        private ByteBufferInputStream(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            if (!this.buffer.hasRemaining()) return -1;
+            return this.buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte @NotNull [] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!this.buffer.hasRemaining()) return -1;
+
+            int amount = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, amount);
+            return amount;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
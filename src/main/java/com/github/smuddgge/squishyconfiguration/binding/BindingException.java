@@ -0,0 +1,25 @@
+package com.github.smuddgge.squishyconfiguration.binding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The binding exception.
+ * <p>
+ * Called when a class can't be converted
+ * to or from a configuration map.
+ */
+public class BindingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Used to create a binding exception.
+     *
+     * @param clazz The class that couldn't be converted.
+     * @param cause The cause of the exception.
+     */
+    public BindingException(@NotNull Class<?> clazz, @Nullable Throwable cause) {
+        super("Unable to bind class " + clazz.getName() + ".", cause);
+    }
+}
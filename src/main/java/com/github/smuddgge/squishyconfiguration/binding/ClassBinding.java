@@ -0,0 +1,225 @@
+package com.github.smuddgge.squishyconfiguration.binding;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the cached binding of a class.
+ * <p>
+ * The binding holds method handles for reading and
+ * writing the class's fields, so instances can be
+ * converted to and from maps without reflection lookups.
+ * <p>
+ * Fields are chosen the same way as gson, so values
+ * stored by older versions can still be read:
+ * <ul>
+ *     <li>Static, transient and synthetic fields are ignored.</li>
+ *     <li>Fields of super classes are included.</li>
+ *     <li>{@link SerializedName} can be used to rename a field.</li>
+ * </ul>
+ */
+final class ClassBinding {
+
+    private static final @NotNull MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final @NotNull MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final @NotNull MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /**
+     * Represents a bound field or record component.
+     *
+     * @param name   The key used in the map.
+     * @param type   The generic type of the field.
+     * @param getter The handle used to read the value.
+     * @param setter The handle used to write the value.
+     *               Null for record components.
+     */
+    private record Property(@NotNull String name,
+                            @NotNull Type type,
+                            @NotNull MethodHandle getter,
+                            @Nullable MethodHandle setter) {
+    }
+
+    private final @NotNull Class<?> clazz;
+    private final @NotNull Property[] properties;
+    private final @Nullable MethodHandle constructor;
+
+    private ClassBinding(@NotNull Class<?> clazz, @NotNull Property[] properties, @Nullable MethodHandle constructor) {
+        this.clazz = clazz;
+        this.properties = properties;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Used to create the binding for a class.
+     *
+     * @param clazz The instance of the class.
+     * @return The binding, or null if the class can't be bound
+     * and gson should be used instead.
+     */
+    static @Nullable ClassBinding create(@NotNull Class<?> clazz) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            if (clazz.isRecord()) return ClassBinding.createRecord(clazz, lookup);
+
+            List<Property> properties = new ArrayList<>();
+            for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+                MethodHandles.Lookup currentLookup = MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+
+                    field.setAccessible(true);
+                    properties.add(new Property(
+                            ClassBinding.getName(field),
+                            field.getGenericType(),
+                            currentLookup.unreflectGetter(field).asType(GETTER_TYPE),
+                            currentLookup.unreflectSetter(field).asType(SETTER_TYPE)
+                    ));
+                }
+            }
+
+            // Classes without a no argument constructor, such as
+            // inner classes, can still be converted into maps.
+            MethodHandle constructor = null;
+            if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+                try {
+                    Constructor<?> declared = clazz.getDeclaredConstructor();
+                    declared.setAccessible(true);
+                    constructor = lookup.unreflectConstructor(declared).asType(CONSTRUCTOR_TYPE);
+                } catch (NoSuchMethodException ignored) {
+                }
+            }
+
+            return new ClassBinding(clazz, properties.toArray(new Property[0]), constructor);
+
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private static @NotNull ClassBinding createRecord(@NotNull Class<?> clazz, @NotNull MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        RecordComponent[] components = clazz.getRecordComponents();
+        Property[] properties = new Property[components.length];
+        Class<?>[] types = new Class<?>[components.length];
+
+        for (int index = 0; index < components.length; index++) {
+            RecordComponent component = components[index];
+            Method accessor = component.getAccessor();
+            accessor.setAccessible(true);
+
+            SerializedName serializedName = component.getAnnotation(SerializedName.class);
+            properties[index] = new Property(
+                    serializedName == null ? component.getName() : serializedName.value(),
+                    component.getGenericType(),
+                    lookup.unreflect(accessor).asType(GETTER_TYPE),
+                    null
+            );
+            types[index] = component.getType();
+        }
+
+        Constructor<?> declared = clazz.getDeclaredConstructor(types);
+        declared.setAccessible(true);
+        MethodHandle constructor = lookup.unreflectConstructor(declared)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new ClassBinding(clazz, properties, constructor);
+    }
+
+    private static @NotNull String getName(@NotNull Field field) {
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        return serializedName == null ? field.getName() : serializedName.value();
+    }
+
+    /**
+     * Used to check if new instances of the class
+     * can be created by this binding.
+     *
+     * @return True if the class can be created.
+     */
+    boolean canCreate() {
+        return this.constructor != null;
+    }
+
+    /**
+     * Used to convert an instance of the class into a map.
+     * Null values are not included.
+     *
+     * @param instance The instance of the class.
+     * @return The map of values.
+     */
+    @NotNull Map<String, Object> toMap(@NotNull Object instance) {
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        try {
+            for (Property property : this.properties) {
+                Object value = (Object) property.getter().invokeExact(instance);
+                if (value == null) continue;
+                map.put(property.name(), ObjectBinder.toTree(value));
+            }
+        } catch (Throwable throwable) {
+            throw new BindingException(this.clazz, throwable);
+        }
+
+        return map;
+    }
+
+    /**
+     * Used to create an instance of the class from a map.
+     * Missing values are left as their default.
+     *
+     * @param map The map of values.
+     * @return The new instance.
+     */
+    @NotNull Object fromMap(@NotNull Map<?, ?> map) {
+        if (this.constructor == null) throw new BindingException(this.clazz, null);
+
+        try {
+            if (this.clazz.isRecord()) {
+                Object[] arguments = new Object[this.properties.length];
+                for (int index = 0; index < this.properties.length; index++) {
+                    Property property = this.properties[index];
+                    arguments[index] = ObjectBinder.fromTree(map.get(property.name()), property.type());
+                }
+
+                return (Object) this.constructor.invokeExact(arguments);
+            }
+
+            Object instance = (Object) this.constructor.invokeExact();
+
+            for (Property property : this.properties) {
+                Object value = map.get(property.name());
+                if (value == null) continue;
+
+                Object converted = ObjectBinder.fromTree(value, property.type());
+                if (converted == null) continue;
+
+                //noinspection DataFlowIssue
+                property.setter().invokeExact(instance, converted);
+            }
+
+            return instance;
+
+        } catch (BindingException exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new BindingException(this.clazz, throwable);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.github.smuddgge.squishyconfiguration.binding;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Used to convert objects to and from the
+ * maps and lists stored in configuration sections.
+ * <p>
+ * Classes are converted directly using a {@link ClassBinding}
+ * that is created once per class. Classes that can't be bound,
+ * for example classes from the jdk or inner classes that
+ * need to be created, are converted using a shared
+ * {@link Gson} instance instead.
+ * <pre>{@code
+ * Map<String, Object> map = ObjectBinder.toMap(object);
+ * Example example = ObjectBinder.fromMap(map, Example.class);
+ * }</pre>
+ */
+public final class ObjectBinder {
+
+    /**
+     * The shared gson instance.
+     * Gson is thread safe, so this can be used anywhere.
+     */
+    public static final @NotNull Gson GSON = new Gson();
+
+    private static final @NotNull ClassValue<Optional<ClassBinding>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected Optional<ClassBinding> computeValue(@NotNull Class<?> type) {
+            if (ObjectBinder.isPlatformClass(type)) return Optional.empty();
+            return Optional.ofNullable(ClassBinding.create(type));
+        }
+    };
+
+    private ObjectBinder() {
+    }
+
+    /**
+     * Used to convert an object into a map.
+     *
+     * @param object The instance of the object.
+     * @return The map of the object's values.
+     * @throws BindingException If the object can't be converted into a map.
+     */
+    @SuppressWarnings("unchecked")
+    public static @NotNull Map<String, Object> toMap(@NotNull Object object) {
+        Object tree = ObjectBinder.toTree(object);
+        if (tree instanceof Map) return (Map<String, Object>) tree;
+        throw new BindingException(object.getClass(), null);
+    }
+
+    /**
+     * Used to convert a value into a value that can be
+     * stored in a configuration section.
+     * <ul>
+     *     <li>Strings, integers, longs, doubles and booleans are kept.</li>
+     *     <li>Dates and times are kept.</li>
+     *     <li>Other numbers are converted to integers, longs or doubles.</li>
+     *     <li>Enums are converted to their names.</li>
+     *     <li>Collections and arrays are converted to lists.</li>
+     *     <li>Maps and other objects are converted to maps.</li>
+     * </ul>
+     *
+     * @param value The value to convert.
+     * @return The converted value.
+     */
+    public static @Nullable Object toTree(@Nullable Object value) {
+        if (value == null
+                || value instanceof String
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Double
+                || value instanceof Boolean
+                || value instanceof TemporalAccessor
+                || value instanceof Date) {
+
+            return value;
+        }
+
+        if (value instanceof Number) return ObjectBinder.toNumber((Number) value);
+        if (value instanceof Character) return value.toString();
+        if (value instanceof Enum) return ((Enum<?>) value).name();
+
+        if (value instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() == null) continue;
+                map.put(String.valueOf(ObjectBinder.toTree(entry.getKey())), ObjectBinder.toTree(entry.getValue()));
+            }
+            return map;
+        }
+
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> list = new ArrayList<>(collection.size());
+            for (Object item : collection) list.add(ObjectBinder.toTree(item));
+            return list;
+        }
+
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int index = 0; index < length; index++) list.add(ObjectBinder.toTree(Array.get(value, index)));
+            return list;
+        }
+
+        ClassBinding binding = ObjectBinder.getBinding(value.getClass());
+        if (binding != null) return binding.toMap(value);
+
+        // Otherwise convert using gson.
+        return ObjectBinder.fromJson(GSON.toJsonTree(value));
+    }
+
+    /**
+     * Used to create an instance of a class from a map.
+     *
+     * @param map   The map of values.
+     * @param clazz The class to create.
+     * @param <T>   The type of the class.
+     * @return The new instance of the class.
+     * @throws BindingException If the class can't be created.
+     */
+    public static <T> @Nullable T fromMap(@NotNull Map<?, ?> map, @NotNull Class<T> clazz) {
+        ClassBinding binding = ObjectBinder.getBinding(clazz);
+        if (binding != null && binding.canCreate()) return clazz.cast(binding.fromMap(map));
+
+        // Otherwise create the class using gson.
+        return GSON.fromJson(GSON.toJsonTree(map), clazz);
+    }
+
+    /**
+     * Used to convert a value from a configuration section
+     * into an instance of a type.
+     *
+     * @param value The value to convert.
+     * @param type  The type to convert to, can be generic.
+     * @return The converted value.
+     * @throws BindingException If the value can't be converted.
+     */
+    public static @Nullable Object fromTree(@Nullable Object value, @NotNull Type type) {
+        Class<?> raw = ObjectBinder.getRawType(type);
+
+        if (value == null) return raw.isPrimitive() ? ObjectBinder.getDefault(raw) : null;
+        if (raw == Object.class) return ObjectBinder.copy(value);
+        if (raw == String.class) return value instanceof String ? value : String.valueOf(value);
+
+        if (raw == int.class || raw == Integer.class) {
+            return (int) ObjectBinder.asWholeNumber(value, raw, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (raw == long.class || raw == Long.class) return ObjectBinder.asWholeNumber(value, raw, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (raw == double.class || raw == Double.class) return ObjectBinder.asNumber(value).doubleValue();
+        if (raw == float.class || raw == Float.class) return ObjectBinder.asNumber(value).floatValue();
+        if (raw == short.class || raw == Short.class) {
+            return (short) ObjectBinder.asWholeNumber(value, raw, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+        if (raw == byte.class || raw == Byte.class) {
+            return (byte) ObjectBinder.asWholeNumber(value, raw, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+        if (raw == boolean.class || raw == Boolean.class) {
+            return value instanceof Boolean ? value : Boolean.parseBoolean(String.valueOf(value));
+        }
+        if (raw == char.class || raw == Character.class) {
+            String string = String.valueOf(value);
+            return string.isEmpty() ? ObjectBinder.getDefault(char.class) : string.charAt(0);
+        }
+
+        if (raw.isEnum()) return ObjectBinder.getEnum(raw, String.valueOf(value));
+        if (raw.isArray()) return ObjectBinder.toArray(value, type, raw);
+
+        if (Collection.class.isAssignableFrom(raw) && ObjectBinder.isSequence(value)) {
+            Collection<Object> collection = ObjectBinder.createCollection(raw);
+            if (collection != null) {
+                Type itemType = ObjectBinder.getTypeArgument(type, 0);
+                ObjectBinder.forEach(value, item -> collection.add(ObjectBinder.fromTree(item, itemType)));
+                return collection;
+            }
+        }
+
+        if (Map.class.isAssignableFrom(raw) && value instanceof Map) {
+            Map<Object, Object> map = ObjectBinder.createMap(raw);
+            if (map != null) {
+                Type keyType = ObjectBinder.getTypeArgument(type, 0);
+                Type valueType = ObjectBinder.getTypeArgument(type, 1);
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    map.put(ObjectBinder.fromTree(entry.getKey(), keyType), ObjectBinder.fromTree(entry.getValue(), valueType));
+                }
+                return map;
+            }
+        }
+
+        if (raw.isInstance(value) && !(value instanceof Map)) return value;
+
+        if (value instanceof Map) {
+            ClassBinding binding = ObjectBinder.getBinding(raw);
+            if (binding != null && binding.canCreate()) return binding.fromMap((Map<?, ?>) value);
+        }
+
+        // Otherwise convert using gson.
+        return GSON.fromJson(GSON.toJsonTree(value), type);
+    }
+
+    private static @Nullable ClassBinding getBinding(@NotNull Class<?> clazz) {
+        return BINDINGS.get(clazz).orElse(null);
+    }
+
+    private static boolean isPlatformClass(@NotNull Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isEnum()) return true;
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static @NotNull Object toNumber(@NotNull Number number) {
+        if (number instanceof Short || number instanceof Byte) return number.intValue();
+        if (number instanceof Float) return Double.parseDouble(number.toString());
+        if (number instanceof BigInteger && ((BigInteger) number).bitLength() < 64) return number.longValue();
+        if (number instanceof BigInteger || number instanceof BigDecimal) return number.doubleValue();
+
+        // Numbers parsed by gson.
+        String string = number.toString();
+        if (string.indexOf('.') >= 0 || string.indexOf('e') >= 0 || string.indexOf('E') >= 0) {
+            return Double.parseDouble(string);
+        }
+
+        try {
+            long value = Long.parseLong(string);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return (int) value;
+            return value;
+        } catch (NumberFormatException exception) {
+            return number.doubleValue();
+        }
+    }
+
+    private static @NotNull Number asNumber(@NotNull Object value) {
+        if (value instanceof Number) return (Number) value;
+        return new BigDecimal(String.valueOf(value).trim());
+    }
+
+    private static long asWholeNumber(@NotNull Object value, @NotNull Class<?> raw, long min, long max) {
+        Number number = ObjectBinder.asNumber(value);
+        long whole;
+
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            whole = number.longValue();
+        } else {
+            try {
+                BigDecimal decimal = number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+                whole = decimal.longValueExact();
+            } catch (ArithmeticException | NumberFormatException exception) {
+                throw new BindingException(raw, exception);
+            }
+        }
+
+        // Stop numbers being cut off to fit the type.
+        if (whole < min || whole > max) throw new BindingException(raw, null);
+        return whole;
+    }
+
+    // Containers are copied, so an object doesn't share them with the section.
+    private static @NotNull Object copy(@NotNull Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), entry.getValue() == null ? null : ObjectBinder.copy(entry.getValue()));
+            }
+            return map;
+        }
+
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            for (Object item : (List<?>) value) list.add(item == null ? null : ObjectBinder.copy(item));
+            return list;
+        }
+
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object array = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, array, 0, length);
+            return array;
+        }
+
+        return value;
+    }
+
+    private static @NotNull Object getDefault(@NotNull Class<?> primitive) {
+        if (primitive == boolean.class) return false;
+        if (primitive == char.class) return '\0';
+        if (primitive == long.class) return 0L;
+        if (primitive == double.class) return 0D;
+        if (primitive == float.class) return 0F;
+        if (primitive == short.class) return (short) 0;
+        if (primitive == byte.class) return (byte) 0;
+        return 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull Object getEnum(@NotNull Class<?> clazz, @NotNull String name) {
+        return Enum.valueOf((Class<? extends Enum>) clazz, name);
+    }
+
+    private static boolean isSequence(@NotNull Object value) {
+        return value instanceof Collection || value.getClass().isArray();
+    }
+
+    private static void forEach(@NotNull Object sequence, @NotNull Consumer<Object> consumer) {
+        if (sequence instanceof Collection) {
+            for (Object item : (Collection<?>) sequence) consumer.accept(item);
+            return;
+        }
+
+        int length = Array.getLength(sequence);
+        for (int index = 0; index < length; index++) consumer.accept(Array.get(sequence, index));
+    }
+
+    private static @NotNull Object toArray(@NotNull Object value, @NotNull Type type, @NotNull Class<?> raw) {
+        Type componentType = type instanceof GenericArrayType
+                ? ((GenericArrayType) type).getGenericComponentType()
+                : raw.getComponentType();
+
+        List<Object> items = new ArrayList<>();
+        if (ObjectBinder.isSequence(value)) ObjectBinder.forEach(value, items::add);
+        else items.add(value);
+
+        Object array = Array.newInstance(raw.getComponentType(), items.size());
+        for (int index = 0; index < items.size(); index++) {
+            Array.set(array, index, ObjectBinder.fromTree(items.get(index), componentType));
+        }
+
+        return array;
+    }
+
+    private static @Nullable Collection<Object> createCollection(@NotNull Class<?> raw) {
+        if (raw.isAssignableFrom(ArrayList.class)) return new ArrayList<>();
+        if (raw.isAssignableFrom(LinkedHashSet.class)) return new LinkedHashSet<>();
+        if (raw.isAssignableFrom(TreeSet.class)) return new TreeSet<>();
+        if (raw.isAssignableFrom(ArrayDeque.class)) return new ArrayDeque<>();
+        return null;
+    }
+
+    private static @Nullable Map<Object, Object> createMap(@NotNull Class<?> raw) {
+        if (raw.isAssignableFrom(LinkedHashMap.class)) return new LinkedHashMap<>();
+        if (raw.isAssignableFrom(TreeMap.class)) return new TreeMap<>();
+        return null;
+    }
+
+    private static @NotNull Class<?> getRawType(@NotNull Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof ParameterizedType) return ObjectBinder.getRawType(((ParameterizedType) type).getRawType());
+        if (type instanceof GenericArrayType) {
+            Class<?> component = ObjectBinder.getRawType(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(component, 0).getClass();
+        }
+        if (type instanceof WildcardType) return ObjectBinder.getRawType(((WildcardType) type).getUpperBounds()[0]);
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length == 0 ? Object.class : ObjectBinder.getRawType(bounds[0]);
+        }
+        return Object.class;
+    }
+
+    private static @NotNull Type getTypeArgument(@NotNull Type type, int index) {
+        if (!(type instanceof ParameterizedType)) return Object.class;
+        Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+        return index < arguments.length ? arguments[index] : Object.class;
+    }
+
+    private static @Nullable Object fromJson(@Nullable JsonElement element) {
+        if (element == null || element.isJsonNull()) return null;
+
+        if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) return primitive.getAsBoolean();
+            if (primitive.isNumber()) return ObjectBinder.toNumber(primitive.getAsNumber());
+            return primitive.getAsString();
+        }
+
+        if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            List<Object> list = new ArrayList<>(array.size());
+            for (JsonElement item : array) list.add(ObjectBinder.fromJson(item));
+            return list;
+        }
+
+        JsonObject object = element.getAsJsonObject();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            map.put(entry.getKey(), ObjectBinder.fromJson(entry.getValue()));
+        }
+        return map;
+    }
+}
@@ -18,11 +18,12 @@
 
 package com.github.smuddgge.squishyconfiguration.directory;
 
-import com.github.smuddgge.squishyconfiguration.implementation.TomlConfiguration;
+import com.github.smuddgge.squishyconfiguration.ConfigurationFactory;
 import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
 import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
 import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
 import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.utility.ConversionUtility;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,8 +32,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -67,6 +70,13 @@ public class ConfigurationDirectory extends MemoryConfigurationSection {
 
     private final @NotNull List<Listener> listenerList;
 
+    /**
+     * Represents the loaded configuration of each file,
+     * so files can be loaded again on their own.
+     * Also used as the lock held while the data is replaced.
+     */
+    private final @NotNull Map<File, Configuration> configurations = new LinkedHashMap<>();
+
     /**
      * Used to create a new instance of a configuration directory.
      * <p>
@@ -425,6 +435,7 @@ public class ConfigurationDirectory extends MemoryConfigurationSection {
      */
     public @NotNull ConfigurationDirectory appendConfiguration(@NotNull ConfigurationSection section) {
         this.data.putAll(section.getMap());
+        this.setData(this.data);
         return this;
     }
 
@@ -434,7 +445,7 @@ public class ConfigurationDirectory extends MemoryConfigurationSection {
      * <p>
      * This will override any duplicated keys.
      * <p>
-     * If the file is not a yaml toml or data store file, and
+     * If the file is not a yaml, toml, json or data store file, and
      * it doesn't start with a dot, an exception will be thrown.
      *
      * @param file The instance of the configuration file to append.
@@ -442,32 +453,52 @@ public class ConfigurationDirectory extends MemoryConfigurationSection {
      * @throws ConfigurationDirectoryException When a file is not a supported configuration file.
      */
     public @NotNull ConfigurationDirectory appendConfiguration(@NotNull File file) {
+        Configuration configuration = this.loadConfiguration(file);
+        if (configuration != null) this.appendConfiguration(configuration);
+        return this;
+    }
+
+    /**
+     * Used to load a configuration file in this directory.
+     *
+     * @param file The instance of the configuration file.
+     * @return The loaded configuration, or null if
+     * the file is a hidden or data store file.
+     * @throws ConfigurationDirectoryException When a file is not a supported configuration file.
+     */
+    private @Nullable Configuration loadConfiguration(@NotNull File file) {
 
         // Check if the file is a yaml file.
+        // The factory is used so its engines are shared.
         if (file.getName().endsWith(".yaml") || file.getName().endsWith(".yml")) {
-            YamlConfiguration configuration = new YamlConfiguration(file);
+            Configuration configuration = ConfigurationFactory.YAML.create(file);
             configuration.load();
-            this.appendConfiguration(configuration);
-            return this;
+            return configuration;
         }
 
         // Check if the file is a toml file.
         if (file.getName().endsWith(".toml")) {
-            TomlConfiguration configuration = new TomlConfiguration(file);
+            Configuration configuration = ConfigurationFactory.TOML.create(file);
             configuration.load();
-            this.appendConfiguration(configuration);
-            return this;
+            return configuration;
+        }
+
+        // Check if the file is a json file.
+        if (file.getName().endsWith(".json")) {
+            Configuration configuration = ConfigurationFactory.JSON.create(file);
+            configuration.load();
+            return configuration;
         }
 
         // Check if the file is a hidden file.
-        if (file.getName().startsWith(".")) return this;
+        if (file.getName().startsWith(".")) return null;
 
         // Check if the file is a data store.
-        if (file.getName().endsWith(ConfigurationDirectory.DATA_FILE_EXTENSION)) return this;
+        if (file.getName().endsWith(ConfigurationDirectory.DATA_FILE_EXTENSION)) return null;
 
         // Otherwise, the file is not supported.
         throw new ConfigurationDirectoryException(
-                "Configuration file is not supported. The file should end in yaml, yml or toml. {file_name: " + file.getName() + "}"
+                "Configuration file is not supported. The file should end in yaml, yml, toml or json. {file_name: " + file.getName() + "}"
         );
     }
 
@@ -557,9 +588,11 @@ public class ConfigurationDirectory extends MemoryConfigurationSection {
     }
 
     /**
-     * Used to reset the class's internal map and then load
-     * the data from the configuration files located in the
-     * directory into the internal map.
+     * Used to load the data from the configuration files
+     * located in the directory into a new internal map.
+     * <p>
+     * The new map is built before it replaces the current map,
+     * so readers will never see a partly loaded directory.
      * <p>
      * If the directory doesn't exist, it will be created.
      * <p>
@@ -570,30 +603,92 @@ public class ConfigurationDirectory extends MemoryConfigurationSection {
      */
     public @NotNull ConfigurationDirectory reload() {
 
-        // Reset the configuration section data.
-        this.data = new LinkedHashMap<>();
-
         // Attempt to create the directory.
         this.createDirectory();
 
-        // Get the list of files in the directory.
-        final List<File> files = this.getFiles();
-
         // Check if there are no files.
-        if (files.isEmpty()) {
-            this.createResourceFiles();
+        if (this.getFiles().isEmpty()) this.createResourceFiles();
+
+        // Load all the files into a new map.
+        synchronized (this.configurations) {
+            this.configurations.clear();
+            this.merge(true);
+        }
 
-            for (File file : this.getFiles()) {
-                this.appendConfiguration(file);
+        this.listenerList.forEach(listener -> listener.onReload(this));
+        return this;
+    }
+
+    /**
+     * Used to load only some of the files in the directory again.
+     * <p>
+     * Each file is only read if it has changed, see
+     * {@link Configuration#reloadIfChanged()}. Files that have been
+     * created or deleted are added or removed, and the other files
+     * are not read again.
+     * <p>
+     * The listeners are only called if the directory changed.
+     *
+     * @param files The files that may have changed.
+     * @return True if the directory changed.
+     */
+    public boolean reload(@NotNull Collection<File> files) {
+        synchronized (this.configurations) {
+            boolean reloaded = false;
+
+            for (File file : files) {
+                Configuration configuration = this.configurations.get(file.getAbsoluteFile());
+                if (configuration == null || !file.isFile()) continue;
+                if (configuration.reloadIfChanged()) reloaded = true;
             }
 
-            this.listenerList.forEach(listener -> listener.onReload(this));
-            return this;
+            if (!this.merge(reloaded)) return false;
         }
 
-        // Add all the files.
-        files.forEach(this::appendConfiguration);
         this.listenerList.forEach(listener -> listener.onReload(this));
-        return this;
+        return true;
+    }
+
+    /**
+     * Used to combine the loaded configurations into a new
+     * internal map, loading the files that are not loaded yet.
+     * Should be called while holding the configurations lock.
+     *
+     * @param reloaded True if a loaded configuration has changed.
+     * @return True if the data was replaced.
+     */
+    private boolean merge(boolean reloaded) {
+        Map<File, Configuration> configurations = new LinkedHashMap<>();
+        Map<String, Object> data = new LinkedHashMap<>();
+        boolean changed = reloaded;
+
+        // Files later in the directory replace duplicated keys.
+        for (File file : this.getFiles()) {
+            File key = file.getAbsoluteFile();
+            Configuration configuration = this.configurations.get(key);
+
+            if (configuration == null) {
+                configuration = this.loadConfiguration(file);
+                if (configuration == null) continue;
+                changed = true;
+            }
+
+            configurations.put(key, configuration);
+
+            // Copy the sections, so changing the directory
+            // doesn't change the loaded configuration.
+            data.putAll(ConversionUtility.copyMap(configuration.getMap()));
+        }
+
+        // Check if any files were removed.
+        if (!configurations.keySet().containsAll(this.configurations.keySet())) changed = true;
+        if (!changed) return false;
+
+        this.configurations.clear();
+        this.configurations.putAll(configurations);
+
+        // Replace the configuration section data.
+        this.setData(data);
+        return true;
     }
 }
@@ -0,0 +1,131 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Represents a pool of engines used to read and write
+ * a file format, such as {@link org.yaml.snakeyaml.Yaml}.
+ * <p>
+ * Engines are slow to create but can't be used by two
+ * threads at once, so each engine is borrowed by one
+ * thread at a time and then returned to the pool.
+ * A pool is used rather than a thread local, so engines
+ * are still reused when each load runs on a new virtual thread.
+ *
+ * @param <T> The type of engine.
+ */
+public class EnginePool<T> {
+
+    private final @NotNull Supplier<T> factory;
+    private final int capacity;
+    private final @NotNull Queue<T> engines;
+    private final @NotNull AtomicInteger size;
+
+    /**
+     * Represents an action that uses an engine.
+     *
+     * @param <T> The type of engine.
+     * @param <R> The type of result.
+     * @param <E> The type of exception the action can throw.
+     */
+    @FunctionalInterface
+    public interface Action<T, R, E extends Exception> {
+
+        /**
+         * Used to run the action with an engine.
+         *
+         * @param engine The engine to use.
+         * @return The result.
+         * @throws E If the action fails.
+         */
+        R run(@NotNull T engine) throws E;
+    }
+
+    /**
+     * Used to create a pool that keeps up to
+     * two engines for each processor.
+     *
+     * @param factory Used to create new engines.
+     */
+    public EnginePool(@NotNull Supplier<T> factory) {
+        this(factory, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Used to create a pool of engines.
+     *
+     * @param factory  Used to create new engines.
+     * @param capacity The number of unused engines kept.
+     */
+    public EnginePool(@NotNull Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+        this.engines = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Used to get the number of unused engines in the pool.
+     *
+     * @return The number of unused engines.
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    /**
+     * Used to borrow an engine from the pool.
+     * A new engine is created if none are unused.
+     * <p>
+     * The engine should be returned with {@link #release(Object)}.
+     *
+     * @return The engine.
+     */
+    public @NotNull T acquire() {
+        T engine = this.engines.poll();
+        if (engine == null) return this.factory.get();
+
+        this.size.decrementAndGet();
+        return engine;
+    }
+
+    /**
+     * Used to return an engine to the pool.
+     * If the pool is full, the engine is dropped.
+     *
+     * @param engine The engine to return.
+     */
+    public void release(@NotNull T engine) {
+        if (this.size.incrementAndGet() > this.capacity) {
+            this.size.decrementAndGet();
+            return;
+        }
+
+        this.engines.offer(engine);
+    }
+
+    /**
+     * Used to borrow an engine for an action,
+     * and then return it to the pool.
+     * <p>
+     * If the action fails, the engine is dropped,
+     * as it may have been left half way through.
+     *
+     * @param action The action to run.
+     * @param <R>    The type of result.
+     * @param <E>    The type of exception the action can throw.
+     * @return The result of the action.
+     * @throws E If the action fails.
+     */
+    public <R, E extends Exception> R use(@NotNull Action<T, R, E> action) throws E {
+        T engine = this.acquire();
+        R result = action.run(engine);
+        this.release(engine);
+        return result;
+    }
+}
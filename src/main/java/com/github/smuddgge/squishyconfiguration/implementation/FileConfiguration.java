@@ -0,0 +1,710 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryOptions;
+import com.github.smuddgge.squishyconfiguration.memory.SnapshotConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.utility.ExecutorUtility;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Represents a configuration stored in a single file.
+ * <p>
+ * Loading and saving the file is handled here, so each
+ * format only has to read and write its data.
+ * The file is only written if the configuration
+ * has been changed since it was last loaded or saved.
+ * <p>
+ * Files are saved as utf-8 to a temporary file in the same
+ * folder, which is then moved over the file. If the process
+ * stops while saving, the file is either the old or new version.
+ * <p>
+ * Saves requested with {@link #saveAsync()} are written one at
+ * a time. Saves requested while another is waiting are joined
+ * with it, so only the newest data is written.
+ */
+public abstract class FileConfiguration extends MemoryConfigurationSection implements Configuration {
+
+    private @NotNull File file;
+    private @Nullable String resourcePath;
+    private volatile boolean syncOnSave;
+    private volatile boolean partial;
+    private volatile @NotNull DataReader reader = this::read;
+    private volatile @Nullable FileState fileState;
+    private volatile boolean treeCache;
+    private volatile @Nullable File treeCacheFolder;
+    private volatile @NotNull Executor executor;
+    private final @NotNull List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Represents the lock held while the file
+     * is being written or the data replaced.
+     */
+    private final @NotNull Object writeLock = new Object();
+
+    /**
+     * Represents the lock used to queue saves.
+     */
+    private final @NotNull Object saveLock = new Object();
+
+    /**
+     * Represents the save waiting to be written.
+     * Only accessed while holding the save lock.
+     */
+    private @Nullable PendingSave pendingSave;
+
+    /**
+     * Represents if a task is writing the queued saves.
+     * Only accessed while holding the save lock.
+     */
+    private boolean saving;
+
+    /**
+     * The number of characters buffered before
+     * they are written to the file.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Used to create a representation of a configuration file.
+     *
+     * @param file    The instance of the configuration file.
+     * @param options The options used to store the data.
+     */
+    protected FileConfiguration(@NotNull File file, @NotNull MemoryOptions options) {
+        super(new HashMap<>(), options);
+        this.file = file;
+        this.executor = ExecutorUtility.getDefaultExecutor();
+    }
+
+    /**
+     * Used to read the data from the file's content.
+     *
+     * @param inputStream The content of the file.
+     * @return The data, or null if the file is empty.
+     * @throws IOException If the content could not be read.
+     */
+    protected abstract @Nullable Map<?, ?> read(@NotNull InputStream inputStream) throws IOException;
+
+    /**
+     * Used to write the data as the file's content.
+     *
+     * @param data   The data to write.
+     * @param writer The writer of the file.
+     * @throws IOException If the content could not be written.
+     */
+    protected abstract void write(@NotNull Map<String, Object> data, @NotNull Writer writer) throws IOException;
+
+    @Override
+    public @NotNull String getAbsolutePath() {
+        return this.file.getAbsolutePath();
+    }
+
+    @Override
+    public @NotNull File getFile() {
+        return this.file;
+    }
+
+    @Override
+    public @Nullable String getResourcePath() {
+        return this.resourcePath;
+    }
+
+    @Override
+    public @NotNull Configuration setResourcePath(@NotNull String resourcePath) {
+        this.resourcePath = resourcePath;
+        return this;
+    }
+
+    @Override
+    public boolean load() {
+        return this.load(this::read, false);
+    }
+
+    /**
+     * Used to load the configuration file with a reader.
+     *
+     * @param reader  The reader used to read the data.
+     * @param partial True if the reader only reads some of the
+     *                data, so the file must not be saved over.
+     * @return True if successful.
+     */
+    protected boolean load(@NotNull DataReader reader, boolean partial) {
+
+        // Get the instance of the file.
+        this.file = new File(this.getAbsolutePath());
+
+        // Check if the folder doesn't exist and create
+        // the folders needed.
+        if (!this.file.getParentFile().exists()
+                && !this.file.getParentFile().mkdirs()) {
+
+            return false;
+        }
+
+        // Check if the file doesn't exist
+        // and attempt to create it.
+        if (!this.file.exists() && !this.createFile()) return false;
+
+        // Load the file content.
+        try {
+            Path path = this.file.toPath();
+            BasicFileAttributes attributes = FileState.getAttributes(path);
+
+            // Use the cached tree if the file hasn't changed.
+            TreeCache.Entry entry = this.treeCache && !partial ? TreeCache.read(this.getTreeCachePath(), path, attributes) : null;
+            if (entry != null) {
+                this.setLoadedData(entry.tree(), reader, false, FileState.of(attributes, entry.checksum()));
+                return true;
+            }
+
+            try (CheckedInputStream inputStream = new CheckedInputStream(Files.newInputStream(path), new CRC32C())) {
+
+                // Some readers close the stream when they are done.
+                Map<?, ?> map = reader.read(new FilterInputStream(inputStream) {
+                    @Override
+                    public void close() {
+                    }
+                });
+
+                // Read the rest of the file so the checksum is complete.
+                inputStream.transferTo(OutputStream.nullOutputStream());
+
+                FileState state = FileState.of(attributes, inputStream.getChecksum().getValue());
+                this.setLoadedData(map, reader, partial, state);
+                if (!partial && map != null) this.writeTreeCache(map, state);
+                return true;
+            }
+
+        } catch (IOException exception) {
+            exception.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Used to replace the data with data read from the file.
+     *
+     * @param map     The data that was read.
+     * @param reader  The reader used to read the data.
+     * @param partial True if only some of the data was read.
+     * @param state   The state of the file that was read.
+     */
+    private void setLoadedData(@Nullable Map<?, ?> map, @NotNull DataReader reader, boolean partial, @NotNull FileState state) {
+
+        // Make sure the keys can be found with string paths.
+        Map<String, Object> data = map == null ? this.createMap() : this.prepareData(map);
+
+        synchronized (this.writeLock) {
+            this.partial = partial;
+            this.reader = reader;
+            this.fileState = state;
+            this.setData(data);
+            this.markClean(this.getModificationCount());
+        }
+    }
+
+    @Override
+    public boolean reloadIfChanged() {
+        if (!this.readIfChanged()) return false;
+
+        this.listeners.forEach(listener -> listener.onReload(this));
+        return true;
+    }
+
+    /**
+     * Used to read the file again if it has changed.
+     * See {@link #reloadIfChanged()}.
+     *
+     * @return True if the file had changed and was read again.
+     */
+    private boolean readIfChanged() {
+        FileState state = this.fileState;
+        if (state == null) return this.load(this.reader, this.partial);
+
+        try {
+            Path path = this.file.toPath();
+            BasicFileAttributes attributes = FileState.getAttributes(path);
+            if (state.matches(attributes)) return false;
+
+            // The file was touched, so check if the content changed.
+            byte[] content = Files.readAllBytes(path);
+            long checksum = FileState.getChecksum(content);
+
+            if (content.length == state.size() && checksum == state.checksum()) {
+                this.fileState = FileState.of(attributes, checksum);
+                return false;
+            }
+
+            DataReader reader = this.reader;
+            boolean partial = this.partial;
+            Map<?, ?> map = reader.read(new ByteArrayInputStream(content));
+            FileState changed = FileState.of(attributes, checksum);
+
+            this.setLoadedData(map, reader, partial, changed);
+            if (!partial && map != null) this.writeTreeCache(map, changed);
+            return true;
+
+        } catch (NoSuchFileException exception) {
+            return this.load(this.reader, this.partial);
+
+        } catch (IOException exception) {
+            exception.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public @NotNull List<Listener> getListeners() {
+        return this.listeners;
+    }
+
+    @Override
+    public @NotNull Configuration addListener(@NotNull Listener listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    @Override
+    public boolean isTreeCache() {
+        return this.treeCache;
+    }
+
+    @Override
+    public @NotNull Configuration setTreeCache(boolean treeCache) {
+        this.treeCache = treeCache;
+        return this;
+    }
+
+    @Override
+    public @Nullable File getTreeCacheFolder() {
+        return this.treeCacheFolder;
+    }
+
+    @Override
+    public @NotNull Configuration setTreeCacheFolder(@Nullable File folder) {
+        this.treeCacheFolder = folder;
+        return this;
+    }
+
+    /**
+     * Used to get the location of the tree cache.
+     * <p>
+     * Without a cache folder, this is a hidden file next to
+     * the file. In a cache folder, the name also contains a
+     * checksum of the file's path, so files with the same
+     * name in different folders don't share a cache.
+     *
+     * @return The location of the tree cache.
+     */
+    public @NotNull Path getTreeCachePath() {
+        String name = this.file.getName();
+        File folder = this.treeCacheFolder;
+        if (folder == null) return this.file.toPath().toAbsolutePath().resolveSibling("." + name + ".cache");
+
+        byte[] path = this.getAbsolutePath().getBytes(StandardCharsets.UTF_8);
+        return folder.toPath().resolve(name + "." + Long.toHexString(FileState.getChecksum(path)) + ".cache");
+    }
+
+    /**
+     * Used to cache the tree read from the file,
+     * if the tree cache is enabled.
+     *
+     * @param tree  The tree read from the file.
+     * @param state The state of the file it was read from.
+     */
+    private void writeTreeCache(@NotNull Map<?, ?> tree, @NotNull FileState state) {
+        if (!this.treeCache) return;
+        Path path = this.getTreeCachePath();
+
+        try {
+            byte[] content = TreeCache.encode(tree, state);
+
+            if (content == null) {
+                Files.deleteIfExists(path);
+                return;
+            }
+
+            TreeCache.write(path, content);
+
+        } catch (IOException ignored) {
+            // The file is parsed again next time.
+        }
+    }
+
+    /**
+     * Used to remove the tree cache, so the file
+     * is parsed again the next time it is loaded.
+     */
+    private void deleteTreeCache() {
+        try {
+            Files.deleteIfExists(this.getTreeCachePath());
+        } catch (IOException ignored) {
+            // The cache no longer matches the file, so it won't be used.
+        }
+    }
+
+    /**
+     * Used to get the state of the file when
+     * it was last loaded or saved.
+     *
+     * @return The file state, or null if the file
+     *         has not been loaded or saved.
+     */
+    public @Nullable FileState getFileState() {
+        return this.fileState;
+    }
+
+    /**
+     * Used to check if only some of the file's data
+     * was loaded, for example with
+     * {@link YamlConfiguration#load(java.util.Collection)}.
+     * <p>
+     * Partially loaded configurations can't be saved,
+     * as the rest of the file would be lost.
+     *
+     * @return True if partially loaded.
+     */
+    public boolean isPartial() {
+        return this.partial;
+    }
+
+    @Override
+    public boolean isSyncOnSave() {
+        return this.syncOnSave;
+    }
+
+    @Override
+    public @NotNull Configuration setSyncOnSave(boolean syncOnSave) {
+        this.syncOnSave = syncOnSave;
+        return this;
+    }
+
+    @Override
+    public @NotNull Executor getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public @NotNull Configuration setExecutor(@NotNull Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public boolean save() {
+
+        // Check if there is nothing new to write.
+        if (!this.isDirty()) return true;
+
+        // Changes made while writing are kept dirty.
+        return this.save(this.data, this.getModificationCount());
+    }
+
+    /**
+     * Used to save data that was copied from
+     * this configuration at a modification count.
+     * <p>
+     * If newer data has already been loaded or
+     * saved, the file is not written.
+     *
+     * @param data    The data to write.
+     * @param version The modification count of the data.
+     * @return True if successful.
+     */
+    protected boolean save(@NotNull Map<String, Object> data, long version) {
+        synchronized (this.writeLock) {
+            if (this.partial) {
+                Console.warn("Partially loaded configurations can't be saved: " + this.getAbsolutePath());
+                return false;
+            }
+
+            if (version <= this.getCleanModificationCount()) return true;
+
+            try {
+                this.writeAtomically(data);
+
+            } catch (IOException exception) {
+                exception.printStackTrace();
+                return false;
+            }
+
+            this.markClean(version);
+
+            // The values in memory can have different types to the
+            // values parsed from the file, for example a long that
+            // is read back as an integer, so they are not cached.
+            if (this.treeCache) this.deleteTreeCache();
+            return true;
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> loadAsync() {
+        return CompletableFuture.supplyAsync(this::load, this.executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync() {
+        if (!this.isDirty()) return CompletableFuture.completedFuture(true);
+
+        // Copy the data on this thread, so values can
+        // still be set while it is being written.
+        SnapshotConfigurationSection snapshot = (SnapshotConfigurationSection) this.snapshot();
+        PendingSave pending;
+
+        synchronized (this.saveLock) {
+
+            // Join the save that hasn't started yet,
+            // so it writes the newest data once.
+            if (this.pendingSave != null) {
+                if (snapshot.getVersion() > this.pendingSave.snapshot.getVersion()) this.pendingSave.snapshot = snapshot;
+                return this.pendingSave.future;
+            }
+
+            pending = new PendingSave(snapshot);
+            this.pendingSave = pending;
+
+            if (this.saving) return pending.future;
+            this.saving = true;
+        }
+
+        try {
+            this.executor.execute(this::writePendingSaves);
+
+        } catch (RejectedExecutionException exception) {
+            synchronized (this.saveLock) {
+                this.pendingSave = null;
+                this.saving = false;
+            }
+
+            pending.future.completeExceptionally(exception);
+        }
+
+        return pending.future;
+    }
+
+    /**
+     * Used to write the queued saves one at a time
+     * until there are none left.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            PendingSave pending;
+
+            synchronized (this.saveLock) {
+                pending = this.pendingSave;
+                this.pendingSave = null;
+
+                if (pending == null) {
+                    this.saving = false;
+                    return;
+                }
+            }
+
+            try {
+                SnapshotConfigurationSection snapshot = pending.snapshot;
+                pending.future.complete(this.save(snapshot.getMap(), snapshot.getVersion()));
+
+            } catch (RuntimeException exception) {
+                pending.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    /**
+     * Used to write the data to a temporary file next
+     * to the file, and then move it over the file.
+     * <p>
+     * If writing fails, the file is left as it was.
+     *
+     * @param data The data to write.
+     * @throws IOException If the data could not be written.
+     */
+    protected void writeAtomically(@NotNull Map<String, Object> data) throws IOException {
+        Path path = this.file.toPath().toAbsolutePath();
+        Path folder = path.getParent();
+        Files.createDirectories(folder);
+
+        // The temporary file is in the same folder,
+        // so it can be moved without copying.
+        Path temporary = FileConfiguration.createTemporary(path);
+
+        try {
+            CRC32C checksum = new CRC32C();
+
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(
+                         new CheckedOutputStream(Channels.newOutputStream(channel), checksum),
+                         StandardCharsets.UTF_8
+                 ), BUFFER_SIZE)) {
+
+                this.write(data, writer);
+                writer.flush();
+                if (this.syncOnSave) channel.force(true);
+            }
+
+            FileConfiguration.copyPermissions(path, temporary);
+            FileConfiguration.move(temporary, path);
+
+            // The move is only kept after a power loss once the folder is synced.
+            if (this.syncOnSave) FileConfiguration.syncFolder(folder);
+
+            // Remember the file, so it isn't loaded again unless it changes.
+            this.fileState = FileState.of(FileState.getAttributes(path), checksum.getValue());
+
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Used to create an empty temporary file
+     * in the same folder as a file.
+     * <p>
+     * Unlike {@link Files#createTempFile(Path, String, String)},
+     * the file gets the default permissions of new files,
+     * so a new file can be read by the same users as any
+     * other file in the folder.
+     *
+     * @param target The file the temporary file will replace.
+     * @return The path of the temporary file.
+     * @throws IOException If the file could not be created.
+     */
+    static @NotNull Path createTemporary(@NotNull Path target) throws IOException {
+        Path folder = target.toAbsolutePath().getParent();
+
+        while (true) {
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36);
+            Path temporary = folder.resolve("." + target.getFileName() + "." + suffix + ".tmp");
+
+            try {
+                Files.newByteChannel(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+                return temporary;
+            } catch (FileAlreadyExistsException ignored) {
+                // Try again with another name.
+            }
+        }
+    }
+
+    /**
+     * Used to write the entries of a folder to the
+     * storage device, so files moved into it are
+     * not lost if the machine loses power.
+     * <p>
+     * Some platforms can't open folders,
+     * in which case nothing is synced.
+     *
+     * @param folder The folder to sync.
+     */
+    static void syncFolder(@NotNull Path folder) {
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // Folders can't be synced on this platform.
+        }
+    }
+
+    /**
+     * Used to replace a file with another file,
+     * atomically if the file system supports it.
+     *
+     * @param source The file to move.
+     * @param target The file to replace.
+     * @throws IOException If the file could not be moved.
+     */
+    static void move(@NotNull Path source, @NotNull Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Used to give a new file the permissions of the
+     * file it will replace, as the permissions of an
+     * existing file may differ from the defaults.
+     *
+     * @param source The file to copy the permissions from.
+     * @param target The file to give the permissions to.
+     */
+    private static void copyPermissions(@NotNull Path source, @NotNull Path target) {
+        if (!Files.exists(source)) return;
+
+        try {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        } catch (UnsupportedOperationException | IOException ignored) {
+            // Permissions are kept by the file system.
+        }
+    }
+
+    /**
+     * Represents a reader of the file's data.
+     */
+    @FunctionalInterface
+    protected interface DataReader {
+
+        /**
+         * Used to read the data from the file's content.
+         *
+         * @param inputStream The content of the file.
+         * @return The data, or null if the file is empty.
+         * @throws IOException If the content could not be read.
+         */
+        @Nullable Map<?, ?> read(@NotNull InputStream inputStream) throws IOException;
+    }
+
+    /**
+     * Represents a save that is waiting to be written.
+     */
+    private static class PendingSave {
+
+        private final @NotNull CompletableFuture<Boolean> future;
+        private @NotNull SnapshotConfigurationSection snapshot;
+
+        /**
+         * Used to create a pending save.
+         *
+         * @param snapshot The data to write.
+         */
+        private PendingSave(@NotNull SnapshotConfigurationSection snapshot) {
+            this.future = new CompletableFuture<>();
+            this.snapshot = snapshot;
+        }
+    }
+}
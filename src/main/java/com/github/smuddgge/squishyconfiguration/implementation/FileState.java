@@ -0,0 +1,119 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Represents the state of a configuration file
+ * when it was last loaded or saved.
+ * <p>
+ * The size and last modified time can be checked without
+ * reading the file. The checksum is used to check if the
+ * content really changed when they are different.
+ * <p>
+ * If the file was modified shortly before the state was
+ * recorded, it could be modified again without changing
+ * its last modified time. In that case the checksum must
+ * always be compared.
+ *
+ * @param size         The size of the file in bytes.
+ * @param lastModified The time the file was last modified, in nanoseconds.
+ * @param checksum     The {@link CRC32C} checksum of the file's content.
+ * @param recorded     The time the state was recorded, in nanoseconds.
+ */
+public record FileState(long size, long lastModified, long checksum, long recorded) {
+
+    /**
+     * The time a file can be modified within without changing
+     * its last modified time. Some file systems only store
+     * the time to the nearest 2 seconds.
+     */
+    private static final long RESOLUTION = TimeUnit.SECONDS.toNanos(2);
+
+    /**
+     * Used to create the state of a file.
+     *
+     * @param attributes The attributes of the file.
+     * @param checksum   The checksum of the file's content.
+     * @return The state of the file.
+     */
+    public static @NotNull FileState of(@NotNull BasicFileAttributes attributes, long checksum) {
+        return new FileState(
+                attributes.size(),
+                attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+                checksum,
+                TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis())
+        );
+    }
+
+    /**
+     * Used to read the attributes of a file
+     * without reading its content.
+     *
+     * @param path The location of the file.
+     * @return The attributes of the file.
+     * @throws IOException If the file could not be read.
+     */
+    public static @NotNull BasicFileAttributes getAttributes(@NotNull Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+
+    /**
+     * Used to get the checksum of some content.
+     *
+     * @param content The content.
+     * @return The {@link CRC32C} checksum.
+     */
+    public static long getChecksum(byte @NotNull [] content) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content);
+        return checksum.getValue();
+    }
+
+    /**
+     * Used to get the checksum of some content.
+     *
+     * @param content The content, read from its position to its limit.
+     * @return The {@link CRC32C} checksum.
+     */
+    public static long getChecksum(@NotNull ByteBuffer content) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content);
+        return checksum.getValue();
+    }
+
+    /**
+     * Used to check if the file was modified so shortly
+     * before this state was recorded, that it could have
+     * been modified again without changing its last
+     * modified time.
+     *
+     * @return True if the checksum must be compared.
+     */
+    public boolean isRacy() {
+        return this.recorded - this.lastModified < RESOLUTION;
+    }
+
+    /**
+     * Used to check if a file has the same size and
+     * last modified time as this state.
+     * <p>
+     * If this state is racy, the file can't be known
+     * to be unchanged, so this will return false.
+     *
+     * @param attributes The attributes of the file.
+     * @return True if the file is unchanged.
+     */
+    public boolean matches(@NotNull BasicFileAttributes attributes) {
+        return !this.isRacy()
+                && this.size == attributes.size()
+                && this.lastModified == attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+    }
+}
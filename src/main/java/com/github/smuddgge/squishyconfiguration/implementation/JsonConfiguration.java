@@ -0,0 +1,274 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import com.github.smuddgge.squishyconfiguration.memory.MemoryOptions;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a json configuration file.
+ * <p>
+ * The file is read and written with gson's streaming
+ * {@link JsonReader} and {@link JsonWriter}, so values are
+ * put straight into maps and lists without building
+ * a tree of json elements first.
+ * <ul>
+ *     <li>Whole numbers are read as integers, or longs if they don't fit.</li>
+ *     <li>Whole numbers too large for a long are read as doubles,
+ *         so they may lose precision.</li>
+ *     <li>Other numbers are read as doubles.</li>
+ *     <li>Comments are allowed when reading the file.</li>
+ *     <li>Nothing but whitespace and comments can follow the json object.</li>
+ * </ul>
+ */
+public class JsonConfiguration extends FileConfiguration {
+
+    private static final @NotNull String INDENT = "  ";
+
+    /**
+     * Used to create a representation of a configuration file.
+     *
+     * @param file The instance of the configuration file.
+     */
+    public JsonConfiguration(@NotNull File file) {
+        this(file, new MemoryOptions());
+    }
+
+    /**
+     * Used to create a representation of a configuration file
+     * with options.
+     *
+     * @param file    The instance of the configuration file.
+     * @param options The options used to store the data.
+     */
+    public JsonConfiguration(@NotNull File file, @NotNull MemoryOptions options) {
+        super(file, options);
+    }
+
+    /**
+     * Used to create a representation of a configuration file.
+     *
+     * @param folder The instance of the folder location.
+     * @param path   The path within the folder including the extension name.
+     */
+    public JsonConfiguration(@NotNull File folder, @NotNull String path) {
+        this(new File(folder.getAbsolutePath() + File.separator + path));
+    }
+
+    @Override
+    protected @Nullable Map<?, ?> read(@NotNull InputStream inputStream) throws IOException {
+        return JsonConfiguration.parse(inputStream);
+    }
+
+    /**
+     * Used to parse json content without a file.
+     *
+     * @param inputStream The json content.
+     * @return The data, or null if the content is empty.
+     * @throws IOException If the content is not a single json object.
+     */
+    public static @Nullable Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+
+        // Empty content has no data.
+        JsonToken token;
+        try {
+            token = reader.peek();
+        } catch (EOFException exception) {
+            return null;
+        }
+
+        if (token != JsonToken.BEGIN_OBJECT) {
+            throw new IOException("Expected a json object at the start of the content but was " + token + ".");
+        }
+
+        Map<String, Object> map = JsonConfiguration.readObject(reader);
+
+        // The reader is lenient so comments can be read,
+        // which would also allow more values after the object.
+        token = reader.peek();
+        if (token != JsonToken.END_DOCUMENT) {
+            throw new IOException("Expected the end of the content after the json object but was " + token + " at " + reader.getPath() + ".");
+        }
+
+        return map;
+    }
+
+    @Override
+    protected void write(@NotNull Map<String, Object> data, @NotNull Writer writer) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setIndent(INDENT);
+        jsonWriter.setLenient(true);
+        jsonWriter.setSerializeNulls(true);
+
+        JsonConfiguration.writeValue(data, jsonWriter);
+
+        // The writer is closed when the file is complete.
+        jsonWriter.flush();
+    }
+
+    private static @NotNull Map<String, Object> readObject(@NotNull JsonReader reader) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            map.put(key, JsonConfiguration.readValue(reader));
+        }
+        reader.endObject();
+
+        return map;
+    }
+
+    private static @NotNull List<Object> readArray(@NotNull JsonReader reader) throws IOException {
+        List<Object> list = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            list.add(JsonConfiguration.readValue(reader));
+        }
+        reader.endArray();
+
+        return list;
+    }
+
+    private static @Nullable Object readValue(@NotNull JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                return JsonConfiguration.readObject(reader);
+            case BEGIN_ARRAY:
+                return JsonConfiguration.readArray(reader);
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return JsonConfiguration.parseNumber(reader.nextString());
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                throw new IOException("Unexpected json token " + reader.peek() + " at " + reader.getPath());
+        }
+    }
+
+    /**
+     * Used to convert a json number into the
+     * smallest type that can hold it.
+     * <p>
+     * Whole numbers too large for a long are read as
+     * doubles, as big integers can't be got as any type.
+     *
+     * @param number The number as written in the file.
+     * @return The number.
+     */
+    private static @NotNull Number parseNumber(@NotNull String number) {
+        boolean decimal = number.indexOf('.') != -1
+                || number.indexOf('e') != -1
+                || number.indexOf('E') != -1;
+
+        if (decimal) return Double.parseDouble(number);
+
+        try {
+            long value = Long.parseLong(number);
+            if (value == (int) value) return (int) value;
+            return value;
+
+        } catch (NumberFormatException exception) {
+            return Double.parseDouble(number);
+        }
+    }
+
+    private static void writeValue(@Nullable Object value, @NotNull JsonWriter writer) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+
+        if (value instanceof String string) {
+            writer.value(string);
+            return;
+        }
+
+        if (value instanceof Boolean bool) {
+            writer.value(bool);
+            return;
+        }
+
+        if (value instanceof Number number) {
+            writer.value(number);
+            return;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            writer.beginObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writer.name(String.valueOf(entry.getKey()));
+                JsonConfiguration.writeValue(entry.getValue(), writer);
+            }
+            writer.endObject();
+            return;
+        }
+
+        if (value instanceof Iterable<?> iterable) {
+            writer.beginArray();
+            for (Object item : iterable) JsonConfiguration.writeValue(item, writer);
+            writer.endArray();
+            return;
+        }
+
+        if (value instanceof int[] array) {
+            writer.beginArray();
+            for (int item : array) writer.value(item);
+            writer.endArray();
+            return;
+        }
+
+        if (value instanceof long[] array) {
+            writer.beginArray();
+            for (long item : array) writer.value(item);
+            writer.endArray();
+            return;
+        }
+
+        if (value instanceof double[] array) {
+            writer.beginArray();
+            for (double item : array) writer.value(item);
+            writer.endArray();
+            return;
+        }
+
+        if (value instanceof boolean[] array) {
+            writer.beginArray();
+            for (boolean item : array) writer.value(item);
+            writer.endArray();
+            return;
+        }
+
+        if (value instanceof Object[] array) {
+            writer.beginArray();
+            for (Object item : array) JsonConfiguration.writeValue(item, writer);
+            writer.endArray();
+            return;
+        }
+
+        // Other values, such as characters and enums,
+        // are written as strings.
+        writer.value(value.toString());
+    }
+}
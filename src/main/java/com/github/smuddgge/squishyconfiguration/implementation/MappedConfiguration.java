@@ -0,0 +1,347 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.SnapshotConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import com.github.smuddgge.squishyconfiguration.utility.ExecutorUtility;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Represents a read only configuration stored in a binary
+ * file that is mapped into memory rather than read.
+ * <p>
+ * Values are decoded from the mapped file each time they
+ * are read, so large configurations, such as item tables or
+ * translations, don't keep a tree of values on the heap.
+ * Each section has an index of its keys, so a path is found
+ * without reading the rest of the file.
+ * <p>
+ * Files are created from another configuration with
+ * {@link #convert(ConfigurationSection, File)}.
+ * <pre>{@code
+ * MappedConfiguration.convert(yamlConfiguration, new File("items.mapped"));
+ * Configuration items = new MappedConfiguration(new File("items.mapped"));
+ * items.load();
+ * }</pre>
+ * <ul>
+ *     <li>Setting a value will throw an {@link UnsupportedOperationException}.</li>
+ *     <li>Saving does nothing, as the data can't change.</li>
+ *     <li>The file should be replaced rather than changed while it is mapped.</li>
+ * </ul>
+ */
+public class MappedConfiguration extends MemoryConfigurationSection implements Configuration {
+
+    private @NotNull File file;
+    private @Nullable String resourcePath;
+    private volatile @Nullable FileState fileState;
+    private volatile @NotNull Executor executor;
+    private final @NotNull List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Represents the lock held while the data is replaced.
+     */
+    private final @NotNull Object loadLock = new Object();
+
+    /**
+     * Used to create a representation of a mapped configuration file.
+     *
+     * @param file The instance of the configuration file.
+     */
+    public MappedConfiguration(@NotNull File file) {
+        super(new HashMap<>());
+        this.file = file;
+        this.executor = ExecutorUtility.getDefaultExecutor();
+    }
+
+    /**
+     * Used to create a representation of a mapped configuration file.
+     *
+     * @param folder The instance of the folder location.
+     * @param path   The path within the folder including the extension name.
+     */
+    public MappedConfiguration(@NotNull File folder, @NotNull String path) {
+        this(new File(folder.getAbsolutePath() + File.separator + path));
+    }
+
+    /**
+     * Used to write the data of a section to a file,
+     * so it can be loaded as a mapped configuration.
+     * <p>
+     * The file is written to a temporary file first,
+     * so configurations that have the old file mapped
+     * can still read it.
+     * <p>
+     * The section's map is encoded directly instead of
+     * being copied first, so the section should not be
+     * changed by another thread while it is converted.
+     *
+     * @param section The section to convert, for example
+     *                a loaded yaml configuration.
+     * @param file    The file to write.
+     * @return True if successful.
+     */
+    public static boolean convert(@NotNull ConfigurationSection section, @NotNull File file) {
+        try {
+            byte[] content = MappedData.encode(section.getMap());
+
+            Path path = file.toPath().toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            Path temporary = FileConfiguration.createTemporary(path);
+
+            try {
+                Files.write(temporary, content);
+                FileConfiguration.move(temporary, path);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+
+            return true;
+
+        } catch (IOException exception) {
+            exception.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public @NotNull String getAbsolutePath() {
+        return this.file.getAbsolutePath();
+    }
+
+    @Override
+    public @NotNull File getFile() {
+        return this.file;
+    }
+
+    @Override
+    public @Nullable String getResourcePath() {
+        return this.resourcePath;
+    }
+
+    @Override
+    public @NotNull Configuration setResourcePath(@NotNull String resourcePath) {
+        this.resourcePath = resourcePath;
+        return this;
+    }
+
+    @Override
+    public boolean isSyncOnSave() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Configuration setSyncOnSave(boolean syncOnSave) {
+        return this;
+    }
+
+    @Override
+    public boolean isTreeCache() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Configuration setTreeCache(boolean treeCache) {
+        return this;
+    }
+
+    @Override
+    public @Nullable File getTreeCacheFolder() {
+        return null;
+    }
+
+    @Override
+    public @NotNull Configuration setTreeCacheFolder(@Nullable File folder) {
+        return this;
+    }
+
+    @Override
+    public boolean load() {
+
+        // Get the instance of the file.
+        this.file = new File(this.getAbsolutePath());
+
+        // Check if the file doesn't exist and
+        // attempt to copy it from the resources.
+        if (!this.file.exists()) {
+            if (!this.file.getParentFile().exists() && !this.file.getParentFile().mkdirs()) return false;
+            if (!this.createFile()) return false;
+        }
+
+        try {
+            Path path = this.file.toPath();
+            BasicFileAttributes attributes = FileState.getAttributes(path);
+
+            // The content isn't read, so the state has no checksum
+            // unless the last modified time can't be trusted.
+            FileState state = FileState.of(attributes, 0);
+
+            // The mapping stays valid after the channel is closed.
+            Map<String, Object> data;
+            if (attributes.size() == 0) {
+                data = new HashMap<>();
+            } else {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    data = MappedData.getRoot(buffer);
+                    if (state.isRacy()) state = FileState.of(attributes, FileState.getChecksum(buffer.duplicate()));
+                }
+            }
+
+            synchronized (this.loadLock) {
+                this.fileState = state;
+                this.setData(data);
+                this.markClean(this.getModificationCount());
+            }
+            return true;
+
+        } catch (IOException exception) {
+            exception.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean reloadIfChanged() {
+        if (!this.mapIfChanged()) return false;
+
+        this.listeners.forEach(listener -> listener.onReload(this));
+        return true;
+    }
+
+    /**
+     * Used to map the file again if it has changed.
+     * See {@link #reloadIfChanged()}.
+     *
+     * @return True if the file had changed and was mapped again.
+     */
+    private boolean mapIfChanged() {
+        FileState state = this.fileState;
+        if (state == null) return this.load();
+
+        try {
+            Path path = this.file.toPath();
+            BasicFileAttributes attributes = FileState.getAttributes(path);
+            if (state.matches(attributes)) return false;
+
+            // The last modified time can't be trusted, so check if the content changed.
+            if (state.isRacy() && state.size() == attributes.size()) {
+                long checksum = FileState.getChecksum(Files.readAllBytes(path));
+                if (checksum == state.checksum()) {
+                    this.fileState = FileState.of(attributes, checksum);
+                    return false;
+                }
+            }
+
+            return this.load();
+
+        } catch (NoSuchFileException exception) {
+            return this.load();
+
+        } catch (IOException exception) {
+            exception.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public @NotNull List<Listener> getListeners() {
+        return this.listeners;
+    }
+
+    @Override
+    public @NotNull Configuration addListener(@NotNull Listener listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    @Override
+    public boolean save() {
+        return true;
+    }
+
+    @Override
+    public @NotNull Executor getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public @NotNull Configuration setExecutor(@NotNull Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> loadAsync() {
+        return CompletableFuture.supplyAsync(this::load, this.executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync() {
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public void set(Object value) {
+        throw new UnsupportedOperationException("Mapped configurations are read only.");
+    }
+
+    @Override
+    public void set(String path, Object value) {
+        throw new UnsupportedOperationException("Mapped configurations are read only.");
+    }
+
+    @Override
+    public void set(ConfigPath path, Object value) {
+        throw new UnsupportedOperationException("Mapped configurations are read only.");
+    }
+
+    @Override
+    public void setInSection(String path, Object value) {
+        throw new UnsupportedOperationException("Mapped configurations are read only.");
+    }
+
+    @Override
+    public void setInSection(ConfigPath path, Object value) {
+        throw new UnsupportedOperationException("Mapped configurations are read only.");
+    }
+
+    @Override
+    public void batch(@NotNull Consumer<Batch> batch) {
+        throw new UnsupportedOperationException("Mapped configurations are read only.");
+    }
+
+    @Override
+    public long getRetainedSize() {
+
+        // The values are stored outside the heap.
+        return 0;
+    }
+
+    @Override
+    public @NotNull MemoryConfigurationSection snapshot() {
+
+        // The mapped data never changes, so it is shared
+        // rather than copied. Loading again maps a new copy.
+        return new SnapshotConfigurationSection(this.getMap(), this.getModificationCount());
+    }
+}
@@ -0,0 +1,502 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Represents the binary format of a {@link MappedConfiguration}.
+ * <p>
+ * Every value is written once, and sections and lists refer
+ * to their values by their offset in the file. Each section
+ * also has an index of its keys sorted by hash, so a key can be
+ * found without reading the rest of the section. Strings that
+ * appear more than once, such as repeated keys, are only written once.
+ * <p>
+ * Values are decoded from the buffer each time they are read,
+ * so only the values in use are kept on the heap.
+ */
+final class MappedData {
+
+    static final int MAGIC = 0x53434D50;
+    static final int VERSION = 1;
+
+    /**
+     * The size of the header, which contains the
+     * magic number, version and the offset of the root section.
+     */
+    static final int HEADER_SIZE = 12;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte TRUE = 6;
+    private static final byte FALSE = 7;
+    private static final byte SECTION = 8;
+    private static final byte LIST = 9;
+    private static final byte INT_ARRAY = 10;
+    private static final byte LONG_ARRAY = 11;
+    private static final byte DOUBLE_ARRAY = 12;
+    private static final byte BOOLEAN_ARRAY = 13;
+    private static final byte BIG_INTEGER = 14;
+
+    private MappedData() {
+    }
+
+    /**
+     * Used to encode a tree in the mapped format.
+     *
+     * @param tree The tree to encode.
+     * @return The content of the file.
+     * @throws IOException If the tree contains a value
+     *                     that can't be encoded.
+     */
+    static byte @NotNull [] encode(@NotNull Map<?, ?> tree) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.output.writeInt(MAGIC);
+        encoder.output.writeInt(VERSION);
+        encoder.output.writeInt(0);
+
+        int root = encoder.write(tree);
+        byte[] content = encoder.bytes.toByteArray();
+        ByteBuffer.wrap(content).putInt(8, root);
+        return content;
+    }
+
+    /**
+     * Used to get the root section of a buffer
+     * containing the mapped format.
+     *
+     * @param buffer The buffer.
+     * @return The root section.
+     * @throws IOException If the buffer is not in the mapped format.
+     */
+    static @NotNull Map<String, Object> getRoot(@NotNull ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("The file is not a mapped configuration.");
+        }
+
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported mapped configuration version: " + buffer.getInt(4));
+        }
+
+        int root = buffer.getInt(8);
+        if (root < HEADER_SIZE || root >= buffer.limit() || buffer.get(root) != SECTION) {
+            throw new IOException("The mapped configuration has no root section.");
+        }
+
+        return new Section(buffer, root);
+    }
+
+    /**
+     * Used to decode the value at an offset.
+     *
+     * @param buffer The buffer containing the value.
+     * @param offset The offset of the value.
+     * @return The decoded value.
+     */
+    private static @Nullable Object decode(@NotNull ByteBuffer buffer, int offset) {
+        byte type = buffer.get(offset);
+        int start = offset + 1;
+
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return MappedData.decodeString(buffer, start);
+            case INTEGER:
+                return buffer.getInt(start);
+            case LONG:
+                return buffer.getLong(start);
+            case DOUBLE:
+                return buffer.getDouble(start);
+            case FLOAT:
+                return buffer.getFloat(start);
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case SECTION:
+                return new Section(buffer, offset);
+            case LIST:
+                return new MappedList(buffer, offset);
+            case INT_ARRAY: {
+                int[] array = new int[buffer.getInt(start)];
+                for (int index = 0; index < array.length; index++) array[index] = buffer.getInt(start + 4 + index * 4);
+                return array;
+            }
+            case LONG_ARRAY: {
+                long[] array = new long[buffer.getInt(start)];
+                for (int index = 0; index < array.length; index++) array[index] = buffer.getLong(start + 4 + index * 8);
+                return array;
+            }
+            case DOUBLE_ARRAY: {
+                double[] array = new double[buffer.getInt(start)];
+                for (int index = 0; index < array.length; index++) array[index] = buffer.getDouble(start + 4 + index * 8);
+                return array;
+            }
+            case BOOLEAN_ARRAY: {
+                boolean[] array = new boolean[buffer.getInt(start)];
+                for (int index = 0; index < array.length; index++) array[index] = buffer.get(start + 4 + index) != 0;
+                return array;
+            }
+            case BIG_INTEGER:
+                return new BigInteger(MappedData.decodeString(buffer, start));
+            default:
+                throw new IllegalStateException("Unknown value type in mapped configuration: " + type);
+        }
+    }
+
+    /**
+     * Used to decode a string, without its type.
+     *
+     * @param buffer The buffer containing the string.
+     * @param offset The offset of the string's length.
+     * @return The decoded string.
+     */
+    private static @NotNull String decodeString(@NotNull ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Represents a section in the buffer.
+     * <p>
+     * A section is written as its number of entries, then the
+     * offsets of its keys and values in order, then the hashes
+     * of its keys in ascending order, with the index of the
+     * entry each hash belongs to.
+     */
+    private static final class Section extends AbstractMap<String, Object> {
+
+        private final @NotNull ByteBuffer buffer;
+        private final int size;
+        private final int keys;
+        private final int values;
+        private final int hashes;
+        private final int indexes;
+
+        private Section(@NotNull ByteBuffer buffer, int offset) {
+            this.buffer = buffer;
+            this.size = buffer.getInt(offset + 1);
+            this.keys = offset + 5;
+            this.values = this.keys + this.size * 4;
+            this.hashes = this.values + this.size * 4;
+            this.indexes = this.hashes + this.size * 4;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.indexOf(key) != -1;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int index = this.indexOf(key);
+            if (index == -1) return null;
+            return MappedData.decode(this.buffer, this.buffer.getInt(this.values + index * 4));
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            throw new UnsupportedOperationException("Mapped configurations are read only.");
+        }
+
+        @Override
+        public @NotNull Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.index < Section.this.size;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!this.hasNext()) throw new NoSuchElementException();
+                            return new MappedEntry(Section.this, this.index++);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return Section.this.size;
+                }
+            };
+        }
+
+        private @NotNull String getKey(int index) {
+            return MappedData.decodeString(this.buffer, this.buffer.getInt(this.keys + index * 4) + 1);
+        }
+
+        private @Nullable Object getValue(int index) {
+            return MappedData.decode(this.buffer, this.buffer.getInt(this.values + index * 4));
+        }
+
+        /**
+         * Used to find the index of the entry with a key.
+         *
+         * @param key The key to find.
+         * @return The index of the entry, or -1 if
+         *         the section doesn't contain the key.
+         */
+        private int indexOf(@Nullable Object key) {
+            if (!(key instanceof String string)) return -1;
+            int hash = string.hashCode();
+
+            // Find the first entry with the hash.
+            int low = 0;
+            int high = this.size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (this.buffer.getInt(this.hashes + middle * 4) < hash) low = middle + 1;
+                else high = middle;
+            }
+
+            // Check each key with the same hash.
+            for (int position = low; position < this.size; position++) {
+                if (this.buffer.getInt(this.hashes + position * 4) != hash) return -1;
+
+                int index = this.buffer.getInt(this.indexes + position * 4);
+                if (this.getKey(index).equals(string)) return index;
+            }
+
+            return -1;
+        }
+    }
+
+    /**
+     * Represents an entry of a section,
+     * which is only decoded when it is read.
+     */
+    private static final class MappedEntry implements Map.Entry<String, Object> {
+
+        private final @NotNull Section section;
+        private final int index;
+
+        private MappedEntry(@NotNull Section section, int index) {
+            this.section = section;
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return this.section.getKey(this.index);
+        }
+
+        @Override
+        public Object getValue() {
+            return this.section.getValue(this.index);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException("Mapped configurations are read only.");
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Map.Entry<?, ?> entry)) return false;
+            return this.getKey().equals(entry.getKey()) && Objects.equals(this.getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = this.getValue();
+            return this.getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+
+    /**
+     * Represents a list in the buffer, written as
+     * its size and then the offsets of its values.
+     */
+    private static final class MappedList extends AbstractList<Object> implements RandomAccess {
+
+        private final @NotNull ByteBuffer buffer;
+        private final int size;
+        private final int values;
+
+        private MappedList(@NotNull ByteBuffer buffer, int offset) {
+            this.buffer = buffer;
+            this.size = buffer.getInt(offset + 1);
+            this.values = offset + 5;
+        }
+
+        @Override
+        public Object get(int index) {
+            if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException(index);
+            return MappedData.decode(this.buffer, this.buffer.getInt(this.values + index * 4));
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+
+    /**
+     * Represents the state of a tree being encoded.
+     */
+    private static final class Encoder {
+
+        private final @NotNull ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        private final @NotNull DataOutputStream output = new DataOutputStream(this.bytes);
+
+        /**
+         * Represents the offsets of the strings already written.
+         */
+        private final @NotNull Map<String, Integer> strings = new HashMap<>();
+
+        /**
+         * Used to write a value, after the values it contains.
+         *
+         * @param value The value to write.
+         * @return The offset of the value.
+         * @throws IOException If the value can't be encoded.
+         */
+        private int write(@Nullable Object value) throws IOException {
+            if (value instanceof String string) return this.writeString(string);
+            if (value instanceof Map<?, ?> map) return this.writeSection(map);
+            if (value instanceof List<?> list) return this.writeList(list);
+
+            int offset = this.output.size();
+
+            if (value == null) {
+                this.output.writeByte(NULL);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                this.output.writeByte(INTEGER);
+                this.output.writeInt(((Number) value).intValue());
+            } else if (value instanceof Long number) {
+                this.output.writeByte(LONG);
+                this.output.writeLong(number);
+            } else if (value instanceof Double number) {
+                this.output.writeByte(DOUBLE);
+                this.output.writeDouble(number);
+            } else if (value instanceof Float number) {
+                this.output.writeByte(FLOAT);
+                this.output.writeFloat(number);
+            } else if (value instanceof Boolean bool) {
+                this.output.writeByte(bool ? TRUE : FALSE);
+            } else if (value instanceof BigInteger number) {
+                this.output.writeByte(BIG_INTEGER);
+                this.writeStringContent(number.toString());
+            } else if (value instanceof int[] array) {
+                this.output.writeByte(INT_ARRAY);
+                this.output.writeInt(array.length);
+                for (int item : array) this.output.writeInt(item);
+            } else if (value instanceof long[] array) {
+                this.output.writeByte(LONG_ARRAY);
+                this.output.writeInt(array.length);
+                for (long item : array) this.output.writeLong(item);
+            } else if (value instanceof double[] array) {
+                this.output.writeByte(DOUBLE_ARRAY);
+                this.output.writeInt(array.length);
+                for (double item : array) this.output.writeDouble(item);
+            } else if (value instanceof boolean[] array) {
+                this.output.writeByte(BOOLEAN_ARRAY);
+                this.output.writeInt(array.length);
+                for (boolean item : array) this.output.writeBoolean(item);
+            } else {
+                throw new IOException("Values of type " + value.getClass().getName() + " can't be mapped.");
+            }
+
+            return offset;
+        }
+
+        private int writeString(@NotNull String string) throws IOException {
+            Integer existing = this.strings.get(string);
+            if (existing != null) return existing;
+
+            int offset = this.output.size();
+            this.output.writeByte(STRING);
+            this.writeStringContent(string);
+            this.strings.put(string, offset);
+            return offset;
+        }
+
+        private void writeStringContent(@NotNull String string) throws IOException {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            this.output.writeInt(bytes.length);
+            this.output.write(bytes);
+        }
+
+        private int writeSection(@NotNull Map<?, ?> map) throws IOException {
+
+            // Copy the entries first, in case the map is changed.
+            Map.Entry<?, ?>[] entries = map.entrySet().toArray(new Map.Entry<?, ?>[0]);
+            int size = entries.length;
+            int[] keys = new int[size];
+            int[] values = new int[size];
+            long[] hashes = new long[size];
+
+            for (int index = 0; index < size; index++) {
+                String key = String.valueOf(entries[index].getKey());
+                keys[index] = this.writeString(key);
+                values[index] = this.write(entries[index].getValue());
+
+                // Sort by hash, keeping the index in the low bits.
+                hashes[index] = ((long) key.hashCode() << 32) | index;
+            }
+            Arrays.sort(hashes);
+
+            int offset = this.output.size();
+            this.output.writeByte(SECTION);
+            this.output.writeInt(size);
+            for (int key : keys) this.output.writeInt(key);
+            for (int value : values) this.output.writeInt(value);
+            for (long hash : hashes) this.output.writeInt((int) (hash >> 32));
+            for (long hash : hashes) this.output.writeInt((int) hash);
+            return offset;
+        }
+
+        private int writeList(@NotNull List<?> list) throws IOException {
+            Object[] items = list.toArray();
+            int[] values = new int[items.length];
+            for (int index = 0; index < items.length; index++) values[index] = this.write(items[index]);
+
+            int offset = this.output.size();
+            this.output.writeByte(LIST);
+            this.output.writeInt(values.length);
+            for (int value : values) this.output.writeInt(value);
+            return offset;
+        }
+    }
+}
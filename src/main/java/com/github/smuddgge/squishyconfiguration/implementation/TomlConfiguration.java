@@ -1,7 +1,6 @@
 package com.github.smuddgge.squishyconfiguration.implementation;
 
-import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
-import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryOptions;
 import com.moandjiezana.toml.Toml;
 import com.moandjiezana.toml.TomlWriter;
 import org.jetbrains.annotations.NotNull;
@@ -9,15 +8,27 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 /**
  * Represents a toml configuration file.
+ * <p>
+ * By default, files are read and written with the built in
+ * toml 1.0 parser and writer, which put values straight into
+ * the tree. toml4j can still be used by turning this off,
+ * see {@link #setNative(boolean)}.
  */
-public class TomlConfiguration extends MemoryConfigurationSection implements Configuration {
+public class TomlConfiguration extends FileConfiguration {
 
-    private final File file;
-    private @Nullable String resourcePath;
+    private static volatile @NotNull EnginePool<TomlWriter> defaultEngines = new EnginePool<>(TomlWriter::new);
+    private static volatile boolean defaultNative = true;
+
+    private volatile @NotNull EnginePool<TomlWriter> engines;
+    private volatile boolean nativeToml;
 
     /**
      * Used to create a representation of a configuration file.
@@ -25,8 +36,20 @@ public class TomlConfiguration extends MemoryConfigurationSection implements Con
      * @param file Instance of the configuration file.
      */
     public TomlConfiguration(File file) {
-        super(new HashMap<>());
-        this.file = file;
+        this(file, new MemoryOptions());
+    }
+
+    /**
+     * Used to create a representation of a configuration file
+     * with options.
+     *
+     * @param file    The instance of the configuration file.
+     * @param options The options used to store the data.
+     */
+    public TomlConfiguration(@NotNull File file, @NotNull MemoryOptions options) {
+        super(file, options);
+        this.engines = TomlConfiguration.defaultEngines;
+        this.nativeToml = TomlConfiguration.defaultNative;
     }
 
     /**
@@ -36,64 +59,136 @@ public class TomlConfiguration extends MemoryConfigurationSection implements Con
      * @param path   The path within the folder including the extension name.
      */
     public TomlConfiguration(File folder, String path) {
-        super(new HashMap<>());
-        this.file = new File(folder.getAbsolutePath() + File.separator + path);
+        this(new File(folder.getAbsolutePath() + File.separator + path));
     }
 
     @Override
-    public @NotNull String getAbsolutePath() {
-        return this.file.getAbsolutePath();
+    protected @Nullable Map<?, ?> read(@NotNull InputStream inputStream) throws IOException {
+        return TomlConfiguration.parse(inputStream, this.nativeToml);
     }
 
-    @Override
-    public @NotNull File getFile() {
-        return this.file;
+    /**
+     * Used to parse toml content without a file.
+     * The parser used depends on {@link #isDefaultNative()}.
+     *
+     * @param inputStream The toml content.
+     * @return The data.
+     * @throws IOException If the content is not valid toml.
+     */
+    public static @NotNull Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException {
+        return TomlConfiguration.parse(inputStream, TomlConfiguration.defaultNative);
     }
 
-    @Override
-    public @Nullable String getResourcePath() {
-        return this.resourcePath;
+    private static @NotNull Map<?, ?> parse(@NotNull InputStream inputStream, boolean nativeToml) throws IOException {
+        if (nativeToml) {
+
+            // Invalid characters are reported rather than replaced.
+            return TomlParser.parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8.newDecoder()));
+        }
+
+        // A toml engine keeps the values it last read,
+        // so a new one is used for each file.
+        Toml toml = new Toml().read(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return toml.toMap();
     }
 
     @Override
-    public @NotNull Configuration setResourcePath(@NotNull String resourcePath) {
-        this.resourcePath = resourcePath;
+    protected void write(@NotNull Map<String, Object> data, @NotNull Writer writer) throws IOException {
+        if (this.nativeToml) {
+            TomlEmitter.write(data, writer);
+            return;
+        }
+
+        this.engines.use(tomlWriter -> {
+            tomlWriter.write(data, writer);
+            return null;
+        });
+    }
+
+    /**
+     * Used to check if this file is read and written
+     * with the built in toml parser and writer.
+     *
+     * @return True if the built in parser is used,
+     *         false if toml4j is used.
+     */
+    public boolean isNative() {
+        return this.nativeToml;
+    }
+
+    /**
+     * Used to set if this file is read and written
+     * with the built in toml parser and writer.
+     *
+     * @param nativeToml False to use toml4j instead.
+     * @return This instance.
+     */
+    public @NotNull TomlConfiguration setNative(boolean nativeToml) {
+        this.nativeToml = nativeToml;
         return this;
     }
 
-    @Override
-    public boolean load() {
+    /**
+     * Used to get the pool of toml writers
+     * used to write this file when toml4j is used.
+     *
+     * @return The pool of writers.
+     */
+    public @NotNull EnginePool<TomlWriter> getEngines() {
+        return this.engines;
+    }
 
-        // Check if the folder doesn't exist.
-        if (!this.file.getParentFile().exists()
-                && !this.file.getParentFile().mkdirs()) {
+    /**
+     * Used to set the pool of toml writers
+     * used to write this file when toml4j is used.
+     *
+     * @param engines The pool of writers.
+     * @return This instance.
+     */
+    public @NotNull TomlConfiguration setEngines(@NotNull EnginePool<TomlWriter> engines) {
+        this.engines = engines;
+        return this;
+    }
 
-            return false;
-        }
+    /**
+     * Used to get the pool of toml writers
+     * shared by new toml configurations.
+     *
+     * @return The default pool of writers.
+     */
+    public static @NotNull EnginePool<TomlWriter> getDefaultEngines() {
+        return TomlConfiguration.defaultEngines;
+    }
 
-        // Check if the file doesn't exist
-        // and attempt to create it.
-        if (!this.file.exists() && !this.createFile()) return false;
+    /**
+     * Used to set the pool of toml writers
+     * shared by new toml configurations.
+     * See {@link com.github.smuddgge.squishyconfiguration.ConfigurationFactory#setTomlEngine(java.util.function.Supplier)}.
+     *
+     * @param engines The pool of writers.
+     */
+    public static void setDefaultEngines(@NotNull EnginePool<TomlWriter> engines) {
+        TomlConfiguration.defaultEngines = engines;
+    }
 
-        // Load the file content.
-        Toml toml = new Toml().read(this.file);
-        this.data = toml.toMap();
-        return true;
+    /**
+     * Used to check if new toml configurations use the
+     * built in toml parser and writer.
+     *
+     * @return True if the built in parser is used by default.
+     */
+    public static boolean isDefaultNative() {
+        return TomlConfiguration.defaultNative;
     }
 
-    @Override
-    @SuppressWarnings("all")
-    public boolean save() {
-        try {
-
-            // Write to the file.
-            TomlWriter tomlWriter = new TomlWriter();
-            tomlWriter.write(this.data, this.file);
-            return true;
-
-        } catch (IOException exception) {
-            exception.printStackTrace();
-            return false;
-        }
+    /**
+     * Used to set if new toml configurations use the
+     * built in toml parser and writer.
+     * See {@link com.github.smuddgge.squishyconfiguration.ConfigurationFactory#setNativeToml(boolean)}.
+     *
+     * @param defaultNative False to use toml4j by default.
+     */
+    public static void setDefaultNative(boolean defaultNative) {
+        TomlConfiguration.defaultNative = defaultNative;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,310 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a toml 1.0 writer.
+ * <p>
+ * Values are written before the tables of each table, as
+ * keys after a header belong to that header's table.
+ * <ul>
+ *     <li>Maps are written as tables, or inline tables within arrays.</li>
+ *     <li>Lists that only contain maps are written as arrays of tables.</li>
+ *     <li>Null values are skipped, as toml has no null.</li>
+ *     <li>Dates and java time values are written as toml date times,
+ *     keeping the offset of offset date times.</li>
+ *     <li>Other values, such as characters and enums, are written as strings.</li>
+ * </ul>
+ */
+final class TomlEmitter {
+
+    private final @NotNull Writer writer;
+    private boolean empty = true;
+
+    private TomlEmitter(@NotNull Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Used to write a table as toml.
+     *
+     * @param data   The root table.
+     * @param writer The writer to write to.
+     * @throws IOException If a value can't be written.
+     */
+    static void write(@NotNull Map<?, ?> data, @NotNull Writer writer) throws IOException {
+        new TomlEmitter(writer).writeTable(data, null, false);
+    }
+
+    /**
+     * Used to write the values of a table,
+     * followed by its sub tables.
+     *
+     * @param table  The table to write.
+     * @param path   The formatted path of the table, or null for the root table.
+     * @param header True if the header has already been written.
+     */
+    private void writeTable(@NotNull Map<?, ?> table, @Nullable String path, boolean header) throws IOException {
+        boolean values = false;
+        boolean tables = false;
+
+        for (Object value : table.values()) {
+            if (value == null) continue;
+            if (TomlEmitter.isTable(value) || TomlEmitter.isTableArray(value)) {
+                tables = true;
+            } else {
+                values = true;
+            }
+        }
+
+        // The header of a table that only contains tables
+        // is left out, as the tables create it.
+        if (!header && path != null && (values || !tables)) this.writeHeader("[" + path + "]");
+
+        for (Map.Entry<?, ?> entry : table.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null || TomlEmitter.isTable(value) || TomlEmitter.isTableArray(value)) continue;
+
+            this.writer.write(TomlEmitter.formatKey(entry.getKey()));
+            this.writer.write(" = ");
+            this.writeValue(value);
+            this.writer.write('\n');
+            this.empty = false;
+        }
+
+        for (Map.Entry<?, ?> entry : table.entrySet()) {
+            Object value = entry.getValue();
+            String key = TomlEmitter.formatKey(entry.getKey());
+            String childPath = path == null ? key : path + "." + key;
+
+            if (TomlEmitter.isTable(value)) {
+                this.writeTable((Map<?, ?>) value, childPath, false);
+                continue;
+            }
+
+            if (TomlEmitter.isTableArray(value)) {
+                for (Object item : (List<?>) value) {
+                    this.writeHeader("[[" + childPath + "]]");
+                    this.writeTable((Map<?, ?>) item, childPath, true);
+                }
+            }
+        }
+    }
+
+    private void writeHeader(@NotNull String header) throws IOException {
+        if (!this.empty) this.writer.write('\n');
+        this.writer.write(header);
+        this.writer.write('\n');
+        this.empty = false;
+    }
+
+    private void writeValue(@NotNull Object value) throws IOException {
+        if (value instanceof String string) {
+            TomlEmitter.writeString(string, this.writer);
+            return;
+        }
+
+        if (value instanceof Boolean bool) {
+            this.writer.write(bool ? "true" : "false");
+            return;
+        }
+
+        if (value instanceof Number number) {
+            this.writeNumber(number);
+            return;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            this.writeInlineTable(map);
+            return;
+        }
+
+        if (value instanceof Iterable<?> iterable) {
+            this.writer.write('[');
+            boolean first = true;
+
+            for (Object item : iterable) {
+                if (item == null) continue;
+                if (!first) this.writer.write(", ");
+                this.writeValue(item);
+                first = false;
+            }
+
+            this.writer.write(']');
+            return;
+        }
+
+        if (value instanceof Object[] array) {
+            this.writeValue(Arrays.asList(array));
+            return;
+        }
+
+        if (value.getClass().isArray()) {
+            this.writePrimitiveArray(value);
+            return;
+        }
+
+        String dateTime = TomlEmitter.formatDateTime(value);
+        if (dateTime != null) {
+            this.writer.write(dateTime);
+            return;
+        }
+
+        TomlEmitter.writeString(value.toString(), this.writer);
+    }
+
+    private void writeInlineTable(@NotNull Map<?, ?> map) throws IOException {
+        this.writer.write('{');
+        boolean first = true;
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() == null) continue;
+
+            this.writer.write(first ? " " : ", ");
+            this.writer.write(TomlEmitter.formatKey(entry.getKey()));
+            this.writer.write(" = ");
+            this.writeValue(entry.getValue());
+            first = false;
+        }
+
+        this.writer.write(first ? "}" : " }");
+    }
+
+    private void writePrimitiveArray(@NotNull Object array) throws IOException {
+        this.writer.write('[');
+        int length = Array.getLength(array);
+
+        for (int index = 0; index < length; index++) {
+            if (index > 0) this.writer.write(", ");
+            this.writeValue(Array.get(array, index));
+        }
+
+        this.writer.write(']');
+    }
+
+    private void writeNumber(@NotNull Number number) throws IOException {
+        if (number instanceof Double || number instanceof Float || number instanceof BigDecimal) {
+            double value = number.doubleValue();
+
+            if (Double.isNaN(value)) {
+                this.writer.write("nan");
+            } else if (Double.isInfinite(value)) {
+                this.writer.write(value > 0 ? "inf" : "-inf");
+            } else {
+
+                // Floats are written as floats so they aren't widened.
+                this.writer.write(number instanceof Float ? number.toString() : Double.toString(value));
+            }
+            return;
+        }
+
+        if (number instanceof BigInteger integer && integer.bitLength() > 63) {
+            throw new IOException("The integer " + integer + " is too large to be written as toml.");
+        }
+
+        this.writer.write(Long.toString(number.longValue()));
+    }
+
+    /**
+     * Used to format a date or time as toml.
+     *
+     * @param value The value to format.
+     * @return The formatted value, or null if it is not a date or time.
+     */
+    private static @Nullable String formatDateTime(@NotNull Object value) {
+        if (value instanceof Date date) return DateTimeFormatter.ISO_INSTANT.format(date.toInstant());
+        if (value instanceof Instant instant) return DateTimeFormatter.ISO_INSTANT.format(instant);
+        if (value instanceof OffsetDateTime dateTime) return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+        if (value instanceof ZonedDateTime dateTime) return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+        if (value instanceof LocalDateTime dateTime) return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        if (value instanceof LocalDate date) return DateTimeFormatter.ISO_LOCAL_DATE.format(date);
+        if (value instanceof LocalTime time) return DateTimeFormatter.ISO_LOCAL_TIME.format(time);
+        return null;
+    }
+
+    private static @NotNull String formatKey(@Nullable Object key) throws IOException {
+        String string = String.valueOf(key);
+        boolean bare = !string.isEmpty();
+
+        for (int index = 0; index < string.length() && bare; index++) {
+            char character = string.charAt(index);
+            bare = (character >= 'a' && character <= 'z')
+                    || (character >= 'A' && character <= 'Z')
+                    || (character >= '0' && character <= '9')
+                    || character == '_' || character == '-';
+        }
+
+        if (bare) return string;
+
+        StringBuilder builder = new StringBuilder(string.length() + 2);
+        TomlEmitter.writeString(string, builder);
+        return builder.toString();
+    }
+
+    private static void writeString(@NotNull String string, @NotNull Appendable appendable) throws IOException {
+        appendable.append('"');
+        int start = 0;
+
+        for (int index = 0; index < string.length(); index++) {
+            char character = string.charAt(index);
+            String escape = switch (character) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\b' -> "\\b";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\f' -> "\\f";
+                case '\r' -> "\\r";
+                default -> character < 0x20 || character == 0x7F
+                        ? String.format("\\u%04X", (int) character)
+                        : null;
+            };
+
+            if (escape == null) continue;
+
+            appendable.append(string, start, index).append(escape);
+            start = index + 1;
+        }
+
+        appendable.append(string, start, string.length()).append('"');
+    }
+
+    private static boolean isTable(@Nullable Object value) {
+        return value instanceof Map<?, ?>;
+    }
+
+    /**
+     * Used to check if a value should be
+     * written as an array of tables.
+     *
+     * @param value The value to check.
+     * @return True if it is a list that only contains maps.
+     */
+    private static boolean isTableArray(@Nullable Object value) {
+        if (!(value instanceof List<?> list) || list.isEmpty()) return false;
+
+        for (Object item : list) {
+            if (!(item instanceof Map<?, ?>)) return false;
+        }
+
+        return true;
+    }
+}
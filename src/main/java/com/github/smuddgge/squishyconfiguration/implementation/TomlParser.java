@@ -0,0 +1,937 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a toml 1.0 parser.
+ * <p>
+ * The content is read in a single pass, and values are
+ * put straight into the maps and lists of the tree
+ * without building a document first.
+ * <ul>
+ *     <li>Integers are read as longs.</li>
+ *     <li>Floats are read as doubles.</li>
+ *     <li>Offset date times are read as {@link OffsetDateTime}, so the offset is kept.</li>
+ *     <li>Local date times, dates and times are read as {@link LocalDateTime},
+ *     {@link LocalDate} and {@link LocalTime}.</li>
+ * </ul>
+ */
+final class TomlParser {
+
+    /**
+     * Represents how a table was defined, which
+     * decides if it can be defined again.
+     */
+    private enum TableState {
+
+        /**
+         * Created by a header of one of its sub tables.
+         * It may still be defined by its own header.
+         */
+        IMPLICIT,
+
+        /**
+         * Defined by its own header.
+         */
+        EXPLICIT,
+
+        /**
+         * Created by a dotted key. Sub tables may
+         * still be defined by headers.
+         */
+        DOTTED,
+
+        /**
+         * Defined by an inline table, so it can't be changed.
+         */
+        INLINE
+    }
+
+    private final char @NotNull [] content;
+    private final int length;
+    private int position;
+
+    private final @NotNull Map<String, Object> root = new LinkedHashMap<>();
+    private final @NotNull Map<Map<String, Object>, TableState> tables = new IdentityHashMap<>();
+    private final @NotNull Set<List<Object>> tableArrays = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private TomlParser(char @NotNull [] content, int length) {
+        this.content = content;
+        this.length = length;
+    }
+
+    /**
+     * Used to parse toml content.
+     *
+     * @param reader The reader of the content.
+     * @return The root table.
+     * @throws IOException If the content can't be read or is not valid toml.
+     */
+    static @NotNull Map<String, Object> parse(@NotNull Reader reader) throws IOException {
+        char[] buffer = new char[8192];
+        int length = 0;
+        int read;
+
+        while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        return new TomlParser(buffer, length).parseDocument();
+    }
+
+    private @NotNull Map<String, Object> parseDocument() throws IOException {
+        if (this.length > 0 && this.content[0] == '\uFEFF') this.position = 1;
+
+        this.tables.put(this.root, TableState.EXPLICIT);
+        Map<String, Object> table = this.root;
+
+        while (true) {
+            this.skipWhitespace();
+            if (this.position >= this.length) return this.root;
+
+            char character = this.content[this.position];
+            if (character == '[') {
+                table = this.parseHeader();
+            } else if (character != '#' && character != '\n' && character != '\r') {
+                this.parseKeyValue(table);
+            }
+
+            this.expectLineEnd();
+        }
+    }
+
+    /**
+     * Used to parse a table or array of tables header.
+     *
+     * @return The table that the following keys are put in.
+     */
+    private @NotNull Map<String, Object> parseHeader() throws IOException {
+        this.position++;
+        boolean array = this.position < this.length && this.content[this.position] == '[';
+        if (array) this.position++;
+
+        this.skipWhitespace();
+        List<String> keys = this.parseKey();
+        this.expect(']');
+
+        // The closing brackets of an array header can't be separated.
+        if (array) {
+            if (this.position >= this.length || this.content[this.position] != ']') throw this.error("Expected ]]");
+            this.position++;
+        }
+
+        // Find the parent of the table.
+        Map<String, Object> parent = this.root;
+        for (int index = 0; index < keys.size() - 1; index++) {
+            parent = this.getHeaderTable(parent, keys.get(index));
+        }
+
+        String key = keys.get(keys.size() - 1);
+        Object existing = parent.get(key);
+
+        if (array) {
+            List<Object> list;
+            if (existing == null) {
+                list = new ArrayList<>();
+                this.tableArrays.add(list);
+                parent.put(key, list);
+            } else if (existing instanceof List<?> && this.tableArrays.contains(existing)) {
+                list = TomlParser.asList(existing);
+            } else {
+                throw this.error("Cannot define " + String.join(".", keys) + " as an array of tables");
+            }
+
+            Map<String, Object> table = this.createTable(TableState.EXPLICIT);
+            list.add(table);
+            return table;
+        }
+
+        if (existing == null) {
+            Map<String, Object> table = this.createTable(TableState.EXPLICIT);
+            parent.put(key, table);
+            return table;
+        }
+
+        if (existing instanceof Map<?, ?> && this.tables.get(existing) == TableState.IMPLICIT) {
+            Map<String, Object> table = TomlParser.asTable(existing);
+            this.tables.put(table, TableState.EXPLICIT);
+            return table;
+        }
+
+        throw this.error("Table " + String.join(".", keys) + " is already defined");
+    }
+
+    /**
+     * Used to get a table named in a header
+     * that is the parent of the header's table.
+     *
+     * @param parent The table containing the key.
+     * @param key    The key of the table.
+     * @return The table.
+     */
+    private @NotNull Map<String, Object> getHeaderTable(@NotNull Map<String, Object> parent, @NotNull String key) throws IOException {
+        Object existing = parent.get(key);
+
+        if (existing == null) {
+            Map<String, Object> table = this.createTable(TableState.IMPLICIT);
+            parent.put(key, table);
+            return table;
+        }
+
+        if (existing instanceof Map<?, ?> && this.tables.get(existing) != TableState.INLINE) {
+            return TomlParser.asTable(existing);
+        }
+
+        // Headers within an array of tables
+        // refer to the last table in the array.
+        if (existing instanceof List<?> list && this.tableArrays.contains(existing)) {
+            return TomlParser.asTable(list.get(list.size() - 1));
+        }
+
+        throw this.error("Key " + key + " is already defined as a value");
+    }
+
+    /**
+     * Used to parse a key value pair and put it in a table.
+     *
+     * @param table The table the key is relative to.
+     */
+    private void parseKeyValue(@NotNull Map<String, Object> table) throws IOException {
+        List<String> keys = this.parseKey();
+        this.expect('=');
+        this.skipWhitespace();
+        Object value = this.parseValue();
+
+        // Dotted keys create tables.
+        Map<String, Object> parent = table;
+        for (int index = 0; index < keys.size() - 1; index++) {
+            String key = keys.get(index);
+            Object existing = parent.get(key);
+
+            if (existing == null) {
+                Map<String, Object> child = this.createTable(TableState.DOTTED);
+                parent.put(key, child);
+                parent = child;
+                continue;
+            }
+
+            TableState state = existing instanceof Map<?, ?> ? this.tables.get(existing) : null;
+            if (state != TableState.DOTTED && state != TableState.IMPLICIT) {
+                throw this.error("Key " + String.join(".", keys.subList(0, index + 1)) + " is already defined");
+            }
+
+            parent = TomlParser.asTable(existing);
+        }
+
+        String key = keys.get(keys.size() - 1);
+        if (parent.containsKey(key)) throw this.error("Key " + String.join(".", keys) + " is already defined");
+        parent.put(key, value);
+    }
+
+    /**
+     * Used to parse a key, which may be dotted.
+     * The whitespace after the key is skipped.
+     *
+     * @return The parts of the key.
+     */
+    private @NotNull List<String> parseKey() throws IOException {
+        List<String> keys = new ArrayList<>(2);
+
+        while (true) {
+            keys.add(this.parseSimpleKey());
+            this.skipWhitespace();
+
+            if (this.position >= this.length || this.content[this.position] != '.') return keys;
+            this.position++;
+            this.skipWhitespace();
+        }
+    }
+
+    private @NotNull String parseSimpleKey() throws IOException {
+        if (this.position >= this.length) throw this.error("Expected a key");
+
+        char character = this.content[this.position];
+        if (character == '"' || character == '\'') {
+            if (this.startsWith(character, 3)) throw this.error("Keys can't be multi-line strings");
+            return character == '"' ? this.parseBasicString() : this.parseLiteralString();
+        }
+
+        int start = this.position;
+        while (this.position < this.length && TomlParser.isBareKeyCharacter(this.content[this.position])) {
+            this.position++;
+        }
+
+        if (start == this.position) throw this.error("Expected a key");
+        return new String(this.content, start, this.position - start);
+    }
+
+    private @NotNull Object parseValue() throws IOException {
+        if (this.position >= this.length) throw this.error("Expected a value");
+
+        char character = this.content[this.position];
+        switch (character) {
+            case '"':
+                return this.startsWith('"', 3) ? this.parseMultiLineBasicString() : this.parseBasicString();
+            case '\'':
+                return this.startsWith('\'', 3) ? this.parseMultiLineLiteralString() : this.parseLiteralString();
+            case '[':
+                return this.parseArray();
+            case '{':
+                return this.parseInlineTable();
+            case 't':
+                this.expectWord("true");
+                return true;
+            case 'f':
+                this.expectWord("false");
+                return false;
+            default:
+                if (this.isDateTime()) return this.parseDateTime();
+                return this.parseNumber();
+        }
+    }
+
+    private @NotNull List<Object> parseArray() throws IOException {
+        this.position++;
+        List<Object> list = new ArrayList<>();
+
+        while (true) {
+            this.skipArrayWhitespace();
+            if (this.position < this.length && this.content[this.position] == ']') {
+                this.position++;
+                return list;
+            }
+
+            list.add(this.parseValue());
+            this.skipArrayWhitespace();
+
+            if (this.position >= this.length) throw this.error("Unterminated array");
+
+            char character = this.content[this.position++];
+            if (character == ']') return list;
+            if (character != ',') throw this.error("Expected , or ] after an array value");
+        }
+    }
+
+    private @NotNull Map<String, Object> parseInlineTable() throws IOException {
+        this.position++;
+        Map<String, Object> table = this.createTable(TableState.INLINE);
+
+        this.skipWhitespace();
+        if (this.position < this.length && this.content[this.position] == '}') {
+            this.position++;
+            return table;
+        }
+
+        while (true) {
+            this.parseKeyValue(table);
+            this.skipWhitespace();
+
+            if (this.position >= this.length) throw this.error("Unterminated inline table");
+
+            char character = this.content[this.position++];
+            if (character == '}') break;
+            if (character != ',') throw this.error("Expected , or } after an inline table value");
+            this.skipWhitespace();
+        }
+
+        // Tables created by dotted keys are also part of the inline table.
+        this.markInline(table);
+        return table;
+    }
+
+    private void markInline(@NotNull Map<String, Object> table) {
+        this.tables.put(table, TableState.INLINE);
+
+        for (Object value : table.values()) {
+            if (value instanceof Map<?, ?> && this.tables.get(value) == TableState.DOTTED) {
+                this.markInline(TomlParser.asTable(value));
+            }
+        }
+    }
+
+    private @NotNull String parseBasicString() throws IOException {
+        this.position++;
+        int start = this.position;
+        StringBuilder builder = null;
+
+        while (true) {
+            if (this.position >= this.length) throw this.error("Unterminated string");
+
+            char character = this.content[this.position];
+            if (character == '"') {
+                String value = builder == null
+                        ? new String(this.content, start, this.position - start)
+                        : builder.toString();
+
+                this.position++;
+                return value;
+            }
+
+            // Only copy the string when it contains escapes.
+            if (character == '\\') {
+                if (builder == null) builder = new StringBuilder().append(this.content, start, this.position - start);
+                this.position++;
+                this.parseEscape(builder);
+                continue;
+            }
+
+            if (character == '\n' || TomlParser.isControl(character)) throw this.error("Invalid character in string");
+            if (builder != null) builder.append(character);
+            this.position++;
+        }
+    }
+
+    private @NotNull String parseMultiLineBasicString() throws IOException {
+        this.position += 3;
+        this.skipFirstNewline();
+        StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            if (this.position >= this.length) throw this.error("Unterminated string");
+
+            char character = this.content[this.position];
+            if (character == '"' && this.startsWith('"', 3)) {
+                this.closeMultiLineString(builder, '"');
+                return builder.toString();
+            }
+
+            if (character == '\\') {
+                this.position++;
+
+                // A backslash at the end of a line trims
+                // the whitespace up to the next content.
+                if (this.isLineEndingBackslash()) {
+                    this.skipArrayWhitespace(false);
+                    continue;
+                }
+
+                this.parseEscape(builder);
+                continue;
+            }
+
+            this.appendMultiLineCharacter(builder, character);
+        }
+    }
+
+    private @NotNull String parseLiteralString() throws IOException {
+        this.position++;
+        int start = this.position;
+
+        while (true) {
+            if (this.position >= this.length) throw this.error("Unterminated string");
+
+            char character = this.content[this.position];
+            if (character == '\'') {
+                String value = new String(this.content, start, this.position - start);
+                this.position++;
+                return value;
+            }
+
+            if (character == '\n' || TomlParser.isControl(character)) throw this.error("Invalid character in string");
+            this.position++;
+        }
+    }
+
+    private @NotNull String parseMultiLineLiteralString() throws IOException {
+        this.position += 3;
+        this.skipFirstNewline();
+        StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            if (this.position >= this.length) throw this.error("Unterminated string");
+
+            char character = this.content[this.position];
+            if (character == '\'' && this.startsWith('\'', 3)) {
+                this.closeMultiLineString(builder, '\'');
+                return builder.toString();
+            }
+
+            this.appendMultiLineCharacter(builder, character);
+        }
+    }
+
+    /**
+     * Used to read the closing quotes of a multi-line string.
+     * Up to two quotes before the closing quotes are content.
+     *
+     * @param builder The content of the string.
+     * @param quote   The quote character.
+     */
+    private void closeMultiLineString(@NotNull StringBuilder builder, char quote) throws IOException {
+        int count = 0;
+        while (this.position + count < this.length && this.content[this.position + count] == quote) count++;
+
+        if (count > 5) throw this.error("Too many quotes at the end of a string");
+        for (int index = 3; index < count; index++) builder.append(quote);
+        this.position += count;
+    }
+
+    private void appendMultiLineCharacter(@NotNull StringBuilder builder, char character) throws IOException {
+        if (character == '\r') {
+            if (this.position + 1 >= this.length || this.content[this.position + 1] != '\n') {
+                throw this.error("Invalid character in string");
+            }
+
+            builder.append("\r\n");
+            this.position += 2;
+            return;
+        }
+
+        if (character != '\n' && TomlParser.isControl(character)) throw this.error("Invalid character in string");
+        builder.append(character);
+        this.position++;
+    }
+
+    private void skipFirstNewline() {
+        if (this.position < this.length && this.content[this.position] == '\n') {
+            this.position++;
+        } else if (this.startsWith('\r', 1) && this.position + 1 < this.length && this.content[this.position + 1] == '\n') {
+            this.position += 2;
+        }
+    }
+
+    private boolean isLineEndingBackslash() {
+        int index = this.position;
+        while (index < this.length && (this.content[index] == ' ' || this.content[index] == '\t')) index++;
+        return index < this.length && (this.content[index] == '\n' || this.content[index] == '\r');
+    }
+
+    /**
+     * Used to parse an escape sequence after the backslash.
+     *
+     * @param builder The content of the string.
+     */
+    private void parseEscape(@NotNull StringBuilder builder) throws IOException {
+        if (this.position >= this.length) throw this.error("Unterminated string");
+
+        char character = this.content[this.position++];
+        switch (character) {
+            case 'b' -> builder.append('\b');
+            case 't' -> builder.append('\t');
+            case 'n' -> builder.append('\n');
+            case 'f' -> builder.append('\f');
+            case 'r' -> builder.append('\r');
+            case '"' -> builder.append('"');
+            case '\\' -> builder.append('\\');
+            case 'u' -> builder.appendCodePoint(this.parseUnicode(4));
+            case 'U' -> builder.appendCodePoint(this.parseUnicode(8));
+            default -> throw this.error("Invalid escape sequence \\" + character);
+        }
+    }
+
+    private int parseUnicode(int digits) throws IOException {
+        if (this.position + digits > this.length) throw this.error("Invalid unicode escape");
+
+        int codePoint = 0;
+        for (int index = 0; index < digits; index++) {
+            int digit = Character.digit(this.content[this.position++], 16);
+            if (digit == -1) throw this.error("Invalid unicode escape");
+            codePoint = codePoint * 16 + digit;
+        }
+
+        // Only unicode scalar values are allowed.
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            throw this.error("Invalid unicode escape");
+        }
+
+        return codePoint;
+    }
+
+    private boolean isDateTime() {
+        int index = this.position;
+        if (index + 4 < this.length && this.content[index + 4] == '-') {
+            return TomlParser.isDigits(this.content, index, 4);
+        }
+
+        return index + 2 < this.length
+                && this.content[index + 2] == ':'
+                && TomlParser.isDigits(this.content, index, 2);
+    }
+
+    private @NotNull Object parseDateTime() throws IOException {
+        try {
+            if (this.content[this.position + 2] == ':') return this.parseTime();
+
+            LocalDate date = this.parseDate();
+            if (this.position >= this.length) return date;
+
+            // The date and time may be separated by a space.
+            char separator = this.content[this.position];
+            boolean time = separator == 'T' || separator == 't'
+                    || (separator == ' ' && this.position + 1 < this.length && Character.isDigit(this.content[this.position + 1]));
+
+            if (!time) return date;
+            this.position++;
+
+            LocalDateTime dateTime = LocalDateTime.of(date, this.parseTime());
+            ZoneOffset offset = this.parseOffset();
+            if (offset == null) return dateTime;
+
+            return OffsetDateTime.of(dateTime, offset);
+
+        } catch (DateTimeException exception) {
+            throw this.error("Invalid date time, " + exception.getMessage());
+        }
+    }
+
+    private @NotNull LocalDate parseDate() throws IOException {
+        if (this.position + 10 > this.length
+                || this.content[this.position + 7] != '-'
+                || !TomlParser.isDigits(this.content, this.position + 5, 2)
+                || !TomlParser.isDigits(this.content, this.position + 8, 2)) {
+
+            throw this.error("Invalid date");
+        }
+
+        LocalDate date = LocalDate.of(
+                this.readDigits(0, 4),
+                this.readDigits(5, 2),
+                this.readDigits(8, 2)
+        );
+
+        this.position += 10;
+        return date;
+    }
+
+    private @NotNull LocalTime parseTime() throws IOException {
+        if (this.position + 8 > this.length
+                || this.content[this.position + 2] != ':'
+                || this.content[this.position + 5] != ':'
+                || !TomlParser.isDigits(this.content, this.position, 2)
+                || !TomlParser.isDigits(this.content, this.position + 3, 2)
+                || !TomlParser.isDigits(this.content, this.position + 6, 2)) {
+
+            throw this.error("Invalid time");
+        }
+
+        int hour = this.readDigits(0, 2);
+        int minute = this.readDigits(3, 2);
+        int second = this.readDigits(6, 2);
+        this.position += 8;
+
+        // Precision past nanoseconds is truncated.
+        int nanos = 0;
+        if (this.position < this.length && this.content[this.position] == '.') {
+            this.position++;
+
+            int digits = 0;
+            while (this.position < this.length && Character.isDigit(this.content[this.position])) {
+                if (digits < 9) nanos = nanos * 10 + (this.content[this.position] - '0');
+                digits++;
+                this.position++;
+            }
+
+            if (digits == 0) throw this.error("Invalid time");
+            for (int index = digits; index < 9; index++) nanos *= 10;
+        }
+
+        return LocalTime.of(hour, minute, second, nanos);
+    }
+
+    private @Nullable ZoneOffset parseOffset() throws IOException {
+        if (this.position >= this.length) return null;
+
+        char character = this.content[this.position];
+        if (character == 'Z' || character == 'z') {
+            this.position++;
+            return ZoneOffset.UTC;
+        }
+
+        if (character != '+' && character != '-') return null;
+
+        if (this.position + 6 > this.length
+                || this.content[this.position + 3] != ':'
+                || !TomlParser.isDigits(this.content, this.position + 1, 2)
+                || !TomlParser.isDigits(this.content, this.position + 4, 2)) {
+
+            throw this.error("Invalid offset");
+        }
+
+        int sign = character == '-' ? -1 : 1;
+        ZoneOffset offset = ZoneOffset.ofHoursMinutes(sign * this.readDigits(1, 2), sign * this.readDigits(4, 2));
+        this.position += 6;
+        return offset;
+    }
+
+    private int readDigits(int offset, int digits) {
+        int value = 0;
+        for (int index = 0; index < digits; index++) {
+            value = value * 10 + (this.content[this.position + offset + index] - '0');
+        }
+
+        return value;
+    }
+
+    private @NotNull Object parseNumber() throws IOException {
+        int start = this.position;
+        while (this.position < this.length && TomlParser.isNumberCharacter(this.content[this.position])) {
+            this.position++;
+        }
+
+        String token = new String(this.content, start, this.position - start);
+        if (token.isEmpty()) throw this.error("Expected a value");
+
+        int index = token.charAt(0) == '+' || token.charAt(0) == '-' ? 1 : 0;
+        boolean negative = token.charAt(0) == '-';
+        String unsigned = token.substring(index);
+
+        switch (unsigned) {
+            case "inf":
+                return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            case "nan":
+                return Double.NaN;
+        }
+
+        // Hexadecimal, octal and binary integers can't have a sign.
+        if (index == 0 && token.length() > 2 && token.charAt(0) == '0') {
+            int radix = switch (token.charAt(1)) {
+                case 'x' -> 16;
+                case 'o' -> 8;
+                case 'b' -> 2;
+                default -> 0;
+            };
+
+            if (radix != 0) return this.parseInteger(this.removeUnderscores(token, 2, radix), radix, token);
+        }
+
+        int exponent = Math.max(unsigned.indexOf('e'), unsigned.indexOf('E'));
+        int decimal = unsigned.indexOf('.');
+        int integerEnd = decimal != -1 ? decimal : exponent != -1 ? exponent : unsigned.length();
+
+        String integer = this.removeUnderscores(unsigned.substring(0, integerEnd), 0, 10);
+        if (integer.length() > 1 && integer.charAt(0) == '0') throw this.error("Invalid number " + token);
+
+        if (decimal == -1 && exponent == -1) {
+            return this.parseInteger(negative ? "-" + integer : integer, 10, token);
+        }
+
+        StringBuilder builder = new StringBuilder(token.length());
+        if (negative) builder.append('-');
+        builder.append(integer);
+
+        if (decimal != -1) {
+            int fractionEnd = exponent != -1 ? exponent : unsigned.length();
+            if (exponent != -1 && exponent < decimal) throw this.error("Invalid number " + token);
+            builder.append('.').append(this.removeUnderscores(unsigned.substring(decimal + 1, fractionEnd), 0, 10));
+        }
+
+        if (exponent != -1) {
+            String power = unsigned.substring(exponent + 1);
+            int powerStart = !power.isEmpty() && (power.charAt(0) == '+' || power.charAt(0) == '-') ? 1 : 0;
+            builder.append('E').append(power, 0, powerStart).append(this.removeUnderscores(power, powerStart, 10));
+        }
+
+        return Double.parseDouble(builder.toString());
+    }
+
+    private @NotNull Long parseInteger(@NotNull String digits, int radix, @NotNull String token) throws IOException {
+        try {
+            return Long.parseLong(digits, radix);
+        } catch (NumberFormatException exception) {
+            throw this.error("Integer " + token + " is out of range");
+        }
+    }
+
+    /**
+     * Used to get the digits of a number, checking that
+     * each underscore is between two digits.
+     *
+     * @param token The number.
+     * @param start The index of the first digit.
+     * @param radix The radix of the digits.
+     * @return The digits without underscores.
+     */
+    private @NotNull String removeUnderscores(@NotNull String token, int start, int radix) throws IOException {
+        StringBuilder builder = new StringBuilder(token.length() - start);
+        boolean digit = false;
+
+        for (int index = start; index < token.length(); index++) {
+            char character = token.charAt(index);
+
+            if (character == '_') {
+                if (!digit) throw this.error("Invalid number " + token);
+                digit = false;
+                continue;
+            }
+
+            if (Character.digit(character, radix) == -1) throw this.error("Invalid number " + token);
+            builder.append(character);
+            digit = true;
+        }
+
+        if (!digit) throw this.error("Invalid number " + token);
+        return builder.toString();
+    }
+
+    private @NotNull Map<String, Object> createTable(@NotNull TableState state) {
+        Map<String, Object> table = new LinkedHashMap<>();
+        this.tables.put(table, state);
+        return table;
+    }
+
+    private void expectWord(@NotNull String word) throws IOException {
+        if (!this.startsWith(word)) throw this.error("Invalid value");
+        this.position += word.length();
+    }
+
+    private void expect(char character) throws IOException {
+        this.skipWhitespace();
+        if (this.position >= this.length || this.content[this.position] != character) {
+            throw this.error("Expected " + character);
+        }
+
+        this.position++;
+    }
+
+    /**
+     * Used to check that nothing but a comment
+     * is left on the line, and move to the next line.
+     */
+    private void expectLineEnd() throws IOException {
+        this.skipWhitespace();
+        if (this.position < this.length && this.content[this.position] == '#') this.skipComment();
+        if (this.position >= this.length) return;
+
+        char character = this.content[this.position];
+        if (character == '\n') {
+            this.position++;
+            return;
+        }
+
+        if (character == '\r' && this.position + 1 < this.length && this.content[this.position + 1] == '\n') {
+            this.position += 2;
+            return;
+        }
+
+        throw this.error("Expected the end of the line");
+    }
+
+    private void skipComment() throws IOException {
+        while (this.position < this.length) {
+            char character = this.content[this.position];
+            if (character == '\n' || character == '\r') return;
+            if (TomlParser.isControl(character)) throw this.error("Invalid character in comment");
+            this.position++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.length && (this.content[this.position] == ' ' || this.content[this.position] == '\t')) {
+            this.position++;
+        }
+    }
+
+    private void skipArrayWhitespace() throws IOException {
+        this.skipArrayWhitespace(true);
+    }
+
+    /**
+     * Used to skip whitespace and new lines.
+     *
+     * @param comments True if comments may also be skipped.
+     */
+    private void skipArrayWhitespace(boolean comments) throws IOException {
+        while (this.position < this.length) {
+            char character = this.content[this.position];
+
+            if (character == ' ' || character == '\t' || character == '\n') {
+                this.position++;
+            } else if (character == '\r' && this.position + 1 < this.length && this.content[this.position + 1] == '\n') {
+                this.position += 2;
+            } else if (character == '#' && comments) {
+                this.skipComment();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private boolean startsWith(char character, int count) {
+        if (this.position + count > this.length) return false;
+
+        for (int index = 0; index < count; index++) {
+            if (this.content[this.position + index] != character) return false;
+        }
+
+        return true;
+    }
+
+    private boolean startsWith(@NotNull String word) {
+        if (this.position + word.length() > this.length) return false;
+
+        for (int index = 0; index < word.length(); index++) {
+            if (this.content[this.position + index] != word.charAt(index)) return false;
+        }
+
+        return true;
+    }
+
+    private @NotNull IOException error(@NotNull String message) {
+        int line = 1;
+        for (int index = 0; index < Math.min(this.position, this.length); index++) {
+            if (this.content[index] == '\n') line++;
+        }
+
+        return new IOException(message + " at line " + line + ".");
+    }
+
+    private static boolean isBareKeyCharacter(char character) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9')
+                || character == '_' || character == '-';
+    }
+
+    private static boolean isNumberCharacter(char character) {
+        return TomlParser.isBareKeyCharacter(character) || character == '+' || character == '.';
+    }
+
+    /**
+     * Used to check if a character is a control
+     * character that isn't allowed in strings or comments.
+     *
+     * @param character The character to check.
+     * @return True if it is not allowed.
+     */
+    private static boolean isControl(char character) {
+        return (character < 0x20 && character != '\t') || character == 0x7F;
+    }
+
+    private static boolean isDigits(char @NotNull [] content, int start, int count) {
+        for (int index = start; index < start + count; index++) {
+            if (content[index] < '0' || content[index] > '9') return false;
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> asTable(@NotNull Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull List<Object> asList(@NotNull Object value) {
+        return (List<Object>) value;
+    }
+}
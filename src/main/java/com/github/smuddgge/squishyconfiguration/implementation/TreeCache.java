@@ -0,0 +1,331 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Represents a binary cache of the tree read from a
+ * configuration file, so it can be loaded again
+ * without parsing the file.
+ * <p>
+ * The cache records the state of the file it was read from,
+ * and is only used while the file has the same size and last
+ * modified time. If the file was modified shortly before the
+ * cache was written, the checksum of the file is compared too.
+ * The cache ends with a checksum of its own content, so a
+ * damaged cache is never used.
+ */
+final class TreeCache {
+
+    private static final int MAGIC = 0x53435443;
+    private static final int VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte TRUE = 6;
+    private static final byte FALSE = 7;
+    private static final byte MAP = 8;
+    private static final byte LIST = 9;
+    private static final byte INT_ARRAY = 10;
+    private static final byte LONG_ARRAY = 11;
+    private static final byte DOUBLE_ARRAY = 12;
+    private static final byte BOOLEAN_ARRAY = 13;
+
+    /**
+     * Represents a tree read from a cache.
+     *
+     * @param tree     The tree that was read from the file.
+     * @param checksum The checksum of the file's content.
+     */
+    record Entry(@NotNull Map<?, ?> tree, long checksum) {
+    }
+
+    private TreeCache() {
+    }
+
+    /**
+     * Used to read a cached tree, if the file has
+     * not changed since it was cached.
+     *
+     * @param cache      The location of the cache.
+     * @param file       The location of the file.
+     * @param attributes The current attributes of the file.
+     * @return The cached tree, or null if the cache
+     *         is missing, out of date or damaged.
+     */
+    static @Nullable Entry read(@NotNull Path cache, @NotNull Path file, @NotNull BasicFileAttributes attributes) {
+        try {
+            if (!Files.isRegularFile(cache)) return null;
+            byte[] bytes = Files.readAllBytes(cache);
+            if (bytes.length < 8) return null;
+
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) return null;
+
+            FileState state = new FileState(input.readLong(), input.readLong(), input.readLong(), input.readLong());
+            if (!state.matches(attributes)) {
+
+                // The last modified time can't be trusted,
+                // so check if the content of the file changed.
+                if (!state.isRacy() || state.size() != attributes.size()) return null;
+                if (FileState.getChecksum(Files.readAllBytes(file)) != state.checksum()) return null;
+            }
+
+            // Check the cache is complete before decoding it.
+            CRC32C checksum = new CRC32C();
+            checksum.update(bytes, 0, bytes.length - 8);
+            long expected = new DataInputStream(new ByteArrayInputStream(bytes, bytes.length - 8, 8)).readLong();
+            if (checksum.getValue() != expected) return null;
+
+            Object tree = TreeCache.decode(input);
+            if (!(tree instanceof Map<?, ?> map)) return null;
+            return new Entry(map, state.checksum());
+
+        } catch (IOException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Used to encode the tree read from a file.
+     *
+     * @param tree  The tree read from the file.
+     * @param state The state of the file it was read from.
+     * @return The content of the cache, or null if the
+     *         tree contains a value that can't be cached.
+     */
+    static byte @Nullable [] encode(@NotNull Map<?, ?> tree, @NotNull FileState state) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+            DataOutputStream output = new DataOutputStream(bytes);
+
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(state.size());
+            output.writeLong(state.lastModified());
+            output.writeLong(state.checksum());
+            output.writeLong(state.recorded());
+            if (!TreeCache.encode(tree, output)) return null;
+
+            CRC32C checksum = new CRC32C();
+            checksum.update(bytes.toByteArray());
+            output.writeLong(checksum.getValue());
+            return bytes.toByteArray();
+
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Used to write the content of a cache.
+     *
+     * @param cache   The location of the cache.
+     * @param content The content of the cache.
+     * @throws IOException If the cache could not be written.
+     */
+    static void write(@NotNull Path cache, byte @NotNull [] content) throws IOException {
+
+        // Replace the cache in one step, so it is never read half written.
+        Path folder = cache.toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        Path temporary = FileConfiguration.createTemporary(cache);
+
+        try {
+            Files.write(temporary, content);
+            FileConfiguration.move(temporary, cache);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static boolean encode(@Nullable Object value, @NotNull DataOutputStream output) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+            return true;
+        }
+
+        if (value instanceof String string) {
+            output.writeByte(STRING);
+            TreeCache.writeString(string, output);
+            return true;
+        }
+
+        if (value instanceof Integer integer) {
+            output.writeByte(INTEGER);
+            output.writeInt(integer);
+            return true;
+        }
+
+        if (value instanceof Long number) {
+            output.writeByte(LONG);
+            output.writeLong(number);
+            return true;
+        }
+
+        if (value instanceof Double number) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(number);
+            return true;
+        }
+
+        if (value instanceof Float number) {
+            output.writeByte(FLOAT);
+            output.writeFloat(number);
+            return true;
+        }
+
+        if (value instanceof Boolean bool) {
+            output.writeByte(bool ? TRUE : FALSE);
+            return true;
+        }
+
+        // The size of a map isn't written first,
+        // as concurrent maps can change while being written.
+        if (value instanceof Map<?, ?> map) {
+            output.writeByte(MAP);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                output.writeBoolean(true);
+                TreeCache.writeString(String.valueOf(entry.getKey()), output);
+                if (!TreeCache.encode(entry.getValue(), output)) return false;
+            }
+            output.writeBoolean(false);
+            return true;
+        }
+
+        if (value instanceof List<?> list) {
+            output.writeByte(LIST);
+            output.writeInt(list.size());
+            for (Object item : list) {
+                if (!TreeCache.encode(item, output)) return false;
+            }
+            return true;
+        }
+
+        if (value instanceof int[] array) {
+            output.writeByte(INT_ARRAY);
+            output.writeInt(array.length);
+            for (int item : array) output.writeInt(item);
+            return true;
+        }
+
+        if (value instanceof long[] array) {
+            output.writeByte(LONG_ARRAY);
+            output.writeInt(array.length);
+            for (long item : array) output.writeLong(item);
+            return true;
+        }
+
+        if (value instanceof double[] array) {
+            output.writeByte(DOUBLE_ARRAY);
+            output.writeInt(array.length);
+            for (double item : array) output.writeDouble(item);
+            return true;
+        }
+
+        if (value instanceof boolean[] array) {
+            output.writeByte(BOOLEAN_ARRAY);
+            output.writeInt(array.length);
+            for (boolean item : array) output.writeBoolean(item);
+            return true;
+        }
+
+        // Other values, such as dates, can't be cached.
+        return false;
+    }
+
+    private static @Nullable Object decode(@NotNull DataInputStream input) throws IOException {
+        byte type = input.readByte();
+
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return TreeCache.readString(input);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case MAP: {
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (input.readBoolean()) {
+                    map.put(TreeCache.readString(input), TreeCache.decode(input));
+                }
+                return map;
+            }
+            case LIST: {
+                int size = TreeCache.readLength(input);
+                List<Object> list = new ArrayList<>(size);
+                for (int index = 0; index < size; index++) list.add(TreeCache.decode(input));
+                return list;
+            }
+            case INT_ARRAY: {
+                int[] array = new int[TreeCache.readLength(input)];
+                for (int index = 0; index < array.length; index++) array[index] = input.readInt();
+                return array;
+            }
+            case LONG_ARRAY: {
+                long[] array = new long[TreeCache.readLength(input)];
+                for (int index = 0; index < array.length; index++) array[index] = input.readLong();
+                return array;
+            }
+            case DOUBLE_ARRAY: {
+                double[] array = new double[TreeCache.readLength(input)];
+                for (int index = 0; index < array.length; index++) array[index] = input.readDouble();
+                return array;
+            }
+            case BOOLEAN_ARRAY: {
+                boolean[] array = new boolean[TreeCache.readLength(input)];
+                for (int index = 0; index < array.length; index++) array[index] = input.readBoolean();
+                return array;
+            }
+            default:
+                throw new IOException("Unknown value type in tree cache: " + type);
+        }
+    }
+
+    private static void writeString(@NotNull String string, @NotNull DataOutputStream output) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static @NotNull String readString(@NotNull DataInputStream input) throws IOException {
+        byte[] bytes = new byte[TreeCache.readLength(input)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(@NotNull DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > input.available()) throw new IOException("Invalid length in tree cache: " + length);
+        return length;
+    }
+}
@@ -1,28 +1,46 @@
 package com.github.smuddgge.squishyconfiguration.implementation;
 
-import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
-import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryOptions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.reader.UnicodeReader;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.util.HashMap;
+import java.io.Writer;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
 
 import static org.yaml.snakeyaml.DumperOptions.FlowStyle.BLOCK;
 
 /**
  * Represents a yaml configuration file.
+ * <p>
+ * Files can also be read with a built in parser for the block
+ * style subset most configuration files use, which falls back
+ * to snakeyaml for anything else, see {@link #setFastParser(boolean)}.
  */
-public class YamlConfiguration extends MemoryConfigurationSection implements Configuration {
+public class YamlConfiguration extends FileConfiguration {
 
-    private @NotNull File file;
-    private @Nullable String resourcePath;
+    private static volatile @NotNull EnginePool<Yaml> defaultEngines = new EnginePool<>(YamlConfiguration::createEngine);
+    private static volatile boolean defaultFastParser = false;
+
+    private volatile @NotNull EnginePool<Yaml> engines;
+    private volatile boolean fastParser;
 
     /**
      * Used to create a representation of a configuration file.
@@ -30,8 +48,20 @@ public class YamlConfiguration extends MemoryConfigurationSection implements Con
      * @param file The instance of the configuration file.
      */
     public YamlConfiguration(@NotNull File file) {
-        super(new HashMap<>());
-        this.file = file;
+        this(file, new MemoryOptions());
+    }
+
+    /**
+     * Used to create a representation of a configuration file
+     * with options.
+     *
+     * @param file    The instance of the configuration file.
+     * @param options The options used to store the data.
+     */
+    public YamlConfiguration(@NotNull File file, @NotNull MemoryOptions options) {
+        super(file, options);
+        this.engines = YamlConfiguration.defaultEngines;
+        this.fastParser = YamlConfiguration.defaultFastParser;
     }
 
     /**
@@ -41,88 +71,204 @@ public class YamlConfiguration extends MemoryConfigurationSection implements Con
      * @param path   The path within the folder including the extension name.
      */
     public YamlConfiguration(@NotNull File folder, @NotNull String path) {
-        super(new HashMap<>());
-        this.file = new File(folder.getAbsolutePath() + File.separator + path);
+        this(new File(folder.getAbsolutePath() + File.separator + path));
     }
 
-    @Override
-    public @NotNull String getAbsolutePath() {
-        return this.file.getAbsolutePath();
+    /**
+     * Used to load only the values under a set of paths.
+     * <p>
+     * The file is streamed, and values that are not under
+     * one of the paths are skipped without being built,
+     * which is much faster for large files.
+     * <ul>
+     *     <li>Sections that contain a path are loaded with only the values under it.</li>
+     *     <li>The configuration can't be saved until it is fully loaded again.</li>
+     *     <li>Aliases can only refer to anchors in the loaded values.</li>
+     * </ul>
+     *
+     * @param paths The paths of the values to load.
+     * @return True if successful.
+     */
+    public boolean load(@NotNull Collection<String> paths) {
+        return this.load(inputStream -> this.read(inputStream, paths), true);
     }
 
-    @Override
-    public @NotNull File getFile() {
-        return this.file;
+    /**
+     * Used to read the values under a set of
+     * paths from the file's content.
+     *
+     * @param inputStream The content of the file.
+     * @param paths       The paths of the values to read.
+     * @return The data, or null if the file is empty.
+     */
+    protected @Nullable Map<?, ?> read(@NotNull InputStream inputStream, @NotNull Collection<String> paths) {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        Parser parser = new ParserImpl(new StreamReader(new UnicodeReader(inputStream)), loaderOptions);
+
+        // Only the selected values are composed into nodes.
+        Constructor constructor = new Constructor(loaderOptions);
+        constructor.setComposer(new Composer(new YamlPathParser(parser, paths), new Resolver(), loaderOptions));
+        return (Map<?, ?>) constructor.getSingleData(Object.class);
     }
 
     @Override
-    public @Nullable String getResourcePath() {
-        return this.resourcePath;
+    protected @Nullable Map<?, ?> read(@NotNull InputStream inputStream) throws IOException {
+        return YamlConfiguration.parse(inputStream, this.engines, this.fastParser);
     }
 
-    @Override
-    public @NotNull Configuration setResourcePath(@NotNull String resourcePath) {
-        this.resourcePath = resourcePath;
-        return this;
+    /**
+     * Used to parse yaml content without a file,
+     * using the default engines.
+     * The fast parser is used if {@link #isDefaultFastParser()}.
+     *
+     * @param inputStream The yaml content.
+     * @return The data, or null if the content is empty.
+     * @throws IOException If the content can't be read.
+     */
+    public static @Nullable Map<?, ?> parse(@NotNull InputStream inputStream) throws IOException {
+        return YamlConfiguration.parse(inputStream, YamlConfiguration.defaultEngines, YamlConfiguration.defaultFastParser);
     }
 
-    @Override
-    @SuppressWarnings("all")
-    public boolean load() {
+    private static @Nullable Map<?, ?> parse(@NotNull InputStream inputStream,
+                                             @NotNull EnginePool<Yaml> engines,
+                                             boolean fastParser) throws IOException {
 
-        // Get the instance of the file.
-        this.file = new File(this.getAbsolutePath());
+        if (!fastParser) return engines.use(yaml -> yaml.load(inputStream));
 
-        // Check if the folder doesn't exist and create
-        // the folders needed.
-        if (!this.file.getParentFile().exists()
-                && !this.file.getParentFile().mkdirs()) {
+        // The content is read into a buffer so
+        // it can be given to snakeyaml as well.
+        byte[] content = inputStream.readAllBytes();
 
-            return false;
+        try {
+            return YamlFastParser.parse(content);
+        } catch (YamlFastParser.UnsupportedException exception) {
+            return engines.use(yaml -> yaml.load(new ByteArrayInputStream(content)));
         }
+    }
+
+    @Override
+    protected void write(@NotNull Map<String, Object> data, @NotNull Writer writer) {
+        this.engines.use(yaml -> {
+            yaml.dump(data, writer);
+            return null;
+        });
+    }
+
+    /**
+     * Used to get the pool of yaml engines
+     * used to read and write this file.
+     *
+     * @return The pool of engines.
+     */
+    public @NotNull EnginePool<Yaml> getEngines() {
+        return this.engines;
+    }
+
+    /**
+     * Used to set the pool of yaml engines
+     * used to read and write this file.
+     *
+     * @param engines The pool of engines.
+     * @return This instance.
+     */
+    public @NotNull YamlConfiguration setEngines(@NotNull EnginePool<Yaml> engines) {
+        this.engines = engines;
+        return this;
+    }
 
-        // Check if the file doesn't exist
-        // and attempt to create it.
-        if (!this.file.exists() && !this.createFile()) return false;
+    /**
+     * Used to check if this file is read with the built in
+     * parser for block style yaml before snakeyaml.
+     *
+     * @return True if the fast parser is used.
+     */
+    public boolean isFastParser() {
+        return this.fastParser;
+    }
 
-        // Load the file content.
-        try (InputStream inputStream = Files.newInputStream(this.file.toPath())) {
+    /**
+     * Used to set if this file is read with the built in
+     * parser for block style yaml before snakeyaml.
+     * <p>
+     * Content the parser doesn't support, such as anchors,
+     * tags or block scalars, is still read by the engines,
+     * which also write the file.
+     *
+     * @param fastParser True to use the fast parser.
+     * @return This instance.
+     */
+    public @NotNull YamlConfiguration setFastParser(boolean fastParser) {
+        this.fastParser = fastParser;
+        return this;
+    }
 
-            // Load the data.
-            Yaml yaml = new Yaml();
-            this.data = yaml.load(inputStream);
+    /**
+     * Used to get the pool of yaml engines
+     * shared by new yaml configurations.
+     *
+     * @return The default pool of engines.
+     */
+    public static @NotNull EnginePool<Yaml> getDefaultEngines() {
+        return YamlConfiguration.defaultEngines;
+    }
 
-            // Check if the data is null.
-            if (this.data == null) this.data = new HashMap<>();
-            return true;
+    /**
+     * Used to set the pool of yaml engines
+     * shared by new yaml configurations.
+     * See {@link com.github.smuddgge.squishyconfiguration.ConfigurationFactory#setYamlEngine(java.util.function.Supplier)}.
+     *
+     * @param engines The pool of engines.
+     */
+    public static void setDefaultEngines(@NotNull EnginePool<Yaml> engines) {
+        YamlConfiguration.defaultEngines = engines;
+    }
 
-        } catch (IOException exception) {
-            exception.printStackTrace();
-            return false;
-        }
+    /**
+     * Used to check if new yaml configurations are read
+     * with the built in parser for block style yaml.
+     *
+     * @return True if the fast parser is used by default.
+     */
+    public static boolean isDefaultFastParser() {
+        return YamlConfiguration.defaultFastParser;
     }
 
-    @Override
-    @SuppressWarnings("all")
-    public boolean save() {
+    /**
+     * Used to set if new yaml configurations are read
+     * with the built in parser for block style yaml.
+     * See {@link com.github.smuddgge.squishyconfiguration.ConfigurationFactory#setFastYaml(boolean)}.
+     *
+     * @param defaultFastParser True to use the fast parser by default.
+     */
+    public static void setDefaultFastParser(boolean defaultFastParser) {
+        YamlConfiguration.defaultFastParser = defaultFastParser;
+    }
+
+    /**
+     * Used to create the default yaml engine,
+     * which writes sections in block style.
+     *
+     * @return A new yaml engine.
+     */
+    public static @NotNull Yaml createEngine() {
         DumperOptions dumperOptions = new DumperOptions();
         dumperOptions.setPrettyFlow(true);
         dumperOptions.setDefaultFlowStyle(BLOCK);
+        return new Yaml(new TimeRepresenter(dumperOptions), dumperOptions);
+    }
 
-        // Create a yaml object.
-        Yaml yaml = new Yaml(dumperOptions);
-
-        try {
-
-            // Write to the file.
-            FileWriter writer = new FileWriter(this.file);
-            yaml.dump(this.data, writer);
+    /**
+     * Represents a representer that writes java time values,
+     * for example dates read from a toml file, as strings.
+     * <p>
+     * Otherwise snakeyaml would write them as java
+     * beans, which can't be loaded again.
+     */
+    private static final class TimeRepresenter extends Representer {
 
-        } catch (IOException exception) {
-            exception.printStackTrace();
-            return false;
+        private TimeRepresenter(@NotNull DumperOptions dumperOptions) {
+            super(dumperOptions);
+            this.multiRepresenters.put(TemporalAccessor.class, data -> this.representScalar(Tag.STR, data.toString()));
         }
-
-        return true;
     }
 }
@@ -0,0 +1,667 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a yaml parser for the block style
+ * subset most configuration files are written in.
+ * <p>
+ * The lines are read straight from a char buffer into
+ * the maps and lists of the tree, without the events
+ * and nodes snakeyaml builds first.
+ * <ul>
+ *     <li>Block mappings and sequences, including compact items.</li>
+ *     <li>Plain and single line quoted scalars, resolved the same as snakeyaml.</li>
+ *     <li>Single line flow sequences and mappings.</li>
+ *     <li>Comments and blank lines.</li>
+ * </ul>
+ * Anything else, such as anchors, tags, complex keys, block scalars,
+ * multi line scalars or values snakeyaml resolves in less common ways,
+ * is reported as unsupported so the content can be given to snakeyaml.
+ */
+final class YamlFastParser {
+
+    /**
+     * Thrown when the content uses yaml this parser doesn't support.
+     * It is thrown often, so it has no stack trace.
+     */
+    static final class UnsupportedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final @NotNull UnsupportedException UNSUPPORTED = new UnsupportedException();
+
+    /**
+     * The longest implicit key snakeyaml accepts.
+     */
+    private static final int MAX_KEY_LENGTH = 1024;
+
+    private final char @NotNull [] content;
+
+    private int[] indents = new int[64];
+    private int[] starts = new int[64];
+    private int[] ends = new int[64];
+    private int lineCount;
+
+    private int line;
+    private int position;
+    private int end;
+
+    private YamlFastParser(char @NotNull [] content) {
+        this.content = content;
+    }
+
+    /**
+     * Used to parse utf-8 yaml content.
+     *
+     * @param content The content to parse.
+     * @return The root mapping, or null if the content is empty.
+     * @throws UnsupportedException If the content uses yaml this parser doesn't support.
+     */
+    static @Nullable Map<Object, Object> parse(byte @NotNull [] content) throws UnsupportedException {
+        CharBuffer buffer;
+
+        // Other encodings and invalid bytes are left to snakeyaml.
+        try {
+            buffer = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content));
+        } catch (CharacterCodingException exception) {
+            throw UNSUPPORTED;
+        }
+
+        char[] characters = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.limit());
+        return new YamlFastParser(characters).parseDocument();
+    }
+
+    private @Nullable Map<Object, Object> parseDocument() throws UnsupportedException {
+        this.readLines();
+        if (this.lineCount == 0) return null;
+
+        Object root = this.parseBlockNode(this.indents[0]);
+        if (this.line < this.lineCount || !(root instanceof Map<?, ?>)) throw UNSUPPORTED;
+
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> map = (Map<Object, Object>) root;
+        return map;
+    }
+
+    /**
+     * Used to find the indent, start and end of each line
+     * with content, skipping blank lines and comments.
+     */
+    private void readLines() throws UnsupportedException {
+        int index = this.content.length > 0 && this.content[0] == '\uFEFF' ? 1 : 0;
+
+        while (index < this.content.length) {
+            int lineStart = index;
+            int lineEnd = index;
+
+            while (lineEnd < this.content.length && this.content[lineEnd] != '\n') {
+                if (!YamlFastParser.isPrintable(this.content[lineEnd])) {
+
+                    // A carriage return is only allowed before a line feed.
+                    boolean crlf = this.content[lineEnd] == '\r'
+                            && lineEnd + 1 < this.content.length
+                            && this.content[lineEnd + 1] == '\n';
+                    if (!crlf) throw UNSUPPORTED;
+                }
+                lineEnd++;
+            }
+
+            index = lineEnd + 1;
+            if (lineEnd > lineStart && this.content[lineEnd - 1] == '\r') lineEnd--;
+
+            int start = lineStart;
+            while (start < lineEnd && this.content[start] == ' ') start++;
+
+            if (start < lineEnd && this.content[start] == '\t') {
+                int next = start;
+                while (next < lineEnd && (this.content[next] == ' ' || this.content[next] == '\t')) next++;
+
+                // Tabs can't be used to indent.
+                if (next < lineEnd && this.content[next] != '#') throw UNSUPPORTED;
+                continue;
+            }
+
+            if (start == lineEnd || this.content[start] == '#') continue;
+
+            // Directives and document markers.
+            if (start == lineStart && (this.content[start] == '%'
+                    || this.startsWith(start, lineEnd, "---")
+                    || this.startsWith(start, lineEnd, "..."))) {
+                throw UNSUPPORTED;
+            }
+
+            if (this.lineCount == this.starts.length) {
+                int length = this.lineCount * 2;
+                this.indents = Arrays.copyOf(this.indents, length);
+                this.starts = Arrays.copyOf(this.starts, length);
+                this.ends = Arrays.copyOf(this.ends, length);
+            }
+
+            this.indents[this.lineCount] = start - lineStart;
+            this.starts[this.lineCount] = start;
+            this.ends[this.lineCount] = lineEnd;
+            this.lineCount++;
+        }
+    }
+
+    private boolean startsWith(int start, int lineEnd, @NotNull String marker) {
+        int markerEnd = start + marker.length();
+        if (markerEnd > lineEnd) return false;
+
+        for (int index = 0; index < marker.length(); index++) {
+            if (this.content[start + index] != marker.charAt(index)) return false;
+        }
+
+        return markerEnd == lineEnd || YamlFastParser.isBlank(this.content[markerEnd]);
+    }
+
+    /**
+     * Used to parse the mapping or sequence
+     * that starts on the current line.
+     *
+     * @param indent The indent of the node.
+     * @return The mapping or sequence.
+     */
+    private @NotNull Object parseBlockNode(int indent) throws UnsupportedException {
+        this.enterLine();
+        if (this.isSequenceItem()) return this.parseSequence(indent);
+        return this.parseMapping(indent);
+    }
+
+    private @NotNull Map<Object, Object> parseMapping(int indent) throws UnsupportedException {
+        Map<Object, Object> map = new LinkedHashMap<>();
+
+        while (this.line < this.lineCount && this.indents[this.line] == indent) {
+            this.enterLine();
+            if (this.isSequenceItem()) throw UNSUPPORTED;
+
+            Object key = this.parseKey();
+            Object value;
+            this.skipSpaces();
+
+            if (this.isLineEnd()) {
+                this.line++;
+
+                if (this.line < this.lineCount && this.indents[this.line] > indent) {
+                    value = this.parseBlockNode(this.indents[this.line]);
+                } else if (this.line < this.lineCount && this.indents[this.line] == indent && this.isSequenceItemAt(this.starts[this.line], this.ends[this.line])) {
+
+                    // Sequences may have the same indent as their key.
+                    value = this.parseSequence(indent);
+                } else {
+                    value = null;
+                }
+            } else {
+                value = this.parseInlineValue();
+                this.line++;
+
+                // Plain scalars that carry on to the next line.
+                if (this.line < this.lineCount && this.indents[this.line] > indent) throw UNSUPPORTED;
+            }
+
+            // The same as snakeyaml, a repeated key
+            // takes the place of the first.
+            map.remove(key);
+            map.put(key, value);
+        }
+
+        if (this.line < this.lineCount && this.indents[this.line] > indent) throw UNSUPPORTED;
+        return map;
+    }
+
+    private @NotNull List<Object> parseSequence(int indent) throws UnsupportedException {
+        List<Object> list = new ArrayList<>();
+
+        while (this.line < this.lineCount && this.indents[this.line] == indent) {
+            this.enterLine();
+            if (!this.isSequenceItem()) break;
+
+            this.position++;
+            this.skipSpaces();
+
+            if (this.isLineEnd()) {
+                this.line++;
+
+                if (this.line < this.lineCount && this.indents[this.line] > indent) {
+                    list.add(this.parseBlockNode(this.indents[this.line]));
+                } else {
+                    list.add(null);
+                }
+                continue;
+            }
+
+            // Compact items start a node within the line,
+            // so the rest of the line is treated as indented.
+            if (this.isSequenceItem() || this.isMappingEntry()) {
+                int itemIndent = this.indents[this.line] + this.position - this.starts[this.line];
+                this.indents[this.line] = itemIndent;
+                this.starts[this.line] = this.position;
+                list.add(this.parseBlockNode(itemIndent));
+                continue;
+            }
+
+            list.add(this.parseInlineValue());
+            this.line++;
+
+            if (this.line < this.lineCount && this.indents[this.line] > indent) throw UNSUPPORTED;
+        }
+
+        if (this.line < this.lineCount && this.indents[this.line] > indent) throw UNSUPPORTED;
+        return list;
+    }
+
+    /**
+     * Used to parse a value that ends with its line.
+     *
+     * @return The value.
+     */
+    private @Nullable Object parseInlineValue() throws UnsupportedException {
+        char character = this.content[this.position];
+        Object value;
+
+        if (character == '[') {
+            value = this.parseFlowSequence();
+        } else if (character == '{') {
+            value = this.parseFlowMapping();
+        } else if (character == '"' || character == '\'') {
+            value = this.parseQuoted();
+        } else {
+            return this.parsePlain();
+        }
+
+        int start = this.position;
+        this.skipSpaces();
+        if (this.position == this.end) return value;
+        if (this.position > start && this.content[this.position] == '#') return value;
+        throw UNSUPPORTED;
+    }
+
+    /**
+     * Used to parse a key and the colon after it.
+     *
+     * @return The resolved key.
+     */
+    private @Nullable Object parseKey() throws UnsupportedException {
+        char character = this.content[this.position];
+        int start = this.position;
+        Object key;
+
+        if (character == '"' || character == '\'') {
+            key = this.parseQuoted();
+            this.skipSpaces();
+            if (this.position == this.end || this.content[this.position] != ':') throw UNSUPPORTED;
+        } else {
+            this.checkPlainStart();
+
+            while (true) {
+                if (this.position == this.end) throw UNSUPPORTED;
+
+                char next = this.content[this.position];
+                if (next == ':' && (this.position + 1 == this.end || YamlFastParser.isBlank(this.content[this.position + 1]))) break;
+                if (next == '#' && YamlFastParser.isBlank(this.content[this.position - 1])) throw UNSUPPORTED;
+                this.position++;
+            }
+
+            key = YamlFastParser.resolve(this.trimmed(start, this.position));
+        }
+
+        if (this.position - start > MAX_KEY_LENGTH) throw UNSUPPORTED;
+
+        this.position++;
+        if (this.position < this.end && this.content[this.position] != ' ') throw UNSUPPORTED;
+        return key;
+    }
+
+    private boolean isMappingEntry() {
+        int start = this.position;
+
+        try {
+            this.parseKey();
+            return true;
+        } catch (UnsupportedException exception) {
+            return false;
+        } finally {
+            this.position = start;
+        }
+    }
+
+    private @Nullable Object parsePlain() throws UnsupportedException {
+        this.checkPlainStart();
+        int start = this.position;
+
+        while (this.position < this.end) {
+            char character = this.content[this.position];
+            if (character == '#' && YamlFastParser.isBlank(this.content[this.position - 1])) break;
+
+            // A mapping can't start within a value.
+            if (character == ':' && (this.position + 1 == this.end || YamlFastParser.isBlank(this.content[this.position + 1]))) {
+                throw UNSUPPORTED;
+            }
+
+            this.position++;
+        }
+
+        Object value = YamlFastParser.resolve(this.trimmed(start, this.position));
+        this.position = this.end;
+        return value;
+    }
+
+    private @NotNull List<Object> parseFlowSequence() throws UnsupportedException {
+        List<Object> list = new ArrayList<>();
+        this.position++;
+        this.skipSpaces();
+
+        if (this.position < this.end && this.content[this.position] == ']') {
+            this.position++;
+            return list;
+        }
+
+        while (true) {
+            list.add(this.parseFlowValue());
+            this.skipSpaces();
+            if (this.position == this.end) throw UNSUPPORTED;
+
+            char character = this.content[this.position++];
+            if (character == ']') return list;
+            if (character != ',') throw UNSUPPORTED;
+            this.skipSpaces();
+
+            // Trailing commas and empty entries.
+            if (this.position == this.end || this.content[this.position] == ']' || this.content[this.position] == ',') {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private @NotNull Map<Object, Object> parseFlowMapping() throws UnsupportedException {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        this.position++;
+        this.skipSpaces();
+
+        if (this.position < this.end && this.content[this.position] == '}') {
+            this.position++;
+            return map;
+        }
+
+        while (true) {
+            Object key = this.parseFlowKey();
+            this.skipSpaces();
+            Object value = this.parseFlowValue();
+
+            map.remove(key);
+            map.put(key, value);
+
+            this.skipSpaces();
+            if (this.position == this.end) throw UNSUPPORTED;
+
+            char character = this.content[this.position++];
+            if (character == '}') return map;
+            if (character != ',') throw UNSUPPORTED;
+            this.skipSpaces();
+
+            if (this.position == this.end || this.content[this.position] == '}' || this.content[this.position] == ',') {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private @Nullable Object parseFlowKey() throws UnsupportedException {
+        if (this.position == this.end) throw UNSUPPORTED;
+
+        char character = this.content[this.position];
+        Object key;
+
+        if (character == '"' || character == '\'') {
+            key = this.parseQuoted();
+            this.skipSpaces();
+        } else {
+            this.checkPlainStart();
+            int start = this.position;
+
+            while (this.position < this.end && this.content[this.position] != ':') {
+                if (",[]{}#".indexOf(this.content[this.position]) != -1) throw UNSUPPORTED;
+                this.position++;
+            }
+
+            key = YamlFastParser.resolve(this.trimmed(start, this.position));
+        }
+
+        if (this.position + 1 >= this.end || this.content[this.position] != ':' || this.content[this.position + 1] != ' ') {
+            throw UNSUPPORTED;
+        }
+
+        this.position += 2;
+        return key;
+    }
+
+    private @Nullable Object parseFlowValue() throws UnsupportedException {
+        if (this.position == this.end) throw UNSUPPORTED;
+
+        char character = this.content[this.position];
+        if (character == '[') return this.parseFlowSequence();
+        if (character == '{') return this.parseFlowMapping();
+        if (character == '"' || character == '\'') return this.parseQuoted();
+
+        this.checkPlainStart();
+        int start = this.position;
+
+        while (this.position < this.end) {
+            char next = this.content[this.position];
+            if (next == ',' || next == ']' || next == '}') break;
+            if (next == '[' || next == '{' || next == ':' || next == '#') throw UNSUPPORTED;
+            this.position++;
+        }
+
+        return YamlFastParser.resolve(this.trimmed(start, this.position));
+    }
+
+    /**
+     * Used to parse a quoted scalar that ends on the same line.
+     * Quoted scalars are never resolved, so they are always strings.
+     *
+     * @return The string.
+     */
+    private @NotNull String parseQuoted() throws UnsupportedException {
+        char quote = this.content[this.position++];
+        StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            if (this.position == this.end) throw UNSUPPORTED;
+            char character = this.content[this.position++];
+
+            if (character == quote) {
+                if (quote == '\'' && this.position < this.end && this.content[this.position] == '\'') {
+                    builder.append('\'');
+                    this.position++;
+                    continue;
+                }
+                return builder.toString();
+            }
+
+            if (character == '\\' && quote == '"') {
+                builder.append(this.parseEscape());
+                continue;
+            }
+
+            builder.append(character);
+        }
+    }
+
+    private char parseEscape() throws UnsupportedException {
+        if (this.position == this.end) throw UNSUPPORTED;
+
+        char character = this.content[this.position++];
+        switch (character) {
+            case '\\', '"' -> {
+                return character;
+            }
+            case 'n' -> {
+                return '\n';
+            }
+            case 't' -> {
+                return '\t';
+            }
+            case 'r' -> {
+                return '\r';
+            }
+            case 'u' -> {
+                if (this.position + 4 > this.end) throw UNSUPPORTED;
+
+                int value = 0;
+                for (int index = 0; index < 4; index++) {
+                    int digit = Character.digit(this.content[this.position++], 16);
+                    if (digit == -1) throw UNSUPPORTED;
+                    value = value * 16 + digit;
+                }
+
+                if (Character.isSurrogate((char) value)) throw UNSUPPORTED;
+                return (char) value;
+            }
+            default -> throw UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Used to resolve a plain scalar the same way as
+     * snakeyaml, for the forms this parser supports.
+     *
+     * @param text The plain scalar.
+     * @return The resolved value.
+     */
+    private static @Nullable Object resolve(@NotNull String text) throws UnsupportedException {
+        switch (text) {
+            case "true", "True", "TRUE", "yes", "Yes", "YES", "on", "On", "ON" -> {
+                return Boolean.TRUE;
+            }
+            case "false", "False", "FALSE", "no", "No", "NO", "off", "Off", "OFF" -> {
+                return Boolean.FALSE;
+            }
+            case "~", "null", "Null", "NULL" -> {
+                return null;
+            }
+        }
+
+        char first = text.charAt(0);
+        if ((first >= '0' && first <= '9') || first == '-' || first == '+') {
+            Object number = YamlFastParser.resolveNumber(text);
+            if (number != null) return number;
+            throw UNSUPPORTED;
+        }
+
+        // Floats, merge keys, values and environment variables.
+        if (first == '.' || first == '<' || first == '=' || first == '~' || first == '$') throw UNSUPPORTED;
+        return text;
+    }
+
+    /**
+     * Used to resolve decimal integers and simple floats.
+     * Other numbers, such as octal, sexagesimal or exponents,
+     * and timestamps are left to snakeyaml.
+     *
+     * @param text The plain scalar.
+     * @return The number, or null if it is not one of the supported forms.
+     */
+    private static @Nullable Number resolveNumber(@NotNull String text) {
+        int index = text.charAt(0) == '-' || text.charAt(0) == '+' ? 1 : 0;
+        int digitsStart = index;
+
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9') index++;
+
+        int digits = index - digitsStart;
+        if (digits == 0 || (digits > 1 && text.charAt(digitsStart) == '0')) return null;
+
+        if (index == text.length()) {
+            try {
+                long value = Long.parseLong(text);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return (int) value;
+                return value;
+            } catch (NumberFormatException exception) {
+                return new BigInteger(text);
+            }
+        }
+
+        if (text.charAt(index) != '.') return null;
+        int fractionStart = ++index;
+
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9') index++;
+        if (index == fractionStart || index != text.length()) return null;
+
+        return Double.valueOf(text);
+    }
+
+    private void checkPlainStart() throws UnsupportedException {
+        char character = this.content[this.position];
+
+        // Indicators, including anchors, aliases, tags and complex keys.
+        if ("&*!|>%@`?:,[]{}#'\"".indexOf(character) != -1) throw UNSUPPORTED;
+        if (character == '-' && (this.position + 1 == this.end || YamlFastParser.isBlank(this.content[this.position + 1]))) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private @NotNull String trimmed(int start, int end) throws UnsupportedException {
+        while (end > start && YamlFastParser.isBlank(this.content[end - 1])) end--;
+        if (end == start) throw UNSUPPORTED;
+        return new String(this.content, start, end - start);
+    }
+
+    private void enterLine() {
+        this.position = this.starts[this.line];
+        this.end = this.ends[this.line];
+    }
+
+    private boolean isSequenceItem() throws UnsupportedException {
+        return this.isSequenceItemAt(this.position, this.end);
+    }
+
+    private boolean isSequenceItemAt(int start, int end) throws UnsupportedException {
+        if (this.content[start] != '-') return false;
+        if (start + 1 == end || this.content[start + 1] == ' ') return true;
+        if (this.content[start + 1] == '\t') throw UNSUPPORTED;
+        return false;
+    }
+
+    private boolean isLineEnd() {
+        return this.position == this.end || this.content[this.position] == '#';
+    }
+
+    private void skipSpaces() {
+        while (this.position < this.end && this.content[this.position] == ' ') this.position++;
+    }
+
+    private static boolean isBlank(char character) {
+        return character == ' ' || character == '\t';
+    }
+
+    /**
+     * Used to check if a character can be read by this parser.
+     * Line breaks other than line feeds are not supported.
+     *
+     * @param character The character to check.
+     * @return True if it is printable.
+     */
+    private static boolean isPrintable(char character) {
+        if (character < 0x20) return character == '\t';
+        if (character >= 0x7F && character <= 0x9F) return false;
+        return character != '\u2028' && character != '\u2029'
+                && character != '\uFEFF' && character != '\uFFFE' && character != '\uFFFF';
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.smuddgge.squishyconfiguration.implementation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.parser.Parser;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Represents a yaml parser that only passes on the
+ * events of values under a set of paths.
+ * <p>
+ * The events of every other value are read and dropped,
+ * so nodes are never composed or constructed for them.
+ * Sections that contain a selected path are kept,
+ * with only their selected values.
+ * <p>
+ * Aliases in a selected value can only refer to
+ * anchors that are also in a selected value.
+ */
+class YamlPathParser implements Parser {
+
+    private final @NotNull Parser parser;
+    private final @NotNull Set<String> paths;
+    private final @NotNull Set<String> parents;
+
+    /**
+     * Represents the events ready to be returned.
+     */
+    private final @NotNull Deque<Event> events = new ArrayDeque<>();
+
+    /**
+     * Represents the paths of the sections being read.
+     * An empty path is the root section.
+     */
+    private final @NotNull Deque<String> sections = new ArrayDeque<>();
+
+    /**
+     * Represents the depth within a selected value,
+     * or 0 if not in a selected value.
+     */
+    private int depth;
+
+    /**
+     * Used to create a path parser.
+     *
+     * @param parser The parser of the whole document.
+     * @param paths  The paths of the values to keep.
+     */
+    YamlPathParser(@NotNull Parser parser, @NotNull Collection<String> paths) {
+        this.parser = parser;
+        this.paths = new HashSet<>(paths);
+        this.parents = new HashSet<>();
+
+        // Record the sections that contain a selected path.
+        for (String path : paths) {
+            int index = path.indexOf('.');
+            while (index != -1) {
+                this.parents.add(path.substring(0, index));
+                index = path.indexOf('.', index + 1);
+            }
+        }
+    }
+
+    @Override
+    public boolean checkEvent(Event.ID choice) {
+        Event event = this.peekEvent();
+        return event != null && event.is(choice);
+    }
+
+    @Override
+    public @Nullable Event peekEvent() {
+        if (this.events.isEmpty()) this.readEvents();
+        return this.events.peek();
+    }
+
+    @Override
+    public @Nullable Event getEvent() {
+        if (this.events.isEmpty()) this.readEvents();
+        return this.events.poll();
+    }
+
+    /**
+     * Used to read events from the parser until
+     * there is at least one event to return.
+     */
+    private void readEvents() {
+        while (this.events.isEmpty()) {
+            Event event = this.parser.getEvent();
+            if (event == null) return;
+
+            // Pass on every event within a selected value.
+            if (this.depth > 0) {
+                if (event instanceof CollectionStartEvent) this.depth++;
+                if (event instanceof CollectionEndEvent) this.depth--;
+                this.events.add(event);
+                continue;
+            }
+
+            // Pass on the stream and document events, and the root value.
+            if (this.sections.isEmpty()) {
+                if (event instanceof MappingStartEvent) this.sections.push("");
+                this.events.add(event);
+                continue;
+            }
+
+            // The end of a section that is being kept.
+            if (event instanceof CollectionEndEvent) {
+                this.sections.pop();
+                this.events.add(event);
+                continue;
+            }
+
+            this.readEntry(event);
+        }
+    }
+
+    /**
+     * Used to read an entry of a section that contains
+     * selected paths, starting with its key.
+     *
+     * @param key The event of the key.
+     */
+    private void readEntry(@NotNull Event key) {
+        Event value = this.parser.getEvent();
+
+        // Only keys that are scalars can be part of a path.
+        if (!(key instanceof ScalarEvent scalar)) {
+            this.skip(key);
+            this.skip(value);
+            return;
+        }
+
+        String section = this.sections.peek();
+        String path = section == null || section.isEmpty()
+                ? scalar.getValue()
+                : section + "." + scalar.getValue();
+
+        if (this.paths.contains(path)) {
+            this.events.add(key);
+            this.events.add(value);
+            if (value instanceof CollectionStartEvent) this.depth = 1;
+            return;
+        }
+
+        if (this.parents.contains(path) && value instanceof MappingStartEvent) {
+            this.events.add(key);
+            this.events.add(value);
+            this.sections.push(path);
+            return;
+        }
+
+        this.skip(value);
+    }
+
+    /**
+     * Used to read and drop the events of a value.
+     *
+     * @param event The first event of the value.
+     */
+    private void skip(@NotNull Event event) {
+        if (!(event instanceof CollectionStartEvent)) return;
+
+        int depth = 1;
+        while (depth > 0) {
+            Event next = this.parser.getEvent();
+            if (next instanceof CollectionStartEvent) depth++;
+            if (next instanceof CollectionEndEvent) depth--;
+        }
+    }
+}
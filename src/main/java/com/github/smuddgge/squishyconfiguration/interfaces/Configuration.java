@@ -1,6 +1,10 @@
 package com.github.smuddgge.squishyconfiguration.interfaces;
 
 import com.github.smuddgge.squishyconfiguration.ConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryOptions;
+import com.github.smuddgge.squishyconfiguration.memory.PathIndex;
+import com.github.smuddgge.squishyconfiguration.memory.ValueCache;
+import com.github.smuddgge.squishyconfiguration.utility.ExecutorUtility;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -8,12 +12,33 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Represents a configuration file interface.
  */
 public interface Configuration extends ConfigurationSection {
 
+    /**
+     * Represents a configuration listener.
+     * <p>
+     * Used to listen to configuration events.
+     */
+    interface Listener {
+
+        /**
+         * Called when the configuration is loaded again
+         * because its file has changed, see {@link Configuration#reloadIfChanged()}.
+         *
+         * @param configuration The configuration instance.
+         */
+        void onReload(@NotNull Configuration configuration);
+    }
+
     /**
      * Used to get the absolute path.
      * Combines the absolute path from the folder and path.
@@ -68,6 +93,210 @@ public interface Configuration extends ConfigurationSection {
      */
     @NotNull Configuration setResourcePath(@NotNull String path);
 
+    /**
+     * Used to check if saving waits for the file
+     * to be written to the storage device.
+     *
+     * @return True if saves are synced.
+     */
+    default boolean isSyncOnSave() {
+        return false;
+    }
+
+    /**
+     * Used to set if saving waits for the file
+     * to be written to the storage device.
+     * <p>
+     * Files are always replaced atomically, so they can't be
+     * left half written. Syncing also makes sure a save isn't
+     * lost if the machine loses power, but saves are slower.
+     *
+     * @param syncOnSave True to sync saves.
+     * @return This instance.
+     * @throws UnsupportedOperationException If the configuration can't sync saves.
+     */
+    default @NotNull Configuration setSyncOnSave(boolean syncOnSave) {
+        throw new UnsupportedOperationException("Synced saves are not supported by this configuration.");
+    }
+
+    /**
+     * Used to check if the tree read from the
+     * file is cached in a binary file.
+     *
+     * @return True if the tree cache is enabled.
+     */
+    default boolean isTreeCache() {
+        return false;
+    }
+
+    /**
+     * Used to set if the tree read from the
+     * file is cached in a binary file.
+     * <p>
+     * After the file is parsed, its tree is written to the cache
+     * with the file's size, last modified time and checksum.
+     * The next load reads the cache instead of parsing the file,
+     * as long as the file hasn't changed. If the cache is out of
+     * date or damaged, the file is parsed as normal.
+     * <p>
+     * Saving removes the cache, as the values in memory can have
+     * different types to the values parsed from the file.
+     * It is written again the next time the file is parsed.
+     * <pre>{@code
+     * configuration.setTreeCache(true);
+     * configuration.load();
+     * }</pre>
+     *
+     * @param treeCache True to enable the tree cache.
+     * @return This instance.
+     */
+    default @NotNull Configuration setTreeCache(boolean treeCache) {
+        return this;
+    }
+
+    /**
+     * Used to get the folder the tree cache is kept in.
+     *
+     * @return The cache folder, or null if the cache
+     *         is a hidden file next to the file.
+     */
+    default @Nullable File getTreeCacheFolder() {
+        return null;
+    }
+
+    /**
+     * Used to set the folder the tree cache is kept in.
+     *
+     * @param folder The cache folder, or null to keep the
+     *               cache in a hidden file next to the file.
+     * @return This instance.
+     */
+    default @NotNull Configuration setTreeCacheFolder(@Nullable File folder) {
+        return this;
+    }
+
+    /**
+     * Used to get the cache of converted values.
+     * <p>
+     * When enabled, values returned by the typed getters
+     * such as {@link #getInteger(String)} are cached until
+     * the configuration is changed or loaded again.
+     * <pre>{@code
+     * configuration.getValueCache().setEnabled(true);
+     * }</pre>
+     *
+     * @return The value cache.
+     * @throws UnsupportedOperationException If the configuration has no value cache.
+     */
+    default @NotNull ValueCache getValueCache() {
+        throw new UnsupportedOperationException("Value caches are not supported by this configuration.");
+    }
+
+    /**
+     * Used to get the flattened index of paths to values.
+     * <p>
+     * When enabled, values are found with a single lookup of
+     * their full path, instead of walking through each section.
+     * This uses more memory, so it is disabled by default.
+     * The index is built when the configuration is loaded,
+     * so it should be enabled before loading.
+     * <pre>{@code
+     * configuration.getPathIndex().setEnabled(true);
+     * configuration.load();
+     * }</pre>
+     *
+     * @return The path index.
+     * @throws UnsupportedOperationException If the configuration has no path index.
+     */
+    default @NotNull PathIndex getPathIndex() {
+        throw new UnsupportedOperationException("Path indexes are not supported by this configuration.");
+    }
+
+    /**
+     * Used to get the options used to store the values.
+     * <p>
+     * Options that change how values are stored are
+     * applied the next time the configuration is loaded.
+     * <pre>{@code
+     * configuration.getOptions().setPrimitiveLists(true);
+     * }</pre>
+     *
+     * @return The memory options.
+     * @throws UnsupportedOperationException If the configuration has no memory options.
+     */
+    default @NotNull MemoryOptions getOptions() {
+        throw new UnsupportedOperationException("Memory options are not supported by this configuration.");
+    }
+
+    /**
+     * Used to load the configuration file again,
+     * only if it has changed since it was last loaded or saved.
+     * <p>
+     * The file's size and last modified time are checked first,
+     * so an unchanged file is not read. If they are different,
+     * the content is only parsed when its checksum has changed.
+     * Like {@link #load()}, changes that have not been saved are lost.
+     * <p>
+     * The listeners are called if the file was loaded again.
+     * <p>
+     * By default, the file is always loaded again.
+     *
+     * @return True if the file had changed and was loaded again.
+     */
+    default boolean reloadIfChanged() {
+        return this.load();
+    }
+
+    /**
+     * Used to get the list of this configuration's listeners.
+     *
+     * @return The list of configuration listeners.
+     */
+    default @NotNull List<Listener> getListeners() {
+        return List.of();
+    }
+
+    /**
+     * Used to add a listener to this configuration.
+     *
+     * @param listener The instance of the listener.
+     * @return This instance.
+     * @throws UnsupportedOperationException If the configuration has no listeners.
+     */
+    default @NotNull Configuration addListener(@NotNull Listener listener) {
+        throw new UnsupportedOperationException("Listeners are not supported by this configuration.");
+    }
+
+    /**
+     * Used to check if the configuration has been changed
+     * since it was last loaded or saved.
+     * <p>
+     * Values set through this configuration, its sections
+     * and batches all count as changes.
+     * <p>
+     * By default, changes are not tracked,
+     * so the configuration is always dirty.
+     *
+     * @return True if there are changes to save.
+     */
+    default boolean isDirty() {
+        return true;
+    }
+
+    /**
+     * Used to get the paths changed since the
+     * configuration was last loaded or saved.
+     * <p>
+     * Paths are only recorded when enabled with
+     * {@link MemoryOptions#setDirtyPaths(boolean)}.
+     * An empty path means the whole configuration was replaced.
+     *
+     * @return An unmodifiable view of the dirty paths.
+     */
+    default @NotNull Set<String> getDirtyPaths() {
+        return Set.of("");
+    }
+
     /**
      * Used to load the configuration file to the
      * class instance.
@@ -79,11 +308,83 @@ public interface Configuration extends ConfigurationSection {
     /**
      * Used to save the instance of the data to
      * the configuration file.
+     * <p>
+     * If the configuration is not dirty,
+     * the file is not written again.
      *
      * @return True if successful.
      */
     boolean save();
 
+    /**
+     * Used to get the executor used to load
+     * and save the file in the background.
+     *
+     * @return The executor.
+     */
+    default @NotNull Executor getExecutor() {
+        return ExecutorUtility.getDefaultExecutor();
+    }
+
+    /**
+     * Used to set the executor used to load
+     * and save the file in the background.
+     * <p>
+     * By default, a shared executor is used that runs each
+     * task on a virtual thread on java 21 or newer,
+     * or on a pool of daemon threads otherwise.
+     *
+     * @param executor The executor to use.
+     * @return This instance.
+     * @throws UnsupportedOperationException If the executor can't be changed.
+     */
+    default @NotNull Configuration setExecutor(@NotNull Executor executor) {
+        throw new UnsupportedOperationException("Custom executors are not supported by this configuration.");
+    }
+
+    /**
+     * Used to load the configuration file
+     * using the executor.
+     * <p>
+     * The loaded data replaces the data in one step,
+     * so values read while loading are never half loaded.
+     * Values set while loading may be replaced.
+     *
+     * @return A future completed with true if successful.
+     */
+    default @NotNull CompletableFuture<Boolean> loadAsync() {
+        return CompletableFuture.supplyAsync(this::load, this.getExecutor());
+    }
+
+    /**
+     * Used to save the configuration file
+     * using the executor.
+     * <p>
+     * The data is copied when this is called, so values can
+     * still be set while the file is written. If a save is
+     * already waiting to be written, it will write this
+     * newer data instead, and both return the same future.
+     *
+     * @return A future completed with true if successful.
+     */
+    default @NotNull CompletableFuture<Boolean> saveAsync() {
+        return CompletableFuture.supplyAsync(this::save, this.getExecutor());
+    }
+
+    /**
+     * Used to set many values together and then
+     * save the configuration file once.
+     * <p>
+     * See {@link ConfigurationSection#batch(Consumer)}.
+     *
+     * @param batch The consumer used to record the changes.
+     * @return True if the file was saved successfully.
+     */
+    default boolean batchAndSave(@NotNull Consumer<Batch> batch) {
+        this.batch(batch);
+        return this.save();
+    }
+
     /**
      * Used to attempt to create the file.
      *
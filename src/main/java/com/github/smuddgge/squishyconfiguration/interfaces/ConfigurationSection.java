@@ -1,13 +1,68 @@
 package com.github.smuddgge.squishyconfiguration.interfaces;
 
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import com.github.smuddgge.squishyconfiguration.utility.ConversionUtility;
+import com.github.smuddgge.squishyconfiguration.utility.MemoryUtility;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Represents a configuration section interface.
  */
 public interface ConfigurationSection {
 
+    /**
+     * Represents a group of changes that are
+     * made to a configuration section together.
+     * <p>
+     * Changes are recorded in order and made when the
+     * batch is applied, see {@link ConfigurationSection#batch(Consumer)}.
+     */
+    interface Batch {
+
+        /**
+         * Used to set a value in the section.
+         * Setting a value to null will remove it.
+         *
+         * @param path  The location of the value in the section.
+         * @param value The value to set.
+         * @return This instance.
+         */
+        @NotNull Batch set(@NotNull String path, @Nullable Object value);
+
+        /**
+         * Used to set a value in the section using a precompiled path.
+         * Setting a value to null will remove it.
+         *
+         * @param path  The precompiled location of the value.
+         * @param value The value to set.
+         * @return This instance.
+         */
+        @NotNull Batch set(@NotNull ConfigPath path, @Nullable Object value);
+
+        /**
+         * Used to remove a value from the section.
+         *
+         * @param path The location of the value in the section.
+         * @return This instance.
+         */
+        @NotNull Batch remove(@NotNull String path);
+
+        /**
+         * Used to remove a value from the section using a precompiled path.
+         *
+         * @param path The precompiled location of the value.
+         * @return This instance.
+         */
+        @NotNull Batch remove(@NotNull ConfigPath path);
+    }
+
     /**
      * Used to get the location of the configuration
      * section from the base section.
@@ -49,12 +104,24 @@ public interface ConfigurationSection {
      */
     void set(String path, Object value);
 
+    /**
+     * Used to set or create a value using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#set(String, Object)}.
+     *
+     * @param path  The precompiled location to set the value.
+     * @param value The value to be set in the config.
+     */
+    default void set(ConfigPath path, Object value) {
+        this.set(path.toString(), value);
+    }
+
     /**
      * Used to set or create a value in the configuration section
-     * and not save it to the base section.
+     * without going through the base section.
      * <ul>
-     *     <li>This will only be saved in this configuration section
-     *         and not update the base section.</li>
+     *     <li>If this section is a view of a section that exists in the base
+     *         section, the change will also be seen in the base section.</li>
      *     <li>If the value is null it will remove the key and value.</li>
      *     <li>If the path is null, it will be set as the configuration section.</li>
      * </ul>
@@ -64,6 +131,70 @@ public interface ConfigurationSection {
      */
     void setInSection(String path, Object value);
 
+    /**
+     * Used to set or create a value in the configuration section
+     * using a precompiled path, without saving it to the base section.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#setInSection(String, Object)}.
+     *
+     * @param path  The precompiled location to set the value.
+     * @param value The value to be set in the section.
+     */
+    default void setInSection(ConfigPath path, Object value) {
+        this.setInSection(path.toString(), value);
+    }
+
+    /**
+     * Used to set many values in this section together.
+     * <p>
+     * The changes are recorded by the consumer and then made
+     * in order, finding each section once and counting the
+     * whole batch as a single change. If the consumer throws
+     * an exception, no changes are made.
+     * <pre>{@code
+     * section.batch(batch -> batch
+     *         .set("a.b", 1)
+     *         .set("a.c", 2)
+     *         .remove("d")
+     * );
+     * }</pre>
+     * <p>
+     * By default, the recorded changes are made one
+     * at a time with {@link #set(String, Object)}.
+     *
+     * @param batch The consumer used to record the changes.
+     */
+    default void batch(@NotNull Consumer<Batch> batch) {
+        List<Map.Entry<String, Object>> changes = new ArrayList<>();
+
+        batch.accept(new Batch() {
+            @Override
+            public @NotNull Batch set(@NotNull String path, @Nullable Object value) {
+                changes.add(new AbstractMap.SimpleEntry<>(path, value));
+                return this;
+            }
+
+            @Override
+            public @NotNull Batch set(@NotNull ConfigPath path, @Nullable Object value) {
+                return this.set(path.toString(), value);
+            }
+
+            @Override
+            public @NotNull Batch remove(@NotNull String path) {
+                return this.set(path, null);
+            }
+
+            @Override
+            public @NotNull Batch remove(@NotNull ConfigPath path) {
+                return this.set(path.toString(), null);
+            }
+        });
+
+        for (Map.Entry<String, Object> change : changes) {
+            this.set(change.getKey(), change.getValue());
+        }
+    }
+
     /**
      * Used to get any value from the configuration file.
      * <ul>
@@ -76,6 +207,19 @@ public interface ConfigurationSection {
      */
     Object get(String path, Object alternative);
 
+    /**
+     * Used to get any value using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#get(String, Object)}.
+     *
+     * @param path        The precompiled location of the value.
+     * @param alternative The alternative value.
+     * @return The requested value.
+     */
+    default Object get(ConfigPath path, Object alternative) {
+        return this.get(path.toString(), alternative);
+    }
+
     /**
      * Used to get any value from the configuration section.
      * <ul>
@@ -87,6 +231,18 @@ public interface ConfigurationSection {
      */
     Object get(String path);
 
+    /**
+     * Used to get any value using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#get(String)}.
+     *
+     * @param path The precompiled location of the value.
+     * @return The requested value.
+     */
+    default Object get(ConfigPath path) {
+        return this.get(path.toString());
+    }
+
     /**
      * Used to fill a class with the configuration values.
      * The section will be mapped on to the class.
@@ -102,6 +258,22 @@ public interface ConfigurationSection {
      */
     <T> T getClass(String path, Class<T> clazz, T alternative);
 
+    /**
+     * Used to fill a class with the configuration values
+     * using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getClass(String, Class, Object)}.
+     *
+     * @param <T>         The class type.
+     * @param path        The precompiled location of the value.
+     * @param clazz       The class to map the values onto.
+     * @param alternative The alternative value.
+     * @return An instance of the class.
+     */
+    default <T> T getClass(ConfigPath path, Class<T> clazz, T alternative) {
+        return this.getClass(path.toString(), clazz, alternative);
+    }
+
     /**
      * Used to fill a class with the configuration values.
      * The section will be mapped on to the class.
@@ -116,9 +288,25 @@ public interface ConfigurationSection {
      */
     <T> T getClass(String path, Class<T> clazz);
 
+    /**
+     * Used to fill a class with the configuration values
+     * using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getClass(String, Class)}.
+     *
+     * @param <T>   The class type.
+     * @param path  The precompiled location of the value.
+     * @param clazz The class to map the values onto.
+     * @return An instance of the class.
+     */
+    default <T> T getClass(ConfigPath path, Class<T> clazz) {
+        return this.getClass(path.toString(), clazz);
+    }
+
     /**
      * Used to get a configuration section.
      * <ul>
+     *     <li>The section is a live view, changes made to it are made in this section.</li>
      *     <li>If the path does not exist it will create a temporary empty section.</li>
      * </ul>
      *
@@ -127,6 +315,18 @@ public interface ConfigurationSection {
      */
     ConfigurationSection getSection(String path);
 
+    /**
+     * Used to get a configuration section using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getSection(String)}.
+     *
+     * @param path The precompiled location of the configuration section.
+     * @return An instance of the configuration section.
+     */
+    default ConfigurationSection getSection(ConfigPath path) {
+        return this.getSection(path.toString());
+    }
+
     /**
      * Used to get the keys in this configuration section.
      * <ul>
@@ -148,6 +348,19 @@ public interface ConfigurationSection {
      */
     List<String> getKeys(String path);
 
+    /**
+     * Used to get the keys in a configuration section
+     * using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getKeys(String)}.
+     *
+     * @param path The precompiled location of the configuration section.
+     * @return The configuration sections keys.
+     */
+    default List<String> getKeys(ConfigPath path) {
+        return this.getKeys(path.toString());
+    }
+
     /**
      * Used to get a string.
      * <ul>
@@ -161,6 +374,19 @@ public interface ConfigurationSection {
      */
     String getString(String path, String alternative);
 
+    /**
+     * Used to get a string using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getString(String, String)}.
+     *
+     * @param path        The precompiled location of the string.
+     * @param alternative The alternative value.
+     * @return The requested string.
+     */
+    default String getString(ConfigPath path, String alternative) {
+        return this.getString(path.toString(), alternative);
+    }
+
     /**
      * Used to get a string.
      * <ul>
@@ -173,6 +399,18 @@ public interface ConfigurationSection {
      */
     String getString(String path);
 
+    /**
+     * Used to get a string using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getString(String)}.
+     *
+     * @param path The precompiled location of the string.
+     * @return The requested string.
+     */
+    default String getString(ConfigPath path) {
+        return this.getString(path.toString());
+    }
+
     /**
      * Used to check if a value is a string.
      *
@@ -181,6 +419,18 @@ public interface ConfigurationSection {
      */
     boolean isString(String path);
 
+    /**
+     * Used to check if a value is a string using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isString(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is a string.
+     */
+    default boolean isString(ConfigPath path) {
+        return this.isString(path.toString());
+    }
+
     /**
      * Used to get the value as a string.
      * <ul>
@@ -195,6 +445,19 @@ public interface ConfigurationSection {
      */
     String getAdaptedString(String path, String join);
 
+    /**
+     * Used to get the value as a string using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getAdaptedString(String, String)}.
+     *
+     * @param path The precompiled location of the value.
+     * @param join The string to join lists with.
+     * @return The adapted string.
+     */
+    default String getAdaptedString(ConfigPath path, String join) {
+        return this.getAdaptedString(path.toString(), join);
+    }
+
     /**
      * Used to get the value as a string.
      * <ul>
@@ -210,6 +473,20 @@ public interface ConfigurationSection {
      */
     String getAdaptedString(String path, String join, String alternative);
 
+    /**
+     * Used to get the value as a string using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getAdaptedString(String, String, String)}.
+     *
+     * @param path        The precompiled location of the value.
+     * @param join        The string to join lists with.
+     * @param alternative The alternative value.
+     * @return The adapted string.
+     */
+    default String getAdaptedString(ConfigPath path, String join, String alternative) {
+        return this.getAdaptedString(path.toString(), join, alternative);
+    }
+
     /**
      * Used to get an integer.
      * Will attempt to convert doubles and longs to int.
@@ -224,6 +501,19 @@ public interface ConfigurationSection {
      */
     int getInteger(String path, int alternative);
 
+    /**
+     * Used to get an integer using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getInteger(String, int)}.
+     *
+     * @param path        The precompiled location of the integer.
+     * @param alternative The alternative value.
+     * @return The requested integer.
+     */
+    default int getInteger(ConfigPath path, int alternative) {
+        return this.getInteger(path.toString(), alternative);
+    }
+
     /**
      * Used to get an integer.
      * Will attempt to convert doubles and longs to int.
@@ -237,6 +527,18 @@ public interface ConfigurationSection {
      */
     int getInteger(String path);
 
+    /**
+     * Used to get an integer using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getInteger(String)}.
+     *
+     * @param path The precompiled location of the integer.
+     * @return The requested integer.
+     */
+    default int getInteger(ConfigPath path) {
+        return this.getInteger(path.toString());
+    }
+
     /**
      * Used to check if a value is an integer.
      * This won't return true if its double or long but
@@ -248,6 +550,18 @@ public interface ConfigurationSection {
      */
     boolean isInteger(String path);
 
+    /**
+     * Used to check if a value is an integer using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isInteger(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is an integer.
+     */
+    default boolean isInteger(ConfigPath path) {
+        return this.isInteger(path.toString());
+    }
+
     /**
      * Used to get a long.
      * <ul>
@@ -262,6 +576,19 @@ public interface ConfigurationSection {
      */
     long getLong(String path, long alternative);
 
+    /**
+     * Used to get a long using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getLong(String, long)}.
+     *
+     * @param path        The precompiled location of the long.
+     * @param alternative The alternative value.
+     * @return The requested long.
+     */
+    default long getLong(ConfigPath path, long alternative) {
+        return this.getLong(path.toString(), alternative);
+    }
+
     /**
      * Used to get a long.
      * <ul>
@@ -275,6 +602,18 @@ public interface ConfigurationSection {
      */
     long getLong(String path);
 
+    /**
+     * Used to get a long using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getLong(String)}.
+     *
+     * @param path The precompiled location of the long.
+     * @return The requested long.
+     */
+    default long getLong(ConfigPath path) {
+        return this.getLong(path.toString());
+    }
+
     /**
      * Used to check if a value is a long.
      *
@@ -283,6 +622,18 @@ public interface ConfigurationSection {
      */
     boolean isLong(String path);
 
+    /**
+     * Used to check if a value is a long using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isLong(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is a long.
+     */
+    default boolean isLong(ConfigPath path) {
+        return this.isLong(path.toString());
+    }
+
     /**
      * Used to get a double.
      * <ul>
@@ -297,6 +648,19 @@ public interface ConfigurationSection {
      */
     double getDouble(String path, double alternative);
 
+    /**
+     * Used to get a double using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getDouble(String, double)}.
+     *
+     * @param path        The precompiled location of the double.
+     * @param alternative The alternative value.
+     * @return The requested double.
+     */
+    default double getDouble(ConfigPath path, double alternative) {
+        return this.getDouble(path.toString(), alternative);
+    }
+
     /**
      * Used to get a double.
      * <ul>
@@ -310,6 +674,18 @@ public interface ConfigurationSection {
      */
     double getDouble(String path);
 
+    /**
+     * Used to get a double using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getDouble(String)}.
+     *
+     * @param path The precompiled location of the double.
+     * @return The requested double.
+     */
+    default double getDouble(ConfigPath path) {
+        return this.getDouble(path.toString());
+    }
+
     /**
      * Used to check if a value is a double.
      *
@@ -318,6 +694,18 @@ public interface ConfigurationSection {
      */
     boolean isDouble(String path);
 
+    /**
+     * Used to check if a value is a double using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isDouble(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is a double.
+     */
+    default boolean isDouble(ConfigPath path) {
+        return this.isDouble(path.toString());
+    }
+
     /**
      * Used to get a boolean.
      * <ul>
@@ -331,6 +719,19 @@ public interface ConfigurationSection {
      */
     boolean getBoolean(String path, boolean alternative);
 
+    /**
+     * Used to get a boolean using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getBoolean(String, boolean)}.
+     *
+     * @param path        The precompiled location of the boolean.
+     * @param alternative The alternative value.
+     * @return The requested boolean.
+     */
+    default boolean getBoolean(ConfigPath path, boolean alternative) {
+        return this.getBoolean(path.toString(), alternative);
+    }
+
     /**
      * Used to get a boolean.
      * <ul>
@@ -343,6 +744,18 @@ public interface ConfigurationSection {
      */
     boolean getBoolean(String path);
 
+    /**
+     * Used to get a boolean using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getBoolean(String)}.
+     *
+     * @param path The precompiled location of the boolean.
+     * @return The requested boolean.
+     */
+    default boolean getBoolean(ConfigPath path) {
+        return this.getBoolean(path.toString());
+    }
+
     /**
      * Used to check if a value is a boolean.
      *
@@ -351,6 +764,18 @@ public interface ConfigurationSection {
      */
     boolean isBoolean(String path);
 
+    /**
+     * Used to check if a value is a boolean using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isBoolean(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is a boolean.
+     */
+    default boolean isBoolean(ConfigPath path) {
+        return this.isBoolean(path.toString());
+    }
+
     /**
      * Used to get a list.
      * <ul>
@@ -364,6 +789,19 @@ public interface ConfigurationSection {
      */
     List<?> getList(String path, List<?> alternative);
 
+    /**
+     * Used to get a list using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getList(String, List)}.
+     *
+     * @param path        The precompiled location of the list.
+     * @param alternative The alternative list.
+     * @return The requested list.
+     */
+    default List<?> getList(ConfigPath path, List<?> alternative) {
+        return this.getList(path.toString(), alternative);
+    }
+
     /**
      * Used to get a list.
      * <ul>
@@ -376,6 +814,18 @@ public interface ConfigurationSection {
      */
     List<?> getList(String path);
 
+    /**
+     * Used to get a list using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getList(String)}.
+     *
+     * @param path The precompiled location of the list.
+     * @return The requested list.
+     */
+    default List<?> getList(ConfigPath path) {
+        return this.getList(path.toString());
+    }
+
     /**
      * Used to check if a value is a list.
      *
@@ -384,6 +834,18 @@ public interface ConfigurationSection {
      */
     boolean isList(String path);
 
+    /**
+     * Used to check if a value is a list using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isList(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is a list.
+     */
+    default boolean isList(ConfigPath path) {
+        return this.isList(path.toString());
+    }
+
     /**
      * Used to get a list of strings.
      * <ul>
@@ -397,6 +859,19 @@ public interface ConfigurationSection {
      */
     List<String> getListString(String path, List<String> alternative);
 
+    /**
+     * Used to get a list of strings using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getListString(String, List)}.
+     *
+     * @param path        The precompiled location of the string list.
+     * @param alternative The alternative string list.
+     * @return The requested list of strings.
+     */
+    default List<String> getListString(ConfigPath path, List<String> alternative) {
+        return this.getListString(path.toString(), alternative);
+    }
+
     /**
      * Used to get a list of strings.
      * <ul>
@@ -409,6 +884,18 @@ public interface ConfigurationSection {
      */
     List<String> getListString(String path);
 
+    /**
+     * Used to get a list of strings using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getListString(String)}.
+     *
+     * @param path The precompiled location of the string list.
+     * @return The requested list of strings.
+     */
+    default List<String> getListString(ConfigPath path) {
+        return this.getListString(path.toString());
+    }
+
     /**
      * Used to get a list of integers.
      * <ul>
@@ -422,6 +909,19 @@ public interface ConfigurationSection {
      */
     List<Integer> getListInteger(String path, List<Integer> alternative);
 
+    /**
+     * Used to get a list of integers using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getListInteger(String, List)}.
+     *
+     * @param path        The precompiled location of the integer list.
+     * @param alternative The alternative value.
+     * @return The requested list of integers.
+     */
+    default List<Integer> getListInteger(ConfigPath path, List<Integer> alternative) {
+        return this.getListInteger(path.toString(), alternative);
+    }
+
     /**
      * Used to get a list of integers.
      * <ul>
@@ -434,6 +934,281 @@ public interface ConfigurationSection {
      */
     List<Integer> getListInteger(String path);
 
+    /**
+     * Used to get a list of integers using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getListInteger(String)}.
+     *
+     * @param path The precompiled location of the integer list.
+     * @return The requested list of integers.
+     */
+    default List<Integer> getListInteger(ConfigPath path) {
+        return this.getListInteger(path.toString());
+    }
+
+    /**
+     * Used to get an int array.
+     * <p>
+     * A new array is always returned, so changing
+     * it doesn't change the section.
+     * Long and double values are narrowed.
+     * <ul>
+     *     <li>If the path does not exist it will return the alternative value.</li>
+     *     <li>If the value is not a number list it will return the alternative value.</li>
+     * </ul>
+     *
+     * @param path        The location of the int array in this configuration section.
+     * @param alternative The alternative value.
+     * @return The requested int array.
+     */
+    default int[] getIntArray(String path, int[] alternative) {
+        int[] array = ConversionUtility.asIntArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    /**
+     * Used to get an int array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getIntArray(String, int[])}.
+     *
+     * @param path        The precompiled location of the int array.
+     * @param alternative The alternative value.
+     * @return The requested int array.
+     */
+    default int[] getIntArray(ConfigPath path, int[] alternative) {
+        return this.getIntArray(path.toString(), alternative);
+    }
+
+    /**
+     * Used to get an int array.
+     * <ul>
+     *     <li>If the path does not exist it will return null.</li>
+     *     <li>If the value is not a number list it will return null.</li>
+     * </ul>
+     *
+     * @param path The location of the int array in this configuration section.
+     * @return The requested int array.
+     */
+    default int[] getIntArray(String path) {
+        return this.getIntArray(path, null);
+    }
+
+    /**
+     * Used to get an int array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getIntArray(String)}.
+     *
+     * @param path The precompiled location of the int array.
+     * @return The requested int array.
+     */
+    default int[] getIntArray(ConfigPath path) {
+        return this.getIntArray(path.toString());
+    }
+
+    /**
+     * Used to get a long array.
+     * <p>
+     * A new array is always returned, so changing
+     * it doesn't change the section.
+     * Double values are narrowed.
+     * <ul>
+     *     <li>If the path does not exist it will return the alternative value.</li>
+     *     <li>If the value is not a number list it will return the alternative value.</li>
+     * </ul>
+     *
+     * @param path        The location of the long array in this configuration section.
+     * @param alternative The alternative value.
+     * @return The requested long array.
+     */
+    default long[] getLongArray(String path, long[] alternative) {
+        long[] array = ConversionUtility.asLongArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    /**
+     * Used to get a long array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getLongArray(String, long[])}.
+     *
+     * @param path        The precompiled location of the long array.
+     * @param alternative The alternative value.
+     * @return The requested long array.
+     */
+    default long[] getLongArray(ConfigPath path, long[] alternative) {
+        return this.getLongArray(path.toString(), alternative);
+    }
+
+    /**
+     * Used to get a long array.
+     * <ul>
+     *     <li>If the path does not exist it will return null.</li>
+     *     <li>If the value is not a number list it will return null.</li>
+     * </ul>
+     *
+     * @param path The location of the long array in this configuration section.
+     * @return The requested long array.
+     */
+    default long[] getLongArray(String path) {
+        return this.getLongArray(path, null);
+    }
+
+    /**
+     * Used to get a long array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getLongArray(String)}.
+     *
+     * @param path The precompiled location of the long array.
+     * @return The requested long array.
+     */
+    default long[] getLongArray(ConfigPath path) {
+        return this.getLongArray(path.toString());
+    }
+
+    /**
+     * Used to get a double array.
+     * <p>
+     * A new array is always returned, so changing
+     * it doesn't change the section.
+     * <ul>
+     *     <li>If the path does not exist it will return the alternative value.</li>
+     *     <li>If the value is not a number list it will return the alternative value.</li>
+     * </ul>
+     *
+     * @param path        The location of the double array in this configuration section.
+     * @param alternative The alternative value.
+     * @return The requested double array.
+     */
+    default double[] getDoubleArray(String path, double[] alternative) {
+        double[] array = ConversionUtility.asDoubleArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    /**
+     * Used to get a double array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getDoubleArray(String, double[])}.
+     *
+     * @param path        The precompiled location of the double array.
+     * @param alternative The alternative value.
+     * @return The requested double array.
+     */
+    default double[] getDoubleArray(ConfigPath path, double[] alternative) {
+        return this.getDoubleArray(path.toString(), alternative);
+    }
+
+    /**
+     * Used to get a double array.
+     * <ul>
+     *     <li>If the path does not exist it will return null.</li>
+     *     <li>If the value is not a number list it will return null.</li>
+     * </ul>
+     *
+     * @param path The location of the double array in this configuration section.
+     * @return The requested double array.
+     */
+    default double[] getDoubleArray(String path) {
+        return this.getDoubleArray(path, null);
+    }
+
+    /**
+     * Used to get a double array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getDoubleArray(String)}.
+     *
+     * @param path The precompiled location of the double array.
+     * @return The requested double array.
+     */
+    default double[] getDoubleArray(ConfigPath path) {
+        return this.getDoubleArray(path.toString());
+    }
+
+    /**
+     * Used to get a boolean array.
+     * <p>
+     * A new array is always returned, so changing
+     * it doesn't change the section.
+     * <ul>
+     *     <li>If the path does not exist it will return the alternative value.</li>
+     *     <li>If the value is not a boolean list it will return the alternative value.</li>
+     * </ul>
+     *
+     * @param path        The location of the boolean array in this configuration section.
+     * @param alternative The alternative value.
+     * @return The requested boolean array.
+     */
+    default boolean[] getBooleanArray(String path, boolean[] alternative) {
+        boolean[] array = ConversionUtility.asBooleanArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    /**
+     * Used to get a boolean array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getBooleanArray(String, boolean[])}.
+     *
+     * @param path        The precompiled location of the boolean array.
+     * @param alternative The alternative value.
+     * @return The requested boolean array.
+     */
+    default boolean[] getBooleanArray(ConfigPath path, boolean[] alternative) {
+        return this.getBooleanArray(path.toString(), alternative);
+    }
+
+    /**
+     * Used to get a boolean array.
+     * <ul>
+     *     <li>If the path does not exist it will return null.</li>
+     *     <li>If the value is not a boolean list it will return null.</li>
+     * </ul>
+     *
+     * @param path The location of the boolean array in this configuration section.
+     * @return The requested boolean array.
+     */
+    default boolean[] getBooleanArray(String path) {
+        return this.getBooleanArray(path, null);
+    }
+
+    /**
+     * Used to get a boolean array using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getBooleanArray(String)}.
+     *
+     * @param path The precompiled location of the boolean array.
+     * @return The requested boolean array.
+     */
+    default boolean[] getBooleanArray(ConfigPath path) {
+        return this.getBooleanArray(path.toString());
+    }
+
+    /**
+     * Used to estimate the number of bytes of memory
+     * used by the values in this configuration section.
+     * <p>
+     * The estimate includes the maps, lists, keys and values,
+     * counting shared instances once.
+     *
+     * @return The estimated retained size in bytes.
+     */
+    default long getRetainedSize() {
+        return MemoryUtility.getRetainedSize(this.getMap());
+    }
+
+    /**
+     * Used to get a snapshot of this configuration section.
+     * <p>
+     * The snapshot is a frozen copy of the section. It can't be
+     * changed, and changes to this section won't appear in it,
+     * so it can be shared between threads without locks.
+     * <p>
+     * Snapshots are reused until the section is changed.
+     *
+     * @return The snapshot of this section.
+     * @throws UnsupportedOperationException If the section can't be frozen.
+     */
+    default ConfigurationSection snapshot() {
+        throw new UnsupportedOperationException("Snapshots are not supported by this section.");
+    }
+
     /**
      * Used to get the configuration section as a map.
      *
@@ -453,6 +1228,19 @@ public interface ConfigurationSection {
      */
     Map<String, Object> getMap(String path, Map<String, Object> alternative);
 
+    /**
+     * Used to get a configuration section as a map using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getMap(String, Map)}.
+     *
+     * @param path        The precompiled location of the map.
+     * @param alternative The alternative value.
+     * @return A map representing the configuration section.
+     */
+    default Map<String, Object> getMap(ConfigPath path, Map<String, Object> alternative) {
+        return this.getMap(path.toString(), alternative);
+    }
+
     /**
      * Used to get the configuration section as a map.
      * <ul>
@@ -464,6 +1252,18 @@ public interface ConfigurationSection {
      */
     Map<String, Object> getMap(String path);
 
+    /**
+     * Used to get a configuration section as a map using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#getMap(String)}.
+     *
+     * @param path The precompiled location of the map.
+     * @return A map representing the configuration section.
+     */
+    default Map<String, Object> getMap(ConfigPath path) {
+        return this.getMap(path.toString());
+    }
+
     /**
      * Used to check if a value is a map.
      *
@@ -471,4 +1271,16 @@ public interface ConfigurationSection {
      * @return True if the value is a map.
      */
     boolean isMap(String path);
+
+    /**
+     * Used to check if a value is a map using a precompiled path.
+     * <p>
+     * Behaves the same as {@link ConfigurationSection#isMap(String)}.
+     *
+     * @param path The precompiled path.
+     * @return True if the value is a map.
+     */
+    default boolean isMap(ConfigPath path) {
+        return this.isMap(path.toString());
+    }
 }
@@ -0,0 +1,72 @@
+package com.github.smuddgge.squishyconfiguration.memory;
+
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a batch of changes recorded
+ * for a memory configuration section.
+ * <p>
+ * Paths are recorded from the base section,
+ * so the batch can be applied to it directly.
+ */
+class MemoryBatch implements ConfigurationSection.Batch {
+
+    /**
+     * Represents a recorded change.
+     *
+     * @param path  The location of the value from the base section.
+     * @param value The value to set, or null to remove it.
+     */
+    record Operation(@NotNull ConfigPath path, @Nullable Object value) {
+    }
+
+    private final @Nullable ConfigPath rootPath;
+    private final @NotNull List<Operation> operations;
+
+    /**
+     * Used to create a new batch.
+     *
+     * @param rootPath The location of the section in the base section.
+     *                 Null if it is the base section.
+     */
+    MemoryBatch(@Nullable ConfigPath rootPath) {
+        this.rootPath = rootPath;
+        this.operations = new ArrayList<>();
+    }
+
+    /**
+     * Used to get the changes in the order they were recorded.
+     *
+     * @return The list of changes.
+     */
+    @NotNull List<Operation> getOperations() {
+        return this.operations;
+    }
+
+    @Override
+    public @NotNull ConfigurationSection.Batch set(@NotNull String path, @Nullable Object value) {
+        return this.set(ConfigPath.of(path), value);
+    }
+
+    @Override
+    public @NotNull ConfigurationSection.Batch set(@NotNull ConfigPath path, @Nullable Object value) {
+        this.operations.add(new Operation(this.rootPath == null ? path : this.rootPath.resolve(path), value));
+        return this;
+    }
+
+    @Override
+    public @NotNull ConfigurationSection.Batch remove(@NotNull String path) {
+        return this.set(path, null);
+    }
+
+    @Override
+    public @NotNull ConfigurationSection.Batch remove(@NotNull ConfigPath path) {
+        return this.set(path, null);
+    }
+}
@@ -1,13 +1,19 @@
 package com.github.smuddgge.squishyconfiguration.memory;
 
+import com.github.smuddgge.squishyconfiguration.binding.ObjectBinder;
 import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import com.github.smuddgge.squishyconfiguration.utility.CompactMap;
 import com.github.smuddgge.squishyconfiguration.utility.ConversionUtility;
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
+import com.github.smuddgge.squishyconfiguration.utility.MemoryUtility;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.temporal.TemporalAccessor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Represents a yaml configuration section
@@ -16,33 +22,129 @@ import java.util.*;
  *   <li>Base Section: The instance of the root configuration file section</li>
  *   <li>Section: A section of configuration</li>
  * </ul>
+ * <p>
+ * Sections returned by {@link #getSection(String)} are live views.
+ * They reference the nested map in the base section directly,
+ * so changes made through them are made in the base section.
+ * A view finds its map again after the base section is changed, so
+ * it follows sections that are created, replaced or loaded again.
+ * A view of a section that doesn't exist is empty.
+ * <p>
+ * If the {@link MemoryOptions} are concurrent, the section can be
+ * shared between threads. See {@link MemoryOptions#isConcurrent()}.
  */
 public class MemoryConfigurationSection implements ConfigurationSection {
 
     /**
      * Represents the base configuration section
      */
-    protected final ConfigurationSection baseSection;
+    protected final MemoryConfigurationSection baseSection;
 
     /**
      * Represents this configuration section
      */
-    protected Map<String, Object> data;
+    protected volatile Map<String, Object> data;
 
     /**
      * Represents the location of the section in the base section
      */
     protected final String rootPath;
 
+    /**
+     * Represents the number of changes made to the base section.
+     * Only used in the base section.
+     */
+    private final @NotNull AtomicLong modificationCount = new AtomicLong();
+
+    /**
+     * Represents the modification count when the base section
+     * was last loaded or saved. Only used in the base section.
+     */
+    private volatile long cleanModificationCount = -1;
+
+    /**
+     * Represents the paths changed since the base section
+     * was last loaded or saved.
+     * Only created for base sections.
+     */
+    private final @Nullable Set<String> dirtyPaths;
+
+    /**
+     * Represents the cache of converted values.
+     * Only created for base sections.
+     */
+    private final @Nullable ValueCache valueCache;
+
+    /**
+     * Represents the flattened index of paths to values.
+     * Only created for base sections.
+     */
+    private final @Nullable PathIndex pathIndex;
+
+    /**
+     * Represents the options used to store the data.
+     * Only created for base sections.
+     */
+    private final @Nullable MemoryOptions options;
+
+    /**
+     * Represents the locks used to set values, chosen
+     * by the top level key of the value's path.
+     * Only created for concurrent base sections.
+     */
+    private final @Nullable Object[] locks;
+
+    /**
+     * Represents the map a view last found in the base
+     * section, with the modification count it was found at.
+     * Only used in views created with {@link #getSection(ConfigPath)}.
+     */
+    private volatile @Nullable ResolvedData resolved;
+
+    /**
+     * Represents the last snapshot taken of the base section.
+     * Only used in the base section.
+     */
+    private volatile @Nullable SnapshotConfigurationSection snapshot;
+
+    /**
+     * The number of locks used by a concurrent section.
+     * Must be a power of two.
+     */
+    private static final int LOCK_COUNT = 16;
+
     /**
      * Used to create a new base configuration section
      *
      * @param base The data located in the base configuration section
      */
     public MemoryConfigurationSection(Map<String, Object> base) {
-        this.data = base;
+        this(base, new MemoryOptions());
+    }
+
+    /**
+     * Used to create a new base configuration section
+     * with options.
+     *
+     * @param base    The data located in the base configuration section
+     * @param options The options used to store the data.
+     */
+    @SuppressWarnings("unchecked")
+    public MemoryConfigurationSection(Map<String, Object> base, @NotNull MemoryOptions options) {
         this.baseSection = this;
         this.rootPath = null;
+        this.valueCache = new ValueCache();
+        this.pathIndex = new PathIndex();
+        this.options = options;
+        this.dirtyPaths = ConcurrentHashMap.newKeySet();
+        this.locks = options.isConcurrent() ? new Object[LOCK_COUNT] : null;
+
+        if (this.locks != null) {
+            for (int index = 0; index < LOCK_COUNT; index++) this.locks[index] = new Object();
+            this.data = (Map<String, Object>) ConversionUtility.toConcurrent(base);
+        } else {
+            this.data = base;
+        }
     }
 
     /**
@@ -55,6 +157,11 @@ public class MemoryConfigurationSection implements ConfigurationSection {
     public MemoryConfigurationSection(Map<String, Object> base, String path) {
         this.baseSection = new MemoryConfigurationSection(base);
         this.rootPath = path;
+        this.valueCache = null;
+        this.pathIndex = null;
+        this.options = null;
+        this.dirtyPaths = null;
+        this.locks = null;
 
         this.data = base;
         this.data = this.getSection(path).getMap();
@@ -72,6 +179,284 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         this.baseSection = new MemoryConfigurationSection(base);
         this.rootPath = path;
         this.data = data;
+        this.valueCache = null;
+        this.pathIndex = null;
+        this.options = null;
+        this.dirtyPaths = null;
+        this.locks = null;
+    }
+
+    /**
+     * Used to create a view of a subsection
+     * of an existing base section.
+     *
+     * @param baseSection The instance of the base section.
+     * @param path        The location of the subsection in the base section.
+     * @param data        The map located at the path in the base section.
+     * @param version     The modification count of the base section
+     *                    when the map was found.
+     */
+    protected MemoryConfigurationSection(@NotNull MemoryConfigurationSection baseSection, @NotNull String path, @NotNull Map<String, Object> data, long version) {
+        this.baseSection = baseSection;
+        this.rootPath = path;
+        this.data = data;
+        this.resolved = new ResolvedData(data, version);
+        this.valueCache = null;
+        this.pathIndex = null;
+        this.options = null;
+        this.dirtyPaths = null;
+        this.locks = null;
+    }
+
+    /**
+     * Used to create a new base section from data that
+     * was read, such as the tree parsed from a file.
+     * <p>
+     * The data is prepared the same way as loaded data,
+     * see {@link #prepareData(Map)}, and the section
+     * starts with no changes to save.
+     *
+     * @param data    The data that was read.
+     * @param options The options used to store the data.
+     * @return The new base section.
+     */
+    public static @NotNull MemoryConfigurationSection of(@NotNull Map<?, ?> data, @NotNull MemoryOptions options) {
+        MemoryConfigurationSection section = new MemoryConfigurationSection(new HashMap<>(), options);
+        section.setData(section.prepareData(data));
+        section.markClean(section.getModificationCount());
+        return section;
+    }
+
+    /**
+     * Used to get the number of changes made to the base section.
+     * <p>
+     * This is increased every time a value is set or the
+     * data is loaded, and can be used to check if values
+     * read earlier could be out of date.
+     *
+     * @return The modification count.
+     */
+    public long getModificationCount() {
+        return this.baseSection.modificationCount.get();
+    }
+
+    /**
+     * Used to record that the data in the base
+     * section has been changed.
+     */
+    protected void markModified() {
+        this.baseSection.modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Used to check if the base section has been changed
+     * since it was last loaded or saved.
+     * <p>
+     * A section that has never been loaded
+     * or saved is always dirty.
+     *
+     * @return True if there are changes to save.
+     */
+    public boolean isDirty() {
+        return this.getModificationCount() != this.baseSection.cleanModificationCount;
+    }
+
+    /**
+     * Used to get the paths changed since the base
+     * section was last loaded or saved.
+     * <p>
+     * Paths are only recorded when enabled with
+     * {@link MemoryOptions#setDirtyPaths(boolean)}.
+     * An empty path means the whole base section was replaced.
+     *
+     * @return An unmodifiable view of the dirty paths.
+     */
+    public @NotNull Set<String> getDirtyPaths() {
+        return Collections.unmodifiableSet(Objects.requireNonNull(this.baseSection.dirtyPaths));
+    }
+
+    /**
+     * Used to get the modification count when the base
+     * section was last loaded or saved.
+     *
+     * @return The clean modification count, or -1 if the
+     *         section has never been loaded or saved.
+     */
+    protected long getCleanModificationCount() {
+        return this.baseSection.cleanModificationCount;
+    }
+
+    /**
+     * Used to record that the base section has been
+     * loaded or saved at a modification count.
+     * <p>
+     * If it was changed after that count, it stays
+     * dirty along with its dirty paths.
+     *
+     * @param version The modification count of the data
+     *                that was loaded or saved.
+     */
+    protected void markClean(long version) {
+        MemoryConfigurationSection base = this.baseSection;
+        base.cleanModificationCount = version;
+        if (this.getModificationCount() == version) Objects.requireNonNull(base.dirtyPaths).clear();
+    }
+
+    /**
+     * Used to record a path that has been changed,
+     * if dirty paths are enabled.
+     *
+     * @param path The path from the base section.
+     */
+    private void markDirty(@NotNull String path) {
+        if (!this.getOptions().isDirtyPaths()) return;
+        Objects.requireNonNull(this.baseSection.dirtyPaths).add(path);
+    }
+
+    /**
+     * Used to get the cache of converted values
+     * for the base section.
+     * <p>
+     * The cache is disabled by default and is only used
+     * when reading values from the base section.
+     *
+     * @return The value cache.
+     */
+    public @NotNull ValueCache getValueCache() {
+        return Objects.requireNonNull(this.baseSection.valueCache);
+    }
+
+    /**
+     * Used to get the flattened index of paths
+     * to values for the base section.
+     * <p>
+     * The index is disabled by default and is only used
+     * when reading values from the base section.
+     *
+     * @return The path index.
+     */
+    public @NotNull PathIndex getPathIndex() {
+        return Objects.requireNonNull(this.baseSection.pathIndex);
+    }
+
+    /**
+     * Used to get the options used to store the
+     * data in the base section.
+     *
+     * @return The memory options.
+     */
+    public @NotNull MemoryOptions getOptions() {
+        return Objects.requireNonNull(this.baseSection.options);
+    }
+
+    /**
+     * Used to prepare data that has been loaded
+     * so it can be stored in this section.
+     * <p>
+     * Keys are converted to strings and the
+     * {@link MemoryOptions} are applied.
+     *
+     * @param map The loaded data.
+     * @return The data to store.
+     */
+    @SuppressWarnings("unchecked")
+    protected @NotNull Map<String, Object> prepareData(@NotNull Map<?, ?> map) {
+        Map<String, Object> data = (Map<String, Object>) ConversionUtility.convertKeys(map);
+        if (this.getOptions().isPrimitiveLists()) ConversionUtility.convertPrimitiveLists(data);
+
+        if (this.getOptions().isCompact()) {
+            boolean concurrent = this.getOptions().isConcurrent();
+            data = (Map<String, Object>) MemoryUtility.compact(data, new HashMap<>(), !concurrent);
+        }
+
+        if (this.getOptions().isConcurrent()) return (Map<String, Object>) ConversionUtility.toConcurrent(data);
+        return data;
+    }
+
+    @Override
+    public long getRetainedSize() {
+        return MemoryUtility.getRetainedSize(this.getData());
+    }
+
+    /**
+     * Used to replace the data in this section
+     * with data that has been loaded.
+     * <p>
+     * The data should be fully prepared, as it is
+     * visible to other threads as soon as it is set.
+     *
+     * @param data The new data.
+     */
+    protected void setData(@NotNull Map<String, Object> data) {
+        this.data = data;
+        this.markModified();
+
+        // Build the index while loading, rather than on the first read.
+        PathIndex index = this.pathIndex;
+        if (index != null && index.isEnabled()) {
+            long version = this.getModificationCount();
+            index.rebuild(this.data, version, this.getOptions().isConcurrent());
+        }
+    }
+
+    /**
+     * Used to create a new empty map for a section.
+     *
+     * @return A concurrent map if the section is concurrent.
+     */
+    protected @NotNull Map<String, Object> createMap() {
+        if (this.getOptions().isConcurrent()) return new ConcurrentHashMap<>();
+        if (this.getOptions().isCompact()) return new CompactMap();
+        return new HashMap<>();
+    }
+
+    /**
+     * Used to get the lock used to set values
+     * under a top level key of the base section.
+     *
+     * @param key The top level key.
+     * @return The lock, or null if the section is not concurrent.
+     */
+    private @Nullable Object getLock(@NotNull String key) {
+        Object[] locks = this.baseSection.locks;
+        if (locks == null) return null;
+        return locks[MemoryConfigurationSection.getLockIndex(key)];
+    }
+
+    private static int getLockIndex(@NotNull String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_COUNT - 1);
+    }
+
+    /**
+     * Used to get the top level key of a path
+     * in this section, from the base section.
+     *
+     * @param path The path in this section.
+     * @return The top level key.
+     */
+    private @NotNull String getTopLevelKey(@NotNull ConfigPath path) {
+        if (this.rootPath == null) return path.getSegment(0);
+
+        int index = this.rootPath.indexOf('.');
+        return index == -1 ? this.rootPath : this.rootPath.substring(0, index);
+    }
+
+    /**
+     * Used to get a value converted to a type.
+     * <p>
+     * If this is the base section and the value cache
+     * is enabled, the converted value will be cached.
+     *
+     * @param path The location of the value.
+     * @param type The type to convert to.
+     * @return The converted value.
+     * Null if it can't be converted.
+     */
+    protected @Nullable Object getConverted(@NotNull ConfigPath path, @NotNull ValueCache.Type type) {
+        ValueCache cache = this.valueCache;
+        if (cache == null || !cache.isEnabled()) return type.convert(this.get(path));
+        return cache.get(this, path, type);
     }
 
     @Override
@@ -97,51 +482,364 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         this.baseSection.setInSection(this.getBasePath(path), value);
     }
 
+    @Override
+    public void set(ConfigPath path, Object value) {
+        if (this.rootPath == null) {
+            this.baseSection.setInSection(path, value);
+            return;
+        }
+
+        this.baseSection.setInSection(ConfigPath.of(this.rootPath).resolve(path), value);
+    }
+
+    /**
+     * Used to get the map of this section.
+     * <p>
+     * A view finds its map in the base section again
+     * when the base section has changed since it was
+     * last found. If the section doesn't exist,
+     * the view is empty.
+     *
+     * @return The map of this section.
+     */
+    @SuppressWarnings("unchecked")
+    protected @NotNull Map<String, Object> getData() {
+        ResolvedData resolved = this.resolved;
+        if (resolved == null) return this.data;
+
+        // Read the version before the map, so a map found
+        // during a change is found again on the next read.
+        long version = this.getModificationCount();
+        if (resolved.version() == version) return resolved.data();
+
+        Object live = this.baseSection.get(ConfigPath.of(this.rootPath));
+        Map<String, Object> data;
+
+        if (live instanceof Map) data = (Map<String, Object>) live;
+        else data = resolved.data().isEmpty() ? resolved.data() : this.createMap();
+
+        this.resolved = new ResolvedData(data, version);
+        return data;
+    }
+
     @Override
     public void setInSection(String path, Object value) {
-        value = ConversionUtility.convertLists(value);
 
-        // If the value is located in a subsection
-        if (path != null && path.contains(".")) {
-            // Get the child path
-            String key = path.split("\\.")[0];
-            // Get the remaining children
-            String remainingPath = path.substring(key.length() + 1);
+        // Check if the path is this section.
+        if (path == null) {
+            value = ConversionUtility.convertLists(value, this.getOptions().isPrimitiveLists());
 
-            // Create the section if it doesn't exist
-            if (this.getSection(key) == null) {
-                this.data.put(key, new HashMap<String, Object>());
+            if (value == null) {
+                this.replaceData(this.createMap());
+                return;
+            }
+
+            // Concurrent maps can't contain a null key,
+            // so the map replaces the data instead.
+            if (this.getOptions().isConcurrent()) {
+                if (!(value instanceof Map)) {
+                    throw new IllegalArgumentException("Only a map can replace a concurrent section, but was given " + value.getClass().getName() + ".");
+                }
+
+                this.replaceData(this.prepareData((Map<?, ?>) value));
+                return;
             }
 
-            // Get the subsection
-            MemoryConfigurationSection section = new MemoryConfigurationSection(
-                    this.baseSection.getMap(),
-                    getBasePath(key),
-                    this.getSection(key).getMap()
-            );
+            this.putData(null, value);
+            this.markModified();
+            this.markDirty(this.rootPath == null ? "" : this.rootPath);
+            return;
+        }
+
+        this.setInSection(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Used to replace all the data in this section.
+     * <p>
+     * If the section is concurrent, every lock is held
+     * while the data is replaced, so values being set
+     * can't be lost in the old data.
+     *
+     * @param data The new data.
+     */
+    private void replaceData(@NotNull Map<String, Object> data) {
+        boolean[] used = new boolean[LOCK_COUNT];
+        Arrays.fill(used, true);
+
+        this.runLocked(used, 0, () -> {
+            this.setData(data);
+            this.markDirty(this.rootPath == null ? "" : this.rootPath);
+        });
+    }
 
-            // Set the value in the section.
-            section.setInSection(remainingPath, value);
+    @Override
+    public void setInSection(ConfigPath path, Object value) {
+        Object lock = this.getLock(this.getTopLevelKey(path));
 
-            // Get the updated section and update this section to the new data
-            this.data.put(key, section.getMap());
+        if (lock == null) {
+            this.setInSection(path, 0, value);
             return;
         }
 
+        synchronized (lock) {
+            PathIndex index = this.getPathIndex();
+
+            if (!index.isEnabled()) {
+                this.setInSection(path, 0, value);
+                return;
+            }
+
+            // The index is shared by every key,
+            // so it is changed by one thread at a time.
+            synchronized (index) {
+                this.setInSection(path, 0, value);
+            }
+        }
+    }
+
+    /**
+     * Used to set a value in this section, starting
+     * from a segment of a precompiled path.
+     * <p>
+     * The maps are walked and changed in place, creating
+     * missing sections as needed. Setting an existing value
+     * does not create any objects.
+     *
+     * @param path  The instance of the path.
+     * @param index The index of the segment that is
+     *              a key in this section.
+     * @param value The value to set.
+     */
+    @SuppressWarnings("unchecked")
+    protected void setInSection(@NotNull ConfigPath path, int index, @Nullable Object value) {
+        Map<String, Object> map = this.data;
+        int last = path.size() - 1;
+
+        // Walk down to the section containing the value.
+        for (int segment = index; segment < last; segment++) {
+            String key = path.getSegment(segment);
+            Object child = map.get(key);
+
+            if (child instanceof Map) {
+                map = (Map<String, Object>) child;
+                continue;
+            }
+
+            // Create the section if it doesn't exist
+            Map<String, Object> created = this.createMap();
+            map.put(key, created);
+            this.updateIndex(path, index, segment, child, created, false);
+            map = created;
+        }
+
+        String key = path.getSegment(last);
+
         // If the value is being set to null
         if (value == null) {
+            Object previous = map.remove(key);
+            this.markModified();
+            this.updateIndex(path, index, last, previous, null, true);
+            if (this.getOptions().isDirtyPaths()) this.markDirty(this.getFullPath(path, index, last));
+            return;
+        }
+
+        Object stored = this.toStoredValue(ConversionUtility.convertLists(value, this.getOptions().isPrimitiveLists()));
+        Object previous = map.put(key, stored);
+        this.markModified();
+        this.updateIndex(path, index, last, previous, stored, true);
+        if (this.getOptions().isDirtyPaths()) this.markDirty(this.getFullPath(path, index, last));
+    }
+
+    @Override
+    public void batch(@NotNull Consumer<Batch> batch) {
+        MemoryBatch memoryBatch = new MemoryBatch(this.rootPath == null ? null : ConfigPath.of(this.rootPath));
+        batch.accept(memoryBatch);
+
+        if (memoryBatch.getOperations().isEmpty()) return;
+        this.baseSection.applyBatch(memoryBatch.getOperations());
+    }
 
-            // If the path location is in this section
-            if (path == null) {
-                this.data = new HashMap<>();
+    /**
+     * Used to apply a batch of changes to this base section.
+     * <p>
+     * If the section is concurrent, the locks for every top
+     * level key in the batch are held while it is applied.
+     * The path index is updated with the batch.
+     *
+     * @param operations The changes to make.
+     */
+    private void applyBatch(@NotNull List<MemoryBatch.Operation> operations) {
+        boolean[] used = new boolean[LOCK_COUNT];
+        for (MemoryBatch.Operation operation : operations) {
+            used[MemoryConfigurationSection.getLockIndex(operation.path().getSegment(0))] = true;
+        }
+
+        this.runLocked(used, 0, () -> {
+            PathIndex index = this.getPathIndex();
+
+            if (!index.isEnabled()) {
+                this.applyOperations(operations, null);
                 return;
             }
 
-            this.data.remove(path);
+            // The index is shared by every key,
+            // so it is changed by one thread at a time.
+            synchronized (index) {
+                this.applyOperations(operations, index.isCurrent(this.getModificationCount()) ? index : null);
+            }
+        });
+    }
+
+    /**
+     * Used to run a task while holding the chosen locks.
+     *
+     * @param used     The indexes of the locks to hold.
+     * @param index    The index of the next lock.
+     * @param runnable The task to run.
+     */
+    private void runLocked(boolean[] used, int index, @NotNull Runnable runnable) {
+        Object[] locks = this.locks;
+        if (locks == null || index == LOCK_COUNT) {
+            runnable.run();
+            return;
+        }
+
+        if (!used[index]) {
+            this.runLocked(used, index + 1, runnable);
             return;
         }
 
-        this.putData(path, value);
+        // Locks are always taken in the same order,
+        // so two batches can't wait for each other.
+        synchronized (locks[index]) {
+            this.runLocked(used, index + 1, runnable);
+        }
+    }
+
+    private void applyOperations(@NotNull List<MemoryBatch.Operation> operations, @Nullable PathIndex index) {
+        Map<ConfigPath, Map<String, Object>> sections = new HashMap<>();
+        boolean primitiveLists = this.getOptions().isPrimitiveLists();
+
+        for (MemoryBatch.Operation operation : operations) {
+            ConfigPath path = operation.path();
+            Object value = operation.value();
+
+            Map<String, Object> section = this.getBatchSection(path.getParent(), sections, value != null, index);
+            if (section == null) continue;
+
+            Object stored = value == null ? null : this.toStoredValue(ConversionUtility.convertLists(value, primitiveLists));
+            Object previous = stored == null
+                    ? section.remove(path.getLastSegment())
+                    : section.put(path.getLastSegment(), stored);
+
+            if (index != null) index.replace(path.toString(), previous, stored);
+
+            // Sections within a replaced section are no longer in the tree.
+            if (previous instanceof Map && !sections.isEmpty()) {
+                sections.keySet().removeIf(cached -> cached.startsWith(path));
+            }
+        }
+
+        // The whole batch is counted as one change.
+        this.markModified();
+        if (index != null) index.setVersion(this.getModificationCount());
+
+        if (this.getOptions().isDirtyPaths()) {
+            for (MemoryBatch.Operation operation : operations) this.markDirty(operation.path().toString());
+        }
+    }
+
+    /**
+     * Used to get a section while applying a batch.
+     * Sections are only found once for each batch.
+     *
+     * @param path      The location of the section.
+     * @param sections  The sections already found in this batch.
+     * @param create    True if missing sections should be created.
+     * @param pathIndex The path index to add created sections to,
+     *                  or null if it is not being updated.
+     * @return The map of the section, or null if it doesn't exist.
+     */
+    @SuppressWarnings("unchecked")
+    private @Nullable Map<String, Object> getBatchSection(@Nullable ConfigPath path,
+                                                          @NotNull Map<ConfigPath, Map<String, Object>> sections,
+                                                          boolean create,
+                                                          @Nullable PathIndex pathIndex) {
+
+        if (path == null) return this.data;
+
+        Map<String, Object> section = sections.get(path);
+        if (section != null) return section;
+
+        Map<String, Object> map = this.data;
+        for (int segment = 0; segment < path.size(); segment++) {
+            Object child = map.get(path.getSegment(segment));
+
+            if (child instanceof Map) {
+                map = (Map<String, Object>) child;
+                continue;
+            }
+
+            if (!create) return null;
+
+            Map<String, Object> created = this.createMap();
+            map.put(path.getSegment(segment), created);
+            if (pathIndex != null) pathIndex.replace(this.getFullPath(path, 0, segment), child, created);
+            map = created;
+        }
+
+        sections.put(path, map);
+        return map;
+    }
+
+    /**
+     * Used to update the path index after a value
+     * has been changed in this section.
+     * <p>
+     * If the index is out of date, it is not used
+     * until it is built again when the section is loaded.
+     *
+     * @param path     The path that is being set.
+     * @param start    The index of the first segment in this section.
+     * @param end      The index of the segment that was changed.
+     * @param previous The previous value.
+     * @param value    The new value.
+     * @param modified True if the modification count has
+     *                 been increased for this change.
+     */
+    private void updateIndex(@NotNull ConfigPath path, int start, int end,
+                             @Nullable Object previous, @Nullable Object value, boolean modified) {
+
+        PathIndex index = this.baseSection.pathIndex;
+        if (index == null || !index.isEnabled()) return;
+
+        synchronized (index) {
+            long version = this.getModificationCount();
+            if (!index.isCurrent(modified ? version - 1 : version)) return;
+
+            index.replace(this.getFullPath(path, start, end), previous, value);
+            index.setVersion(version);
+        }
+    }
+
+    /**
+     * Used to build the path of a value from the base section.
+     *
+     * @param path  The path that is being set.
+     * @param start The index of the first segment in this section.
+     * @param end   The index of the last segment to include.
+     * @return The full path.
+     */
+    private @NotNull String getFullPath(@NotNull ConfigPath path, int start, int end) {
+        StringBuilder builder = new StringBuilder();
+        if (this.rootPath != null) builder.append(this.rootPath);
+        for (int segment = start; segment <= end; segment++) {
+            if (!builder.isEmpty()) builder.append('.');
+            builder.append(path.getSegment(segment));
+        }
+
+        return builder.toString();
     }
 
     /**
@@ -151,8 +849,20 @@ public class MemoryConfigurationSection implements ConfigurationSection {
      *
      * @param path  The instance of the path.
      * @param value The object value.
+     * @return The previous value.
      */
-    private void putData(@Nullable String path, @NotNull Object value) {
+    private @Nullable Object putData(@Nullable String path, @NotNull Object value) {
+        return this.getData().put(path, this.toStoredValue(value));
+    }
+
+    /**
+     * Used to convert a value into the form
+     * it is stored in the section.
+     *
+     * @param value The object value.
+     * @return The value to store.
+     */
+    private @NotNull Object toStoredValue(@NotNull Object value) {
 
         // Check if it is a type supported.
         if (value instanceof String
@@ -160,37 +870,44 @@ public class MemoryConfigurationSection implements ConfigurationSection {
                 || value instanceof Long
                 || value instanceof Double
                 || value instanceof Boolean
-                || value instanceof List
-                || value instanceof Map) {
+                || value instanceof TemporalAccessor
+                || value instanceof Date
+                || ConversionUtility.isPrimitiveArray(value)) {
 
-            this.data.put(path, value);
-            return;
+            return value;
+        }
+
+        // Copy maps so the sections can be changed through views.
+        if (value instanceof Map) {
+            return this.toSection(ConversionUtility.copyMap((Map<?, ?>) value));
         }
 
-        // Otherwise convert as gson.
-        Gson gson = new Gson();
-        String json = gson.toJson(value);
-        Map<?, ?> map = gson.fromJson(json, Map.class);
-        this.data.put(path, map);
+        // Make sure maps in lists only use string keys.
+        if (value instanceof List) {
+            Object list = ConversionUtility.convertKeys(value);
+            return this.getOptions().isConcurrent() ? ConversionUtility.toConcurrent(list) : list;
+        }
+
+        // Otherwise convert the object into a map.
+        return this.toSection(ObjectBinder.toTree(value));
+    }
+
+    /**
+     * Used to convert the maps in a value into the
+     * maps used by this section's options.
+     *
+     * @param value The value to store.
+     * @return The value to store.
+     */
+    private @NotNull Object toSection(@NotNull Object value) {
+        if (this.getOptions().isCompact()) value = MemoryUtility.compact(value, new HashMap<>(), !this.getOptions().isConcurrent());
+        if (this.getOptions().isConcurrent()) return ConversionUtility.toConcurrent(value);
+        return value;
     }
 
     @Override
     public Object get(String path, Object alternative) {
-        if (path.contains(".")) {
-            // The child path
-            String key = path.split("\\.")[0];
-            // The remaining children
-            String remainingPath = path.substring(key.length() + 1);
-
-            // Temporally create the section if it doesn't exist
-            if (this.getSection(key) == null) {
-                this.data.put(key, new HashMap<String, Object>());
-            }
-
-            return this.getSection(key).get(remainingPath);
-        }
-
-        return this.data.getOrDefault(path, alternative);
+        return this.get(ConfigPath.of(path), 0, alternative);
     }
 
     @Override
@@ -198,16 +915,74 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.get(path, null);
     }
 
+    @Override
+    public Object get(ConfigPath path, Object alternative) {
+        return this.get(path, 0, alternative);
+    }
+
+    @Override
+    public Object get(ConfigPath path) {
+        return this.get(path, 0, null);
+    }
+
+    /**
+     * Used to get a value from this section, starting
+     * from a segment of a precompiled path.
+     * <p>
+     * This walks the nested maps directly, so it will
+     * never modify the data or create sections.
+     *
+     * @param path        The instance of the path.
+     * @param index       The index of the segment that is
+     *                    a key in this section.
+     * @param alternative The alternative value.
+     * @return The requested value.
+     */
+    protected Object get(@NotNull ConfigPath path, int index, Object alternative) {
+
+        // Check the path index of the base section.
+        // It is only used if it is up to date.
+        PathIndex pathIndex = this.pathIndex;
+        if (index == 0 && pathIndex != null && pathIndex.isEnabled() && pathIndex.isCurrent(this.getModificationCount())) {
+            Object value = pathIndex.get(path.toString());
+            if (value != PathIndex.MISSING) return value;
+        }
+
+        Map<?, ?> map = this.getData();
+        int last = path.size() - 1;
+
+        // Walk down to the section containing the value.
+        for (int segment = index; segment < last; segment++) {
+            Object child = map.get(path.getSegment(segment));
+            if (!(child instanceof Map)) return alternative;
+            map = (Map<?, ?>) child;
+        }
+
+        String key = path.getSegment(last);
+        Object value = map.get(key);
+
+        // Check if the value is missing rather than null.
+        if (value == null && !map.containsKey(key)) return alternative;
+        return value;
+    }
+
     @Override
     public <T> T getClass(String path, Class<T> clazz, T alternative) {
-        Gson gson = new Gson();
+        return this.getClass(ConfigPath.of(path), clazz, alternative);
+    }
 
-        Map<String, Object> map = this.getMap(path);
-        if (map == null) return alternative;
+    @Override
+    public <T> T getClass(String path, Class<T> clazz) {
+        return this.getClass(path, clazz, null);
+    }
+
+    @Override
+    public <T> T getClass(ConfigPath path, Class<T> clazz, T alternative) {
+        Object object = this.get(path);
+        if (!(object instanceof Map)) return alternative;
 
         try {
-            JsonElement jsonElement = gson.toJsonTree(map);
-            T t = gson.fromJson(jsonElement, clazz);
+            T t = ObjectBinder.fromMap((Map<?, ?>) object, clazz);
 
             if (t == null) return alternative;
             return t;
@@ -218,40 +993,38 @@ public class MemoryConfigurationSection implements ConfigurationSection {
     }
 
     @Override
-    public <T> T getClass(String path, Class<T> clazz) {
+    public <T> T getClass(ConfigPath path, Class<T> clazz) {
         return this.getClass(path, clazz, null);
     }
 
     @Override
-    public ConfigurationSection getSection(String path) {
+    public MemoryConfigurationSection getSection(String path) {
         if (path == null) return this;
+        return this.getSection(ConfigPath.of(path));
+    }
 
-        // Return a new empty section if it does not exist
-        if (!(this.get(path) instanceof Map)) {
-            return new MemoryConfigurationSection(this.baseSection.getMap(), this.getBasePath(path), new HashMap<>());
-        }
-
-        // Get the section and return it
-        Map<?, ?> unknownMap = (Map<?, ?>) this.get(path);
-        Map<String, Object> knownMap = new LinkedHashMap<>();
-
-        for (Map.Entry<?, ?> entry : unknownMap.entrySet()) {
-            Object key = entry.getKey();
+    @Override
+    @SuppressWarnings("unchecked")
+    public MemoryConfigurationSection getSection(ConfigPath path) {
+        long version = this.getModificationCount();
+        Object object = this.get(path);
 
-            knownMap.put(
-                    !(key instanceof String) ? key.toString() : (String) key,
-                    entry.getValue()
-            );
+        // Return a new empty section if it does not exist
+        if (!(object instanceof Map)) {
+            return new MemoryConfigurationSection(this.baseSection, this.getBasePath(path.toString()), this.createMap(), version);
         }
 
-        return new MemoryConfigurationSection(this.baseSection.getMap(), this.getBasePath(path), knownMap);
+        // Return a view of the section.
+        // Maps in the tree are converted to string keys when they are added.
+        return new MemoryConfigurationSection(this.baseSection, this.getBasePath(path.toString()), (Map<String, Object>) object, version);
     }
 
     @Override
     public List<String> getKeys() {
-        if (this.data == null) return null;
-        if (this.data.isEmpty()) return new ArrayList<>();
-        return new ArrayList<>(this.data.keySet());
+        Map<String, Object> data = this.getData();
+        if (data == null) return null;
+        if (data.isEmpty()) return new ArrayList<>();
+        return new ArrayList<>(data.keySet());
     }
 
     @Override
@@ -259,11 +1032,14 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getSection(path).getKeys();
     }
 
+    @Override
+    public List<String> getKeys(ConfigPath path) {
+        return this.getSection(path).getKeys();
+    }
 
     @Override
     public String getString(String path, String alternative) {
-        Object object = this.get(path);
-        return object instanceof String ? (String) object : alternative;
+        return this.getString(ConfigPath.of(path), alternative);
     }
 
     @Override
@@ -271,8 +1047,24 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getString(path, null);
     }
 
+    @Override
+    public String getString(ConfigPath path, String alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.STRING);
+        return object == null ? alternative : (String) object;
+    }
+
+    @Override
+    public String getString(ConfigPath path) {
+        return this.getString(path, null);
+    }
+
     @Override
     public boolean isString(String path) {
+        return this.isString(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isString(ConfigPath path) {
         Object object = this.get(path);
         return object instanceof String;
     }
@@ -284,6 +1076,16 @@ public class MemoryConfigurationSection implements ConfigurationSection {
 
     @Override
     public String getAdaptedString(String path, String join, String alternative) {
+        return this.getAdaptedString(ConfigPath.of(path), join, alternative);
+    }
+
+    @Override
+    public String getAdaptedString(ConfigPath path, String join) {
+        return this.getAdaptedString(path, join, null);
+    }
+
+    @Override
+    public String getAdaptedString(ConfigPath path, String join, String alternative) {
         Object object = this.get(path);
         if (object == null) return alternative;
 
@@ -291,8 +1093,8 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         if (object instanceof String) return (String) object;
 
         // Check if the object is a list.
-        if (object instanceof List) {
-            List<?> list = (List<?>) object;
+        List<?> list = ConversionUtility.asList(object);
+        if (list != null) {
             StringBuilder builder = new StringBuilder();
 
             // Loop though list.
@@ -311,17 +1113,7 @@ public class MemoryConfigurationSection implements ConfigurationSection {
 
     @Override
     public int getInteger(String path, int alternative) {
-        Object object = this.get(path);
-        if (object instanceof Integer) {
-            return (Integer) object;
-        }
-        if (object instanceof Double) {
-            return ((Double) object).intValue();
-        }
-        if (object instanceof Long) {
-            return ((Long) object).intValue();
-        }
-        return alternative;
+        return this.getInteger(ConfigPath.of(path), alternative);
     }
 
     @Override
@@ -329,20 +1121,31 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getInteger(path, -1);
     }
 
+    @Override
+    public int getInteger(ConfigPath path, int alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.INTEGER);
+        return object == null ? alternative : (Integer) object;
+    }
+
+    @Override
+    public int getInteger(ConfigPath path) {
+        return this.getInteger(path, -1);
+    }
+
     @Override
     public boolean isInteger(String path) {
+        return this.isInteger(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isInteger(ConfigPath path) {
         Object object = this.get(path);
         return object instanceof Integer;
     }
 
     @Override
     public long getLong(String path, long alternative) {
-        Object object = this.get(path);
-        if (object instanceof Integer) {
-            return Long.parseLong(object.toString());
-        }
-
-        return object instanceof Long ? (Long) object : alternative;
+        return this.getLong(ConfigPath.of(path), alternative);
     }
 
     @Override
@@ -350,20 +1153,31 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getLong(path, -1);
     }
 
+    @Override
+    public long getLong(ConfigPath path, long alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.LONG);
+        return object == null ? alternative : (Long) object;
+    }
+
+    @Override
+    public long getLong(ConfigPath path) {
+        return this.getLong(path, -1);
+    }
+
     @Override
     public boolean isLong(String path) {
+        return this.isLong(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isLong(ConfigPath path) {
         Object object = this.get(path);
         return object instanceof Integer || object instanceof Long;
     }
 
     @Override
     public double getDouble(String path, double alternative) {
-        Object object = this.get(path);
-        if (object instanceof Integer) {
-            return Double.parseDouble(object.toString());
-        }
-
-        return object instanceof Double ? (Double) object : alternative;
+        return this.getDouble(ConfigPath.of(path), alternative);
     }
 
     @Override
@@ -371,16 +1185,31 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getDouble(path, -1);
     }
 
+    @Override
+    public double getDouble(ConfigPath path, double alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.DOUBLE);
+        return object == null ? alternative : (Double) object;
+    }
+
+    @Override
+    public double getDouble(ConfigPath path) {
+        return this.getDouble(path, -1);
+    }
+
     @Override
     public boolean isDouble(String path) {
+        return this.isDouble(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isDouble(ConfigPath path) {
         Object object = this.get(path);
         return object instanceof Integer || object instanceof Double;
     }
 
     @Override
     public boolean getBoolean(String path, boolean alternative) {
-        Object object = this.get(path);
-        return object instanceof Boolean ? (Boolean) object : alternative;
+        return this.getBoolean(ConfigPath.of(path), alternative);
     }
 
     @Override
@@ -388,16 +1217,31 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getBoolean(path, false);
     }
 
+    @Override
+    public boolean getBoolean(ConfigPath path, boolean alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.BOOLEAN);
+        return object == null ? alternative : (Boolean) object;
+    }
+
+    @Override
+    public boolean getBoolean(ConfigPath path) {
+        return this.getBoolean(path, false);
+    }
+
     @Override
     public boolean isBoolean(String path) {
+        return this.isBoolean(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isBoolean(ConfigPath path) {
         Object object = this.get(path);
         return object instanceof Boolean;
     }
 
     @Override
     public List<?> getList(String path, List<?> alternative) {
-        Object object = this.get(path);
-        return object instanceof List<?> ? (List<?>) object : alternative;
+        return this.getList(ConfigPath.of(path), alternative);
     }
 
     @Override
@@ -405,58 +1249,194 @@ public class MemoryConfigurationSection implements ConfigurationSection {
         return this.getList(path, null);
     }
 
+    @Override
+    public List<?> getList(ConfigPath path, List<?> alternative) {
+        List<?> list = ConversionUtility.asList(this.get(path));
+        return list == null ? alternative : list;
+    }
+
+    @Override
+    public List<?> getList(ConfigPath path) {
+        return this.getList(path, null);
+    }
+
     @Override
     public boolean isList(String path) {
+        return this.isList(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isList(ConfigPath path) {
         Object object = this.get(path);
-        return object instanceof List;
+        return object instanceof List || ConversionUtility.isPrimitiveArray(object);
     }
 
     @Override
     public List<String> getListString(String path, List<String> alternative) {
-        List<String> list = new ArrayList<>();
+        return this.getListString(ConfigPath.of(path), alternative);
+    }
 
-        for (Object item : this.getList(path, new ArrayList<>())) {
-            if (!(item instanceof String)) return alternative;
-            list.add((String) item);
-        }
+    @Override
+    public List<String> getListString(String path) {
+        return this.getListString(path, null);
+    }
 
-        return list;
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getListString(ConfigPath path, List<String> alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.STRING_LIST);
+        return object == null ? alternative : (List<String>) object;
     }
 
     @Override
-    public List<String> getListString(String path) {
+    public List<String> getListString(ConfigPath path) {
         return this.getListString(path, null);
     }
 
     @Override
     public List<Integer> getListInteger(String path, List<Integer> alternative) {
-        List<Integer> list = new ArrayList<>();
-
-        for (Object item : this.getList(path, new ArrayList<>())) {
-            if (item instanceof Long) {
-                list.add(Integer.parseInt(String.valueOf(item)));
-                continue;
-            }
+        return this.getListInteger(ConfigPath.of(path), alternative);
+    }
 
-            if (!(item instanceof Integer)) return alternative;
-            list.add((Integer) item);
-        }
+    @Override
+    public List<Integer> getListInteger(String path) {
+        return this.getListInteger(path, null);
+    }
 
-        return list;
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> getListInteger(ConfigPath path, List<Integer> alternative) {
+        Object object = this.getConverted(path, ValueCache.Type.INTEGER_LIST);
+        return object == null ? alternative : (List<Integer>) object;
     }
 
     @Override
-    public List<Integer> getListInteger(String path) {
+    public List<Integer> getListInteger(ConfigPath path) {
         return this.getListInteger(path, null);
     }
 
+    @Override
+    public int[] getIntArray(String path, int[] alternative) {
+        return this.getIntArray(ConfigPath.of(path), alternative);
+    }
+
+    @Override
+    public int[] getIntArray(String path) {
+        return this.getIntArray(path, null);
+    }
+
+    @Override
+    public int[] getIntArray(ConfigPath path, int[] alternative) {
+        int[] array = ConversionUtility.asIntArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    @Override
+    public int[] getIntArray(ConfigPath path) {
+        return this.getIntArray(path, null);
+    }
+
+    @Override
+    public long[] getLongArray(String path, long[] alternative) {
+        return this.getLongArray(ConfigPath.of(path), alternative);
+    }
+
+    @Override
+    public long[] getLongArray(String path) {
+        return this.getLongArray(path, null);
+    }
+
+    @Override
+    public long[] getLongArray(ConfigPath path, long[] alternative) {
+        long[] array = ConversionUtility.asLongArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    @Override
+    public long[] getLongArray(ConfigPath path) {
+        return this.getLongArray(path, null);
+    }
+
+    @Override
+    public double[] getDoubleArray(String path, double[] alternative) {
+        return this.getDoubleArray(ConfigPath.of(path), alternative);
+    }
+
+    @Override
+    public double[] getDoubleArray(String path) {
+        return this.getDoubleArray(path, null);
+    }
+
+    @Override
+    public double[] getDoubleArray(ConfigPath path, double[] alternative) {
+        double[] array = ConversionUtility.asDoubleArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    @Override
+    public double[] getDoubleArray(ConfigPath path) {
+        return this.getDoubleArray(path, null);
+    }
+
+    @Override
+    public boolean[] getBooleanArray(String path, boolean[] alternative) {
+        return this.getBooleanArray(ConfigPath.of(path), alternative);
+    }
+
+    @Override
+    public boolean[] getBooleanArray(String path) {
+        return this.getBooleanArray(path, null);
+    }
+
+    @Override
+    public boolean[] getBooleanArray(ConfigPath path, boolean[] alternative) {
+        boolean[] array = ConversionUtility.asBooleanArray(this.get(path));
+        return array == null ? alternative : array;
+    }
+
+    @Override
+    public boolean[] getBooleanArray(ConfigPath path) {
+        return this.getBooleanArray(path, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull MemoryConfigurationSection snapshot() {
+
+        // Views use the snapshot of the base section.
+        if (this.baseSection != this) {
+            MemoryConfigurationSection snapshot = this.baseSection.snapshot();
+            return this.rootPath == null ? snapshot : snapshot.getSection(this.rootPath);
+        }
+
+        // Read the version before copying, so changes made
+        // while copying will cause a new snapshot next time.
+        long version = this.getModificationCount();
+        SnapshotConfigurationSection snapshot = this.snapshot;
+        if (snapshot != null && snapshot.getVersion() == version) return snapshot;
+
+        snapshot = new SnapshotConfigurationSection((Map<String, Object>) ConversionUtility.freeze(this.data), version);
+        this.snapshot = snapshot;
+        return snapshot;
+    }
+
     @Override
     public Map<String, Object> getMap() {
-        return this.data;
+        return this.getData();
     }
 
     @Override
     public Map<String, Object> getMap(String path, Map<String, Object> alternative) {
+        return this.getMap(ConfigPath.of(path), alternative);
+    }
+
+    @Override
+    public Map<String, Object> getMap(String path) {
+        return this.getMap(path, null);
+    }
+
+    @Override
+    public Map<String, Object> getMap(ConfigPath path, Map<String, Object> alternative) {
         try {
             Map<?, ?> temp = (Map<?, ?>) this.get(path);
             Map<String, Object> map = new LinkedHashMap<>();
@@ -473,13 +1453,28 @@ public class MemoryConfigurationSection implements ConfigurationSection {
     }
 
     @Override
-    public Map<String, Object> getMap(String path) {
+    public Map<String, Object> getMap(ConfigPath path) {
         return this.getMap(path, null);
     }
 
     @Override
     public boolean isMap(String path) {
+        return this.isMap(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isMap(ConfigPath path) {
         Object object = this.get(path);
         return object instanceof Map;
     }
+
+    /**
+     * Represents the map a view found in the base section.
+     *
+     * @param data    The map of the view.
+     * @param version The modification count of the base
+     *                section when the map was found.
+     */
+    private record ResolvedData(@NotNull Map<String, Object> data, long version) {
+    }
 }
@@ -0,0 +1,149 @@
+package com.github.smuddgge.squishyconfiguration.memory;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the options used by a base memory
+ * configuration section to store its data.
+ * <p>
+ * Options that change how loaded data is stored
+ * are applied the next time the data is loaded.
+ * <pre>{@code
+ * configuration.getOptions().setPrimitiveLists(true);
+ * configuration.load();
+ * }</pre>
+ */
+public class MemoryOptions {
+
+    private final boolean concurrent;
+    private volatile boolean primitiveLists;
+    private volatile boolean compact;
+    private volatile boolean dirtyPaths;
+
+    /**
+     * Used to create the default memory options.
+     */
+    public MemoryOptions() {
+        this(false);
+    }
+
+    /**
+     * Used to create memory options.
+     *
+     * @param concurrent True if the section should be safe
+     *                   to use from multiple threads.
+     */
+    public MemoryOptions(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * Used to check if the section is safe to
+     * use from multiple threads.
+     * <ul>
+     *     <li>Sections are stored in concurrent maps, so reads never block.</li>
+     *     <li>Values set under the same top level key are set one at a time.</li>
+     *     <li>Loaded data is only visible once it has been fully loaded.</li>
+     *     <li>Null values are not stored, and the order of keys is not kept.</li>
+     *     <li>Lists can't be changed in place, so they must be replaced with a new list.</li>
+     * </ul>
+     * This can only be chosen when the section is created,
+     * for example with {@link com.github.smuddgge.squishyconfiguration.ConfigurationFactory#createConcurrent(java.io.File)}.
+     *
+     * @return True if the section is concurrent.
+     */
+    public boolean isConcurrent() {
+        return this.concurrent;
+    }
+
+    /**
+     * Used to check if lists of numbers and booleans
+     * are stored as primitive arrays.
+     *
+     * @return True if primitive arrays are used.
+     */
+    public boolean isPrimitiveLists() {
+        return this.primitiveLists;
+    }
+
+    /**
+     * Used to set if lists of numbers and booleans
+     * are stored as primitive arrays.
+     * <p>
+     * Lists that only contain integers, longs, doubles or
+     * booleans will be stored as an {@code int[]}, {@code long[]},
+     * {@code double[]} or {@code boolean[]}. This removes the
+     * boxing of each item, and they can be read without boxing
+     * using methods such as {@link MemoryConfigurationSection#getIntArray(String)}.
+     * <p>
+     * {@link MemoryConfigurationSection#get(String)} will return the array,
+     * but {@link MemoryConfigurationSection#getList(String)} will still
+     * return a list backed by the array.
+     *
+     * @param primitiveLists True to use primitive arrays.
+     * @return This instance.
+     */
+    public @NotNull MemoryOptions setPrimitiveLists(boolean primitiveLists) {
+        this.primitiveLists = primitiveLists;
+        return this;
+    }
+
+    /**
+     * Used to check if the data is stored in
+     * a compact form to use less memory.
+     *
+     * @return True if the data is compacted.
+     */
+    public boolean isCompact() {
+        return this.compact;
+    }
+
+    /**
+     * Used to set if the data is stored in
+     * a compact form to use less memory.
+     * <ul>
+     *     <li>Equal keys and string values share one instance.</li>
+     *     <li>Sections with a few keys are stored in a {@link com.github.smuddgge.squishyconfiguration.utility.CompactMap}.</li>
+     *     <li>Lists are stored without unused capacity.</li>
+     * </ul>
+     * Concurrent sections still use concurrent maps, so only
+     * their keys, values and lists are compacted.
+     * Use {@link MemoryConfigurationSection#getRetainedSize()}
+     * to check how much memory the data uses.
+     *
+     * @param compact True to compact the data.
+     * @return This instance.
+     */
+    public @NotNull MemoryOptions setCompact(boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
+    /**
+     * Used to check if the paths changed since the
+     * section was last loaded or saved are recorded.
+     *
+     * @return True if dirty paths are recorded.
+     */
+    public boolean isDirtyPaths() {
+        return this.dirtyPaths;
+    }
+
+    /**
+     * Used to set if the paths changed since the
+     * section was last loaded or saved are recorded.
+     * <p>
+     * The paths can then be read with
+     * {@link MemoryConfigurationSection#getDirtyPaths()}, for example
+     * to only send the changed values somewhere else.
+     * Each change builds the full path of the value,
+     * so this is disabled by default.
+     *
+     * @param dirtyPaths True to record dirty paths.
+     * @return This instance.
+     */
+    public @NotNull MemoryOptions setDirtyPaths(boolean dirtyPaths) {
+        this.dirtyPaths = dirtyPaths;
+        return this;
+    }
+}
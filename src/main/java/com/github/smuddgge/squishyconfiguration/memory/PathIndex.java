@@ -0,0 +1,194 @@
+package com.github.smuddgge.squishyconfiguration.memory;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a flattened index of a base configuration section.
+ * <p>
+ * The index maps the full path of every value and section
+ * to the value, so a nested value can be found with a single
+ * lookup instead of walking through each section.
+ * <ul>
+ *     <li>The index is disabled by default, as it uses more memory.</li>
+ *     <li>It is built when the section is loaded and kept up to date
+ *         when values are set with set or batch.</li>
+ *     <li>Changes must go through set or batch. If the maps of the
+ *         section are changed directly, the index will return old
+ *         values until the section is loaded again.</li>
+ *     <li>Enabling the index takes effect the next time
+ *         the section is loaded.</li>
+ *     <li>Keys containing dots can't be found with a path, so they
+ *         are not indexed.</li>
+ * </ul>
+ */
+public class PathIndex {
+
+    /**
+     * Returned by {@link #get(String)} when
+     * the path is not in the index.
+     */
+    static final @NotNull Object MISSING = new Object();
+
+    private volatile boolean enabled;
+    private volatile @NotNull Map<String, Object> values;
+    private volatile long version;
+
+    /**
+     * Used to create a new disabled path index.
+     */
+    public PathIndex() {
+        this.values = new HashMap<>();
+        this.version = -1;
+    }
+
+    /**
+     * Used to check if the index is enabled.
+     *
+     * @return True if the index is enabled.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Used to enable or disable the index.
+     * Disabling the index will also clear it.
+     *
+     * @param enabled True to enable the index.
+     * @return This instance.
+     */
+    public @NotNull PathIndex setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) this.clear();
+        return this;
+    }
+
+    /**
+     * Used to get the number of paths in the index.
+     *
+     * @return The number of indexed paths.
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Used to remove all the paths from the index.
+     * It will be built again the next time the section is loaded.
+     *
+     * @return This instance.
+     */
+    public synchronized @NotNull PathIndex clear() {
+        this.values = new HashMap<>();
+        this.version = -1;
+        return this;
+    }
+
+    /**
+     * Used to check if the index is up to date.
+     *
+     * @param modificationCount The modification count of the section.
+     * @return True if the index matches the section.
+     */
+    boolean isCurrent(long modificationCount) {
+        return this.version == modificationCount;
+    }
+
+    /**
+     * Used to get a value from the index.
+     *
+     * @param path The full path of the value.
+     * @return The value, or {@link #MISSING} if it is not indexed.
+     */
+    @Nullable Object get(@NotNull String path) {
+        Map<String, Object> values = this.values;
+        Object value = values.get(path);
+        if (value == null && !values.containsKey(path)) return MISSING;
+        return value;
+    }
+
+    /**
+     * Used to build the index again from the data
+     * in the base section.
+     *
+     * @param data       The data in the base section.
+     * @param version    The modification count read before the data.
+     * @param concurrent True if the section is concurrent.
+     */
+    void rebuild(@NotNull Map<String, Object> data, long version, boolean concurrent) {
+        Map<String, Object> values = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+        PathIndex.flatten(values, null, data);
+
+        synchronized (this) {
+
+            // Don't replace an index built from newer data.
+            if (this.version >= version) return;
+
+            this.values = values;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Used to replace a value in the index.
+     * <p>
+     * This should be called while holding the lock
+     * on this index, and only if the index is current.
+     *
+     * @param path     The full path of the value.
+     * @param previous The value that was replaced.
+     * @param value    The new value, or null if it was removed.
+     */
+    void replace(@NotNull String path, @Nullable Object previous, @Nullable Object value) {
+        if (path.isEmpty()) return;
+        Map<String, Object> values = this.values;
+
+        // Remove the paths within the previous section.
+        if (previous instanceof Map) PathIndex.unflatten(values, path, (Map<?, ?>) previous);
+        values.remove(path);
+
+        if (value == null) return;
+        values.put(path, value);
+        if (value instanceof Map) PathIndex.flatten(values, path, (Map<?, ?>) value);
+    }
+
+    /**
+     * Used to set the modification count the
+     * index is up to date with.
+     *
+     * @param version The modification count.
+     */
+    void setVersion(long version) {
+        this.version = version;
+    }
+
+    private static void flatten(@NotNull Map<String, Object> values, @Nullable String path, @NotNull Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (key.indexOf('.') != -1) continue;
+
+            String fullPath = path == null ? key : path + "." + key;
+            Object value = entry.getValue();
+            values.put(fullPath, value);
+
+            if (value instanceof Map) PathIndex.flatten(values, fullPath, (Map<?, ?>) value);
+        }
+    }
+
+    private static void unflatten(@NotNull Map<String, Object> values, @NotNull String path, @NotNull Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (key.indexOf('.') != -1) continue;
+
+            String fullPath = path + "." + key;
+            values.remove(fullPath);
+
+            if (entry.getValue() instanceof Map) PathIndex.unflatten(values, fullPath, (Map<?, ?>) entry.getValue());
+        }
+    }
+}
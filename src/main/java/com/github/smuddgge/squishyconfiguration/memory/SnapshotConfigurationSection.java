@@ -0,0 +1,77 @@
+package com.github.smuddgge.squishyconfiguration.memory;
+
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Represents a frozen copy of a base configuration section.
+ * <p>
+ * The maps and lists in a snapshot are unmodifiable, so it
+ * can be shared between threads without any locks.
+ * Attempting to set a value will throw an
+ * {@link UnsupportedOperationException}.
+ */
+public class SnapshotConfigurationSection extends MemoryConfigurationSection {
+
+    private final long version;
+
+    /**
+     * Used to create a new snapshot.
+     *
+     * @param data    The frozen data of the snapshot.
+     * @param version The modification count of the section
+     *                when the snapshot was taken.
+     */
+    public SnapshotConfigurationSection(@NotNull Map<String, Object> data, long version) {
+        super(data);
+        this.version = version;
+    }
+
+    /**
+     * Used to get the modification count of the section
+     * the snapshot was taken from, when it was taken.
+     *
+     * @return The version of the snapshot.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public void set(Object value) {
+        throw new UnsupportedOperationException("Snapshots can't be changed.");
+    }
+
+    @Override
+    public void set(String path, Object value) {
+        throw new UnsupportedOperationException("Snapshots can't be changed.");
+    }
+
+    @Override
+    public void set(ConfigPath path, Object value) {
+        throw new UnsupportedOperationException("Snapshots can't be changed.");
+    }
+
+    @Override
+    public void setInSection(String path, Object value) {
+        throw new UnsupportedOperationException("Snapshots can't be changed.");
+    }
+
+    @Override
+    public void setInSection(ConfigPath path, Object value) {
+        throw new UnsupportedOperationException("Snapshots can't be changed.");
+    }
+
+    @Override
+    public void batch(@NotNull Consumer<Batch> batch) {
+        throw new UnsupportedOperationException("Snapshots can't be changed.");
+    }
+
+    @Override
+    public @NotNull SnapshotConfigurationSection snapshot() {
+        return this;
+    }
+}
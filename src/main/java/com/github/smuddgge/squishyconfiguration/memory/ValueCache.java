@@ -0,0 +1,204 @@
+package com.github.smuddgge.squishyconfiguration.memory;
+
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import com.github.smuddgge.squishyconfiguration.utility.ConversionUtility;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Represents a cache of converted values for a base
+ * configuration section.
+ * <p>
+ * Values are cached by their path and the type they
+ * were converted to. Each value is stamped with the
+ * section's modification count, so any change to the
+ * section invalidates the cached values.
+ * <ul>
+ *     <li>The cache is disabled by default.</li>
+ *     <li>Cached lists are copied when they are returned,
+ *         so they can be changed like uncached lists.</li>
+ * </ul>
+ */
+public class ValueCache {
+
+    /**
+     * Represents a type that values can be converted to.
+     */
+    public enum Type {
+        STRING(ConversionUtility::asString),
+        INTEGER(ConversionUtility::asInteger),
+        LONG(ConversionUtility::asLong),
+        DOUBLE(ConversionUtility::asDouble),
+        BOOLEAN(ConversionUtility::asBoolean),
+        STRING_LIST(ConversionUtility::asStringList),
+        INTEGER_LIST(ConversionUtility::asIntegerList);
+
+        private final @NotNull Function<Object, Object> converter;
+
+        Type(@NotNull Function<Object, Object> converter) {
+            this.converter = converter;
+        }
+
+        /**
+         * Used to convert a value to this type.
+         *
+         * @param value The value to convert.
+         * @return The converted value.
+         * Null if it can't be converted.
+         */
+        public @Nullable Object convert(@Nullable Object value) {
+            return this.converter.apply(value);
+        }
+    }
+
+    /**
+     * Represents a cached value.
+     *
+     * @param version The modification count the value was read at.
+     * @param value   The converted value.
+     */
+    private record Entry(long version, @Nullable Object value) {
+    }
+
+    private final @NotNull Map<Type, Map<ConfigPath, Entry>> values;
+    private final @NotNull LongAdder hits;
+    private final @NotNull LongAdder misses;
+    private volatile boolean enabled;
+
+    /**
+     * Used to create a new disabled value cache.
+     */
+    public ValueCache() {
+        this.values = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) this.values.put(type, new ConcurrentHashMap<>());
+
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Used to check if the cache is enabled.
+     *
+     * @return True if the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Used to enable or disable the cache.
+     * Disabling the cache will also clear it.
+     *
+     * @param enabled True to enable the cache.
+     * @return This instance.
+     */
+    public @NotNull ValueCache setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) this.clear();
+        return this;
+    }
+
+    /**
+     * Used to get the number of values that
+     * were returned from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Used to get the number of values that
+     * had to be converted.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Used to get the number of values in the cache.
+     * This can include values that are out of date.
+     *
+     * @return The number of cached values.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<ConfigPath, Entry> map : this.values.values()) size += map.size();
+        return size;
+    }
+
+    /**
+     * Used to reset the hit and miss counters.
+     *
+     * @return This instance.
+     */
+    public @NotNull ValueCache resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        return this;
+    }
+
+    /**
+     * Used to remove all the values from the cache.
+     *
+     * @return This instance.
+     */
+    public @NotNull ValueCache clear() {
+        for (Map<ConfigPath, Entry> map : this.values.values()) map.clear();
+        return this;
+    }
+
+    /**
+     * Used to get a converted value from the cache,
+     * or convert and cache it if it is missing or out of date.
+     *
+     * @param section The section the path is in.
+     * @param path    The location of the value.
+     * @param type    The type to convert the value to.
+     * @return The converted value.
+     * Null if it can't be converted.
+     */
+    @Nullable Object get(@NotNull MemoryConfigurationSection section, @NotNull ConfigPath path, @NotNull Type type) {
+        Map<ConfigPath, Entry> map = this.values.get(type);
+
+        // Read the version before the value, so a value read
+        // during a change is stamped with the old version.
+        long version = section.getModificationCount();
+        Entry entry = map.get(path);
+
+        if (entry != null && entry.version() == version) {
+            this.hits.increment();
+            return ValueCache.copy(entry.value());
+        }
+
+        this.misses.increment();
+        Object value = type.convert(section.get(path));
+
+        map.put(path, new Entry(version, value));
+        return ValueCache.copy(value);
+    }
+
+    /**
+     * Used to copy a cached list, so every caller gets
+     * its own list that can be changed, the same as
+     * when the cache is disabled.
+     *
+     * @param value The cached value.
+     * @return The value to return.
+     */
+    private static @Nullable Object copy(@Nullable Object value) {
+        if (value instanceof List<?> list) return new ArrayList<>(list);
+        return value;
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.smuddgge.squishyconfiguration.path;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a precompiled configuration path.
+ * <p>
+ * The dot separated path is split into its segments
+ * once, so the same instance can be used for any number
+ * of lookups without parsing the string again.
+ * <pre>{@code
+ * ConfigPath path = ConfigPath.of("a.b.c");
+ * configuration.getString(path);
+ * }</pre>
+ */
+public final class ConfigPath {
+
+    /**
+     * The maximum number of paths kept in the path cache.
+     * <p>
+     * The cache is split into two generations of half this
+     * size. When the new generation is full, the old generation
+     * is dropped and the new one becomes old. Paths found in the
+     * old generation are moved back into the new one, so paths
+     * that are used often stay cached while paths built from
+     * dynamic keys can't grow the cache forever.
+     */
+    public static final int CACHE_SIZE = 4096;
+
+    private static volatile @NotNull Map<String, ConfigPath> youngCache = new ConcurrentHashMap<>();
+    private static volatile @NotNull Map<String, ConfigPath> oldCache = new ConcurrentHashMap<>();
+
+    private final @NotNull String path;
+    private final @NotNull String[] segments;
+    private final int hash;
+    private @Nullable ConfigPath parent;
+
+    private ConfigPath(@NotNull String path, @NotNull String[] segments) {
+        this.path = path;
+        this.segments = segments;
+        this.hash = path.hashCode();
+    }
+
+    /**
+     * Used to get the precompiled version of a path.
+     * <p>
+     * Paths are kept in a shared cache, so a string
+     * path will only be parsed the first time it is used.
+     *
+     * @param path The dot separated path.
+     * @return The precompiled path.
+     */
+    public static @NotNull ConfigPath of(@NotNull String path) {
+        Map<String, ConfigPath> young = youngCache;
+        ConfigPath configPath = young.get(path);
+        if (configPath != null) return configPath;
+
+        configPath = oldCache.get(path);
+        if (configPath == null) configPath = ConfigPath.parse(path);
+
+        // Stop dynamic paths from filling the cache.
+        if (young.size() >= CACHE_SIZE / 2) young = ConfigPath.age(young);
+        young.put(path, configPath);
+        return configPath;
+    }
+
+    /**
+     * Used to drop the old generation of the path cache
+     * and start a new young generation.
+     *
+     * @param young The young generation that is full.
+     * @return The young generation to add paths to.
+     */
+    private static synchronized @NotNull Map<String, ConfigPath> age(@NotNull Map<String, ConfigPath> young) {
+
+        // Another thread may have already started a new generation.
+        if (youngCache != young) return youngCache;
+
+        oldCache = young;
+        youngCache = new ConcurrentHashMap<>();
+        return youngCache;
+    }
+
+    /**
+     * Used to parse a path without using the path cache.
+     * <p>
+     * The path is split on every dot and trailing empty
+     * segments are removed, the same as {@code path.split("\\.")}.
+     * A path that only contains dots has one empty segment.
+     *
+     * @param path The dot separated path.
+     * @return The precompiled path.
+     */
+    public static @NotNull ConfigPath parse(@NotNull String path) {
+
+        // Count the segments.
+        int count = 1;
+        for (int index = 0; index < path.length(); index++) {
+            if (path.charAt(index) == '.') count++;
+        }
+
+        String[] segments = new String[count];
+        int start = 0;
+        int segment = 0;
+
+        for (int index = 0; index < path.length(); index++) {
+            if (path.charAt(index) != '.') continue;
+            segments[segment++] = path.substring(start, index);
+            start = index + 1;
+        }
+
+        segments[segment] = path.substring(start);
+
+        // Remove trailing empty segments.
+        int length = segments.length;
+        while (length > 1 && segments[length - 1].isEmpty()) length--;
+        if (length != segments.length) segments = Arrays.copyOf(segments, length);
+
+        return new ConfigPath(path, segments);
+    }
+
+    /**
+     * Used to get the number of segments in the path.
+     * <li>For example: "a.b.c" has 3 segments.</li>
+     *
+     * @return The number of segments.
+     */
+    public int size() {
+        return this.segments.length;
+    }
+
+    /**
+     * Used to get a segment of the path.
+     *
+     * @param index The index of the segment.
+     * @return The key at that index.
+     */
+    public @NotNull String getSegment(int index) {
+        return this.segments[index];
+    }
+
+    /**
+     * Used to get the last segment of the path.
+     * This is the key of the value within its section.
+     *
+     * @return The last key.
+     */
+    public @NotNull String getLastSegment() {
+        return this.segments[this.segments.length - 1];
+    }
+
+    /**
+     * Used to check if the path points into a subsection.
+     *
+     * @return True if the path has more than one segment.
+     */
+    public boolean isNested() {
+        return this.segments.length > 1;
+    }
+
+    /**
+     * Used to get the path of the section containing this path.
+     * <li>For example: the parent of "a.b.c" is "a.b".</li>
+     *
+     * @return The parent path, or null if the path has one segment.
+     */
+    public @Nullable ConfigPath getParent() {
+        if (this.segments.length == 1) return null;
+        if (this.parent != null) return this.parent;
+
+        String[] segments = Arrays.copyOf(this.segments, this.segments.length - 1);
+        this.parent = new ConfigPath(String.join(".", segments), segments);
+        return this.parent;
+    }
+
+    /**
+     * Used to check if this path is the same as, or
+     * within, another path.
+     * <li>For example: "a.b.c" starts with "a.b".</li>
+     *
+     * @param path The other path.
+     * @return True if this path starts with the segments of the other path.
+     */
+    public boolean startsWith(@NotNull ConfigPath path) {
+        if (path.segments.length > this.segments.length) return false;
+
+        for (int index = 0; index < path.segments.length; index++) {
+            if (!this.segments[index].equals(path.segments[index])) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Used to create a new path with another path
+     * appended to the end of this path.
+     *
+     * @param path The path to append.
+     * @return The combined path.
+     */
+    public @NotNull ConfigPath resolve(@NotNull ConfigPath path) {
+        String[] combined = Arrays.copyOf(this.segments, this.segments.length + path.segments.length);
+        System.arraycopy(path.segments, 0, combined, this.segments.length, path.segments.length);
+        return new ConfigPath(this.path + "." + path.path, combined);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof ConfigPath)) return false;
+
+        ConfigPath other = (ConfigPath) object;
+        return this.hash == other.hash && this.path.equals(other.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return this.path;
+    }
+}
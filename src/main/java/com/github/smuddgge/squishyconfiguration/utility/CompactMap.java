@@ -0,0 +1,291 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents a map that stores a few keys in a single array.
+ * <p>
+ * Keys and values are stored next to each other in the
+ * array and are found by checking each key, which uses
+ * much less memory than a hash map for small sections.
+ * <ul>
+ *     <li>The order keys are added in is kept.</li>
+ *     <li>Once the map has more than {@link #MAX_ARRAY_SIZE} keys,
+ *         it will store them in a {@link LinkedHashMap} instead.</li>
+ *     <li>This map is not thread safe.</li>
+ * </ul>
+ */
+public class CompactMap extends AbstractMap<String, Object> {
+
+    /**
+     * The maximum number of keys stored in the array.
+     */
+    public static final int MAX_ARRAY_SIZE = 8;
+
+    private @NotNull Object[] table;
+    private int size;
+    private @Nullable Map<String, Object> delegate;
+    private int modifications;
+
+    /**
+     * Used to create an empty compact map.
+     */
+    public CompactMap() {
+        this.table = new Object[4];
+    }
+
+    /**
+     * Used to create a compact map with room for
+     * a number of keys.
+     *
+     * @param capacity The number of keys.
+     */
+    public CompactMap(int capacity) {
+        if (capacity > MAX_ARRAY_SIZE) {
+            this.table = new Object[0];
+            this.delegate = new LinkedHashMap<>();
+            return;
+        }
+
+        this.table = new Object[Math.max(1, capacity) * 2];
+    }
+
+    /**
+     * Used to check if the keys are stored in the array.
+     *
+     * @return True if the keys are stored in the array.
+     */
+    public boolean isCompact() {
+        return this.delegate == null;
+    }
+
+    private int indexOf(@Nullable Object key) {
+        Object[] table = this.table;
+        int length = this.size * 2;
+
+        // Check identity first, as keys are often shared.
+        for (int index = 0; index < length; index += 2) {
+            if (table[index] == key) return index;
+        }
+
+        if (key == null) return -1;
+        for (int index = 0; index < length; index += 2) {
+            if (key.equals(table[index])) return index;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        if (this.delegate != null) return this.delegate.size();
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (this.delegate != null) return this.delegate.containsKey(key);
+        return this.indexOf(key) != -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (this.delegate != null) return this.delegate.get(key);
+
+        int index = this.indexOf(key);
+        return index == -1 ? null : this.table[index + 1];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (this.delegate != null) return this.delegate.put(key, value);
+
+        int index = this.indexOf(key);
+        if (index != -1) {
+            Object previous = this.table[index + 1];
+            this.table[index + 1] = value;
+            return previous;
+        }
+
+        // Move the keys into a map when there are too many.
+        if (this.size == MAX_ARRAY_SIZE) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int position = 0; position < this.size * 2; position += 2) {
+                map.put((String) this.table[position], this.table[position + 1]);
+            }
+
+            map.put(key, value);
+            this.delegate = map;
+            this.table = new Object[0];
+            this.size = 0;
+            this.modifications++;
+            return null;
+        }
+
+        if (this.size * 2 == this.table.length) {
+            this.table = Arrays.copyOf(this.table, Math.min(MAX_ARRAY_SIZE, this.size * 2) * 2);
+        }
+
+        this.table[this.size * 2] = key;
+        this.table[this.size * 2 + 1] = value;
+        this.size++;
+        this.modifications++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (this.delegate != null) return this.delegate.remove(key);
+
+        int index = this.indexOf(key);
+        if (index == -1) return null;
+
+        Object previous = this.table[index + 1];
+        this.removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        int length = this.size * 2;
+        System.arraycopy(this.table, index + 2, this.table, index, length - index - 2);
+        this.table[length - 2] = null;
+        this.table[length - 1] = null;
+        this.size--;
+        this.modifications++;
+    }
+
+    @Override
+    public void clear() {
+        if (this.delegate != null) {
+            this.delegate.clear();
+            return;
+        }
+
+        Arrays.fill(this.table, null);
+        this.size = 0;
+        this.modifications++;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, Object>> entrySet() {
+        if (this.delegate != null) return this.delegate.entrySet();
+        return new EntrySet();
+    }
+
+    /**
+     * Used to get the approximate number of bytes used
+     * by this map, not including its keys and values.
+     *
+     * @return The shallow size in bytes.
+     */
+    public long getShallowSize() {
+        if (this.delegate != null) return 40 + MemoryUtility.getShallowSize(this.delegate);
+        return 40 + MemoryUtility.getArraySize(this.table.length, 4);
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<String, Object>> iterator() {
+            if (CompactMap.this.delegate != null) return CompactMap.this.delegate.entrySet().iterator();
+            return new EntryIterator();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModifications = CompactMap.this.modifications;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < CompactMap.this.size * 2;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (CompactMap.this.modifications != this.expectedModifications) throw new ConcurrentModificationException();
+            if (!this.hasNext()) throw new NoSuchElementException();
+
+            this.last = this.next;
+            this.next += 2;
+            return new CompactEntry(this.last);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == -1) throw new IllegalStateException();
+            if (CompactMap.this.modifications != this.expectedModifications) throw new ConcurrentModificationException();
+
+            CompactMap.this.removeAt(this.last);
+            this.next = this.last;
+            this.last = -1;
+            this.expectedModifications = CompactMap.this.modifications;
+        }
+    }
+
+    private class CompactEntry implements Entry<String, Object> {
+
+        private final int index;
+
+        private CompactEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return (String) CompactMap.this.table[this.index];
+        }
+
+        @Override
+        public Object getValue() {
+            return CompactMap.this.table[this.index + 1];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = CompactMap.this.table[this.index + 1];
+            CompactMap.this.table[this.index + 1] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Entry<?, ?> entry)) return false;
+            return Objects.equals(this.getKey(), entry.getKey()) && Objects.equals(this.getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
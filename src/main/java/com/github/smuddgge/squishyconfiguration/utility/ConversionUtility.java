@@ -1,10 +1,16 @@
 package com.github.smuddgge.squishyconfiguration.utility;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents the conversion utility.
@@ -20,18 +26,559 @@ public class ConversionUtility {
      * @return The converted object.
      */
     public static @NotNull Object convertLists(@NotNull Object object) {
+        return ConversionUtility.convertLists(object, false);
+    }
 
-        // Check if the object is an int list.
-        if (object instanceof int[]) {
-            List<Integer> integerList = new ArrayList<>();
-            for (int number : (int[]) object) integerList.add(number);
-            return integerList;
+    /**
+     * Used to convert arrays and lists into the
+     * type they should be stored as.
+     * <li>String[] -> List[String]</li>
+     * <li>int[], long[], double[], boolean[] -> List, or a copy of the array if primitive is true.</li>
+     * <li>List[Integer] -> int[] if primitive is true, and the same for long, double and boolean lists.</li>
+     *
+     * @param object    The instance of the object.
+     * @param primitive True if number and boolean lists
+     *                  should be stored as primitive arrays.
+     * @return The converted object.
+     */
+    public static Object convertLists(Object object, boolean primitive) {
+
+        // Check if the object is a primitive list.
+        if (ConversionUtility.isPrimitiveArray(object)) {
+            if (primitive) return ConversionUtility.copyArray(object);
+            return new ArrayList<>(new PrimitiveArrayList(object));
         }
 
         if (object instanceof String[]) {
             return new ArrayList<>(Arrays.asList((String[]) object));
         }
 
+        if (primitive && object instanceof List) {
+            return ConversionUtility.toPrimitiveArray((List<?>) object);
+        }
+
+        return object;
+    }
+
+    /**
+     * Used to check if an object is a primitive array
+     * that can be stored in a configuration section.
+     *
+     * @param object The instance of the object.
+     * @return True if it is an int, long, double or boolean array.
+     */
+    public static boolean isPrimitiveArray(Object object) {
+        return object instanceof int[]
+                || object instanceof long[]
+                || object instanceof double[]
+                || object instanceof boolean[];
+    }
+
+    private static @NotNull Object copyArray(@NotNull Object array) {
+        if (array instanceof int[]) return ((int[]) array).clone();
+        if (array instanceof long[]) return ((long[]) array).clone();
+        if (array instanceof double[]) return ((double[]) array).clone();
+        return ((boolean[]) array).clone();
+    }
+
+    /**
+     * Used to convert a list into a primitive array
+     * if every item is the same primitive type.
+     * <li>Integers -> int[]</li>
+     * <li>Integers and longs -> long[]</li>
+     * <li>Doubles -> double[]</li>
+     * <li>Booleans -> boolean[]</li>
+     * Empty lists and other lists are returned as they are.
+     *
+     * @param list The instance of the list.
+     * @return The primitive array or the same list.
+     */
+    public static @NotNull Object toPrimitiveArray(@NotNull List<?> list) {
+        if (list.isEmpty()) return list;
+
+        boolean integers = true;
+        boolean longs = true;
+        boolean doubles = true;
+        boolean booleans = true;
+
+        for (Object item : list) {
+            integers &= item instanceof Integer;
+            longs &= item instanceof Integer || item instanceof Long;
+            doubles &= item instanceof Double;
+            booleans &= item instanceof Boolean;
+            if (!longs && !doubles && !booleans) return list;
+        }
+
+        int size = list.size();
+
+        if (integers) {
+            int[] array = new int[size];
+            for (int index = 0; index < size; index++) array[index] = (Integer) list.get(index);
+            return array;
+        }
+
+        if (longs) {
+            long[] array = new long[size];
+            for (int index = 0; index < size; index++) array[index] = ((Number) list.get(index)).longValue();
+            return array;
+        }
+
+        if (doubles) {
+            double[] array = new double[size];
+            for (int index = 0; index < size; index++) array[index] = (Double) list.get(index);
+            return array;
+        }
+
+        boolean[] array = new boolean[size];
+        for (int index = 0; index < size; index++) array[index] = (Boolean) list.get(index);
+        return array;
+    }
+
+    /**
+     * Used to convert every list of numbers or booleans within
+     * a loaded tree into primitive arrays.
+     * <p>
+     * The maps and lists in the tree are changed,
+     * so they must be modifiable.
+     *
+     * @param object The map or list to convert within.
+     */
+    @SuppressWarnings("unchecked")
+    public static void convertPrimitiveLists(Object object) {
+
+        if (object instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) object).entrySet()) {
+                Object value = entry.getValue();
+                if (value instanceof Map) ConversionUtility.convertPrimitiveLists(value);
+                if (!(value instanceof List)) continue;
+
+                Object converted = ConversionUtility.toPrimitiveArray((List<?>) value);
+                if (converted != value) entry.setValue(converted);
+                else ConversionUtility.convertPrimitiveLists(value);
+            }
+            return;
+        }
+
+        if (object instanceof List) {
+            List<Object> list = (List<Object>) object;
+            for (int index = 0; index < list.size(); index++) {
+                Object item = list.get(index);
+                if (item instanceof Map) ConversionUtility.convertPrimitiveLists(item);
+                if (!(item instanceof List)) continue;
+
+                Object converted = ConversionUtility.toPrimitiveArray((List<?>) item);
+                if (converted != item) list.set(index, converted);
+                else ConversionUtility.convertPrimitiveLists(item);
+            }
+        }
+    }
+
+    /**
+     * Used to copy the maps in a tree into concurrent maps.
+     * <p>
+     * Null values are removed, as they can't be stored in
+     * a concurrent map. Lists are copied into unmodifiable
+     * lists, as an array list can't be changed safely by
+     * more than one thread, so they must be replaced instead.
+     *
+     * @param object The map or value to copy.
+     * @return The copied map or list, or the same value if it is neither.
+     */
+    public static Object toConcurrent(Object object) {
+        if (object instanceof List) {
+            List<?> list = (List<?>) object;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) copy.add(ConversionUtility.toConcurrent(item));
+            return Collections.unmodifiableList(copy);
+        }
+
+        if (!(object instanceof Map)) return object;
+
+        Map<?, ?> map = (Map<?, ?>) object;
+        Map<String, Object> concurrentMap = new ConcurrentHashMap<>(Math.max(16, map.size() * 2));
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() == null) continue;
+            concurrentMap.put(String.valueOf(entry.getKey()), ConversionUtility.toConcurrent(entry.getValue()));
+        }
+
+        return concurrentMap;
+    }
+
+    /**
+     * Used to get a value as a list.
+     * Primitive arrays are returned as a read only list view of the array.
+     *
+     * @param object The instance of the value.
+     * @return The list, or null if the value is not a list.
+     */
+    public static @Nullable List<?> asList(@Nullable Object object) {
+        if (object instanceof List) return (List<?>) object;
+        if (ConversionUtility.isPrimitiveArray(object)) return new PrimitiveArrayList(object);
+        return null;
+    }
+
+    /**
+     * Used to make sure every map within a value only
+     * uses string keys.
+     * <p>
+     * Non-string keys, for example numbers in a yaml
+     * file, are converted with {@link String#valueOf(Object)}.
+     * Maps and lists are only copied when something inside
+     * them needs converting, otherwise the same instance
+     * is returned.
+     *
+     * @param object The instance of the value.
+     * @return The converted value.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object convertKeys(Object object) {
+
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            Map<String, Object> converted = null;
+            int index = 0;
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey();
+                Object value = entry.getValue();
+                Object convertedValue = ConversionUtility.convertKeys(value);
+
+                // Copy the entries before this one when the first change is found.
+                if (converted == null && (!(key instanceof String) || convertedValue != value)) {
+                    converted = new LinkedHashMap<>();
+                    Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+                    for (int previous = 0; previous < index; previous++) {
+                        Map.Entry<?, ?> previousEntry = iterator.next();
+                        converted.put((String) previousEntry.getKey(), previousEntry.getValue());
+                    }
+                }
+
+                if (converted != null) converted.put(String.valueOf(key), convertedValue);
+                index++;
+            }
+
+            return converted == null ? (Map<String, Object>) map : converted;
+        }
+
+        if (object instanceof List) {
+            List<Object> list = (List<Object>) object;
+            List<Object> converted = null;
+
+            for (int index = 0; index < list.size(); index++) {
+                Object item = list.get(index);
+                Object convertedItem = ConversionUtility.convertKeys(item);
+
+                // Copy the list when the first change is found.
+                if (converted == null && convertedItem != item) converted = new ArrayList<>(list);
+                if (converted != null) converted.set(index, convertedItem);
+            }
+
+            return converted == null ? list : converted;
+        }
+
         return object;
     }
+
+    /**
+     * Used to copy a map and every map nested within it
+     * into new modifiable maps with string keys.
+     * <p>
+     * Lists are kept, but maps within them are converted
+     * using {@link ConversionUtility#convertKeys(Object)}.
+     *
+     * @param map The instance of the map.
+     * @return The copied map.
+     */
+    public static @NotNull Map<String, Object> copyMap(@NotNull Map<?, ?> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+
+            if (value instanceof Map) {
+                copy.put(String.valueOf(entry.getKey()), ConversionUtility.copyMap((Map<?, ?>) value));
+                continue;
+            }
+
+            copy.put(String.valueOf(entry.getKey()), ConversionUtility.convertKeys(value));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Used to create a deep copy of a value that can't be changed.
+     * <p>
+     * Maps and lists are copied into unmodifiable maps and lists.
+     * Primitive arrays are copied, as arrays can't be made unmodifiable.
+     *
+     * @param object The value to copy.
+     * @return The unmodifiable copy.
+     */
+    public static Object freeze(Object object) {
+
+        if (object instanceof Map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                copy.put(String.valueOf(entry.getKey()), ConversionUtility.freeze(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+
+        if (object instanceof List) {
+            List<?> list = (List<?>) object;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) copy.add(ConversionUtility.freeze(item));
+            return Collections.unmodifiableList(copy);
+        }
+
+        if (ConversionUtility.isPrimitiveArray(object)) return ConversionUtility.copyArray(object);
+        return object;
+    }
+
+    /**
+     * Used to get a value as a string.
+     *
+     * @param object The instance of the value.
+     * @return The string, or null if the value is not a string.
+     */
+    public static @Nullable Object asString(@Nullable Object object) {
+        return object instanceof String ? object : null;
+    }
+
+    /**
+     * Used to get a value as an integer.
+     * Doubles and longs will be converted into integers.
+     *
+     * @param object The instance of the value.
+     * @return The integer, or null if the value is not a number.
+     */
+    public static @Nullable Object asInteger(@Nullable Object object) {
+        if (object instanceof Integer) return object;
+        if (object instanceof Double) return ((Double) object).intValue();
+        if (object instanceof Long) return ((Long) object).intValue();
+        return null;
+    }
+
+    /**
+     * Used to get a value as a long.
+     * Integers will be converted into longs.
+     *
+     * @param object The instance of the value.
+     * @return The long, or null if the value is not a long or integer.
+     */
+    public static @Nullable Object asLong(@Nullable Object object) {
+        if (object instanceof Integer) return ((Integer) object).longValue();
+        return object instanceof Long ? object : null;
+    }
+
+    /**
+     * Used to get a value as a double.
+     * Integers will be converted into doubles.
+     *
+     * @param object The instance of the value.
+     * @return The double, or null if the value is not a double or integer.
+     */
+    public static @Nullable Object asDouble(@Nullable Object object) {
+        if (object instanceof Integer) return ((Integer) object).doubleValue();
+        return object instanceof Double ? object : null;
+    }
+
+    /**
+     * Used to get a value as a boolean.
+     *
+     * @param object The instance of the value.
+     * @return The boolean, or null if the value is not a boolean.
+     */
+    public static @Nullable Object asBoolean(@Nullable Object object) {
+        return object instanceof Boolean ? object : null;
+    }
+
+    /**
+     * Used to get a value as a list of strings.
+     * <li>If the value is not a list, an empty list is returned.</li>
+     *
+     * @param object The instance of the value.
+     * @return The list of strings, or null if an item is not a string.
+     */
+    public static @Nullable Object asStringList(@Nullable Object object) {
+        List<?> items = ConversionUtility.asList(object);
+        if (items == null) return new ArrayList<String>();
+
+        List<String> list = new ArrayList<>(items.size());
+
+        for (Object item : items) {
+            if (!(item instanceof String)) return null;
+            list.add((String) item);
+        }
+
+        return list;
+    }
+
+    /**
+     * Used to get a value as a list of integers.
+     * Longs in the list will be converted into integers.
+     * <li>If the value is not a list, an empty list is returned.</li>
+     *
+     * @param object The instance of the value.
+     * @return The list of integers, or null if an item is not an integer.
+     */
+    public static @Nullable Object asIntegerList(@Nullable Object object) {
+        if (object instanceof double[] || object instanceof boolean[]) return null;
+
+        List<?> items = ConversionUtility.asList(object);
+        if (items == null) return new ArrayList<Integer>();
+
+        List<Integer> list = new ArrayList<>(items.size());
+
+        for (Object item : items) {
+            if (item instanceof Long) {
+                list.add(((Long) item).intValue());
+                continue;
+            }
+
+            if (!(item instanceof Integer)) return null;
+            list.add((Integer) item);
+        }
+
+        return list;
+    }
+
+    /**
+     * Used to get a value as an int array.
+     * Long and double arrays, and lists of numbers
+     * are converted into a new array, and int
+     * arrays are copied.
+     *
+     * @param object The instance of the value.
+     * @return The int array, or null if the value is not a list of numbers.
+     */
+    public static int @Nullable [] asIntArray(@Nullable Object object) {
+        if (object instanceof int[]) return ((int[]) object).clone();
+
+        if (object instanceof long[]) {
+            long[] longs = (long[]) object;
+            int[] array = new int[longs.length];
+            for (int index = 0; index < longs.length; index++) array[index] = (int) longs[index];
+            return array;
+        }
+
+        if (object instanceof double[]) {
+            double[] doubles = (double[]) object;
+            int[] array = new int[doubles.length];
+            for (int index = 0; index < doubles.length; index++) array[index] = (int) doubles[index];
+            return array;
+        }
+
+        if (!(object instanceof List)) return null;
+        List<?> list = (List<?>) object;
+        int[] array = new int[list.size()];
+
+        for (int index = 0; index < array.length; index++) {
+            if (!(list.get(index) instanceof Number)) return null;
+            array[index] = ((Number) list.get(index)).intValue();
+        }
+
+        return array;
+    }
+
+    /**
+     * Used to get a value as a long array.
+     * Int and double arrays, and lists of numbers
+     * are converted into a new array, and long
+     * arrays are copied.
+     *
+     * @param object The instance of the value.
+     * @return The long array, or null if the value is not a list of numbers.
+     */
+    public static long @Nullable [] asLongArray(@Nullable Object object) {
+        if (object instanceof long[]) return ((long[]) object).clone();
+
+        if (object instanceof int[]) {
+            int[] ints = (int[]) object;
+            long[] array = new long[ints.length];
+            for (int index = 0; index < ints.length; index++) array[index] = ints[index];
+            return array;
+        }
+
+        if (object instanceof double[]) {
+            double[] doubles = (double[]) object;
+            long[] array = new long[doubles.length];
+            for (int index = 0; index < doubles.length; index++) array[index] = (long) doubles[index];
+            return array;
+        }
+
+        if (!(object instanceof List)) return null;
+        List<?> list = (List<?>) object;
+        long[] array = new long[list.size()];
+
+        for (int index = 0; index < array.length; index++) {
+            if (!(list.get(index) instanceof Number)) return null;
+            array[index] = ((Number) list.get(index)).longValue();
+        }
+
+        return array;
+    }
+
+    /**
+     * Used to get a value as a double array.
+     * Int and long arrays, and lists of numbers
+     * are converted into a new array, and double
+     * arrays are copied.
+     *
+     * @param object The instance of the value.
+     * @return The double array, or null if the value is not a list of numbers.
+     */
+    public static double @Nullable [] asDoubleArray(@Nullable Object object) {
+        if (object instanceof double[]) return ((double[]) object).clone();
+
+        if (object instanceof int[]) {
+            int[] ints = (int[]) object;
+            double[] array = new double[ints.length];
+            for (int index = 0; index < ints.length; index++) array[index] = ints[index];
+            return array;
+        }
+
+        if (object instanceof long[]) {
+            long[] longs = (long[]) object;
+            double[] array = new double[longs.length];
+            for (int index = 0; index < longs.length; index++) array[index] = longs[index];
+            return array;
+        }
+
+        if (!(object instanceof List)) return null;
+        List<?> list = (List<?>) object;
+        double[] array = new double[list.size()];
+
+        for (int index = 0; index < array.length; index++) {
+            if (!(list.get(index) instanceof Number)) return null;
+            array[index] = ((Number) list.get(index)).doubleValue();
+        }
+
+        return array;
+    }
+
+    /**
+     * Used to get a value as a boolean array.
+     * Lists of booleans are converted into a new array,
+     * and boolean arrays are copied.
+     *
+     * @param object The instance of the value.
+     * @return The boolean array, or null if the value is not a list of booleans.
+     */
+    public static boolean @Nullable [] asBooleanArray(@Nullable Object object) {
+        if (object instanceof boolean[]) return ((boolean[]) object).clone();
+
+        if (!(object instanceof List)) return null;
+        List<?> list = (List<?>) object;
+        boolean[] array = new boolean[list.size()];
+
+        for (int index = 0; index < array.length; index++) {
+            if (!(list.get(index) instanceof Boolean)) return null;
+            array[index] = (Boolean) list.get(index);
+        }
+
+        return array;
+    }
 }
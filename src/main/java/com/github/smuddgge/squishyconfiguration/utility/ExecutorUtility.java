@@ -0,0 +1,57 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents utility methods for the executors used
+ * to load and save configurations in the background.
+ */
+public final class ExecutorUtility {
+
+    private static final @NotNull Executor DEFAULT_EXECUTOR = ExecutorUtility.createDefaultExecutor();
+
+    private ExecutorUtility() {
+    }
+
+    /**
+     * Used to get the executor shared by configurations
+     * that have not been given their own executor.
+     * <p>
+     * On java 21 or newer each task runs on a new virtual thread.
+     * Otherwise, tasks run on a pool of daemon threads, so
+     * they never stop the jvm from shutting down.
+     *
+     * @return The default executor.
+     */
+    public static @NotNull Executor getDefaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    private static @NotNull Executor createDefaultExecutor() {
+
+        // Virtual threads are found at runtime,
+        // as the library is compiled for java 17.
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+            // Virtual threads are not available.
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "SquishyConfiguration-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        return Executors.newCachedThreadPool(factory);
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents utility methods used to reduce and
+ * estimate the memory used by configuration data.
+ * <p>
+ * Sizes are estimated for a 64-bit jvm with compressed
+ * references, so they are approximate.
+ */
+public final class MemoryUtility {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+
+    private MemoryUtility() {
+    }
+
+    /**
+     * Used to compact the maps, lists and strings in a tree.
+     * <ul>
+     *     <li>Equal keys and string values are replaced with one shared instance.</li>
+     *     <li>Maps with a few keys are replaced with a {@link CompactMap}.</li>
+     *     <li>Lists are copied into lists without unused capacity.</li>
+     * </ul>
+     *
+     * @param object  The tree to compact.
+     * @param strings The pool of shared strings.
+     * @param maps    False if maps should not be replaced,
+     *                only their keys and values compacted.
+     * @return The compacted tree.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object compact(Object object, @NotNull Map<String, String> strings, boolean maps) {
+
+        if (object instanceof String) return MemoryUtility.share((String) object, strings);
+
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            Map<String, Object> compact;
+
+            if (!maps) {
+                compact = (Map<String, Object>) map;
+                for (Map.Entry<String, Object> entry : compact.entrySet()) {
+                    entry.setValue(MemoryUtility.compact(entry.getValue(), strings, false));
+                }
+                return compact;
+            }
+
+            compact = map.size() <= CompactMap.MAX_ARRAY_SIZE
+                    ? new CompactMap(map.size())
+                    : new LinkedHashMap<>((int) (map.size() / 0.75F) + 1);
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                compact.put(
+                        MemoryUtility.share(String.valueOf(entry.getKey()), strings),
+                        MemoryUtility.compact(entry.getValue(), strings, true)
+                );
+            }
+
+            return compact;
+        }
+
+        if (object instanceof List) {
+            List<?> list = (List<?>) object;
+            if (list.isEmpty()) return new ArrayList<>(0);
+
+            List<Object> compact = new ArrayList<>(list.size());
+            for (Object item : list) compact.add(MemoryUtility.compact(item, strings, maps));
+            return compact;
+        }
+
+        return object;
+    }
+
+    private static @NotNull String share(@NotNull String string, @NotNull Map<String, String> strings) {
+        String shared = strings.putIfAbsent(string, string);
+        return shared == null ? string : shared;
+    }
+
+    /**
+     * Used to estimate the number of bytes retained by a tree.
+     * <p>
+     * Objects that appear more than once, such as shared
+     * strings, are only counted once.
+     *
+     * @param object The tree to measure.
+     * @return The estimated size in bytes.
+     */
+    public static long getRetainedSize(@Nullable Object object) {
+        return MemoryUtility.getRetainedSize(object, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static long getRetainedSize(@Nullable Object object, @NotNull Set<Object> seen) {
+        if (object == null || !seen.add(object)) return 0;
+
+        if (object instanceof String) return MemoryUtility.getStringSize((String) object);
+
+        // Small boxed values are cached by the jvm.
+        if (object instanceof Boolean) return 0;
+        if (object instanceof Integer && (Integer) object >= -128 && (Integer) object <= 127) return 0;
+        if (object instanceof Long && (Long) object >= -128 && (Long) object <= 127) return 0;
+        if (object instanceof Integer) return MemoryUtility.align(HEADER + 4);
+        if (object instanceof Long || object instanceof Double) return MemoryUtility.align(HEADER + 8);
+
+        if (object instanceof int[]) return MemoryUtility.getArraySize(((int[]) object).length, 4);
+        if (object instanceof long[]) return MemoryUtility.getArraySize(((long[]) object).length, 8);
+        if (object instanceof double[]) return MemoryUtility.getArraySize(((double[]) object).length, 8);
+        if (object instanceof boolean[]) return MemoryUtility.getArraySize(((boolean[]) object).length, 1);
+
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            long size = object instanceof CompactMap
+                    ? ((CompactMap) object).getShallowSize()
+                    : MemoryUtility.getShallowSize(map);
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += MemoryUtility.getRetainedSize(entry.getKey(), seen);
+                size += MemoryUtility.getRetainedSize(entry.getValue(), seen);
+            }
+
+            return size;
+        }
+
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            long size = MemoryUtility.align(HEADER + 12) + MemoryUtility.getArraySize(collection.size(), REFERENCE);
+            for (Object item : collection) size += MemoryUtility.getRetainedSize(item, seen);
+            return size;
+        }
+
+        return MemoryUtility.align(HEADER + 4);
+    }
+
+    /**
+     * Used to estimate the number of bytes used by a map,
+     * not including its keys and values.
+     *
+     * @param map The instance of the map.
+     * @return The shallow size in bytes.
+     */
+    public static long getShallowSize(@NotNull Map<?, ?> map) {
+        int capacity = Integer.highestOneBit(Math.max(1, (int) (map.size() / 0.75F)) * 2 - 1);
+        long table = MemoryUtility.getArraySize(Math.max(16, capacity), REFERENCE);
+
+        if (map instanceof LinkedHashMap) return 56 + table + map.size() * 40L;
+        if (map instanceof HashMap) return 48 + table + map.size() * 32L;
+        if (map instanceof ConcurrentHashMap) return 64 + table + map.size() * 32L;
+        return 48 + table + map.size() * 32L;
+    }
+
+    /**
+     * Used to estimate the number of bytes used by an array.
+     *
+     * @param length The length of the array.
+     * @param width  The number of bytes used by each item.
+     * @return The size in bytes.
+     */
+    public static long getArraySize(int length, int width) {
+        return MemoryUtility.align(16 + (long) length * width);
+    }
+
+    private static long getStringSize(@NotNull String string) {
+        boolean latin = true;
+        for (int index = 0; index < string.length() && latin; index++) {
+            latin = string.charAt(index) < 256;
+        }
+
+        return MemoryUtility.align(HEADER + 12) + MemoryUtility.getArraySize(string.length(), latin ? 1 : 2);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Represents a read only list view of a primitive array.
+ * <p>
+ * Items are boxed when they are read. The list can't
+ * be changed, as the array may be stored in a section.
+ * Supports {@code int[]}, {@code long[]}, {@code double[]}
+ * and {@code boolean[]}.
+ */
+public class PrimitiveArrayList extends AbstractList<Object> implements RandomAccess {
+
+    private final @NotNull Object array;
+
+    /**
+     * Used to create a list view of a primitive array.
+     *
+     * @param array The instance of the array.
+     * @throws IllegalArgumentException If the array type is not supported.
+     */
+    public PrimitiveArrayList(@NotNull Object array) {
+        if (!ConversionUtility.isPrimitiveArray(array)) {
+            throw new IllegalArgumentException("Unsupported array type " + array.getClass().getSimpleName());
+        }
+
+        this.array = array;
+    }
+
+    @Override
+    public Object get(int index) {
+        if (this.array instanceof int[]) return ((int[]) this.array)[index];
+        if (this.array instanceof long[]) return ((long[]) this.array)[index];
+        if (this.array instanceof double[]) return ((double[]) this.array)[index];
+        return ((boolean[]) this.array)[index];
+    }
+
+    @Override
+    public int size() {
+        if (this.array instanceof int[]) return ((int[]) this.array).length;
+        if (this.array instanceof long[]) return ((long[]) this.array).length;
+        if (this.array instanceof double[]) return ((double[]) this.array).length;
+        return ((boolean[]) this.array).length;
+    }
+}
@@ -0,0 +1,474 @@
+package com.github.smuddgge.squishyconfiguration.watcher;
+
+import com.github.smuddgge.squishyconfiguration.directory.ConfigurationDirectory;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Represents a watcher that loads configurations
+ * and configuration directories again when their
+ * files are changed.
+ * <p>
+ * Editors and saves often change a file many times in
+ * a row, so changes are only handled once no more events
+ * have arrived for the debounce time. Each configuration is
+ * then loaded with {@link Configuration#reloadIfChanged()},
+ * and each directory only loads the files that changed with
+ * {@link ConfigurationDirectory#reload(java.util.Collection)}.
+ * Their listeners are called once for each settled change.
+ * <pre>{@code
+ * ConfigurationWatcher watcher = new ConfigurationWatcher();
+ * watcher.watch(configuration);
+ * watcher.watch(directory);
+ * }</pre>
+ * Changes are handled one at a time on the watcher's
+ * own daemon thread, until the watcher is closed.
+ */
+public class ConfigurationWatcher implements Closeable {
+
+    /**
+     * The default time to wait for a file
+     * to stop changing, in milliseconds.
+     */
+    public static final long DEFAULT_DEBOUNCE = 200;
+
+    private final @NotNull WatchService service;
+    private final long debounce;
+    private final @NotNull Thread thread;
+
+    /**
+     * Represents the lock held while the
+     * watched targets are used or changed.
+     */
+    private final @NotNull Object lock = new Object();
+
+    /**
+     * Represents the folder registered with each key.
+     */
+    private final @NotNull Map<WatchKey, Path> folders = new HashMap<>();
+
+    /**
+     * Represents the configurations watched for each file.
+     */
+    private final @NotNull Map<Path, Set<Configuration>> configurations = new HashMap<>();
+
+    /**
+     * Represents the root folder of each watched directory.
+     */
+    private final @NotNull Map<ConfigurationDirectory, Path> directories = new LinkedHashMap<>();
+
+    /**
+     * Represents the targets waiting for their files to stop changing.
+     * Only accessed by the watcher's thread.
+     */
+    private final @NotNull Map<Object, Pending> pending = new LinkedHashMap<>();
+
+    /**
+     * Represents changes waiting to be handled.
+     */
+    private static class Pending {
+
+        private long deadline;
+        private final @NotNull Set<File> files = new HashSet<>();
+    }
+
+    /**
+     * Used to create a watcher with the default debounce time.
+     *
+     * @throws IOException If the file system can't be watched.
+     */
+    public ConfigurationWatcher() throws IOException {
+        this(Duration.ofMillis(DEFAULT_DEBOUNCE));
+    }
+
+    /**
+     * Used to create a watcher.
+     *
+     * @param debounce The time to wait for a file to
+     *                 stop changing before it is loaded.
+     * @throws IOException If the file system can't be watched.
+     */
+    public ConfigurationWatcher(@NotNull Duration debounce) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.debounce = debounce.toNanos();
+
+        this.thread = new Thread(this::run, "SquishyConfiguration-Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Used to get the time waited for a
+     * file to stop changing.
+     *
+     * @return The debounce time.
+     */
+    public @NotNull Duration getDebounce() {
+        return Duration.ofNanos(this.debounce);
+    }
+
+    /**
+     * Used to load a configuration again
+     * when its file changes.
+     *
+     * @param configuration The configuration to watch.
+     * @return This instance.
+     * @throws IOException If the configuration's folder can't be watched.
+     */
+    public @NotNull ConfigurationWatcher watch(@NotNull Configuration configuration) throws IOException {
+        Path path = this.getPath(configuration.getFile());
+
+        synchronized (this.lock) {
+            this.register(path.getParent());
+            this.configurations.computeIfAbsent(path, key -> new HashSet<>()).add(configuration);
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to load the changed files of a
+     * configuration directory when they change.
+     * <p>
+     * Folders in the directory are watched too,
+     * including folders created later.
+     *
+     * @param directory The directory to watch.
+     * @return This instance.
+     * @throws IOException If the directory can't be watched.
+     */
+    public @NotNull ConfigurationWatcher watch(@NotNull ConfigurationDirectory directory) throws IOException {
+        Path root = this.getPath(directory.getDirectory());
+
+        synchronized (this.lock) {
+            this.registerTree(root);
+            this.directories.put(directory, root);
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to stop watching a configuration.
+     *
+     * @param configuration The configuration to stop watching.
+     * @return This instance.
+     */
+    public @NotNull ConfigurationWatcher unwatch(@NotNull Configuration configuration) {
+        Path path = this.getPath(configuration.getFile());
+
+        synchronized (this.lock) {
+            Set<Configuration> watched = this.configurations.get(path);
+            if (watched != null && watched.remove(configuration) && watched.isEmpty()) {
+                this.configurations.remove(path);
+            }
+            this.cancelUnused();
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to stop watching a configuration directory.
+     *
+     * @param directory The directory to stop watching.
+     * @return This instance.
+     */
+    public @NotNull ConfigurationWatcher unwatch(@NotNull ConfigurationDirectory directory) {
+        synchronized (this.lock) {
+            this.directories.remove(directory);
+            this.cancelUnused();
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to stop watching every file.
+     * Changes that are waiting to settle are dropped.
+     *
+     * @throws IOException If the watch service could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.service.close();
+        this.thread.interrupt();
+    }
+
+    private @NotNull Path getPath(@NotNull File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Used to watch a folder, if it is not already watched.
+     * Should be called while holding the lock.
+     *
+     * @param folder The folder to watch.
+     * @throws IOException If the folder can't be watched.
+     */
+    private void register(@NotNull Path folder) throws IOException {
+        if (this.folders.containsValue(folder)) return;
+
+        WatchKey key = folder.register(this.service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+        );
+        this.folders.put(key, folder);
+    }
+
+    /**
+     * Used to watch a folder and the folders inside it,
+     * skipping hidden folders like the directory does.
+     * Should be called while holding the lock.
+     *
+     * @param root The folder to watch.
+     * @throws IOException If a folder can't be watched.
+     */
+    private void registerTree(@NotNull Path root) throws IOException {
+        try (Stream<Path> stream = Files.walk(root)) {
+            for (Iterator<Path> iterator = stream.iterator(); iterator.hasNext(); ) {
+                Path folder = iterator.next();
+                if (!Files.isDirectory(folder)) continue;
+                if (!folder.equals(root) && this.isHidden(root, folder)) continue;
+                this.register(folder);
+            }
+        }
+    }
+
+    private boolean isHidden(@NotNull Path root, @NotNull Path path) {
+        for (Path name : root.relativize(path)) {
+            if (name.toString().startsWith(".")) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Used to stop watching the folders that
+     * no longer contain a watched file.
+     * Should be called while holding the lock.
+     */
+    private void cancelUnused() {
+        Iterator<Map.Entry<WatchKey, Path>> iterator = this.folders.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<WatchKey, Path> entry = iterator.next();
+            if (this.isUsed(entry.getValue())) continue;
+
+            entry.getKey().cancel();
+            iterator.remove();
+        }
+    }
+
+    private boolean isUsed(@NotNull Path folder) {
+        for (Path path : this.configurations.keySet()) {
+            if (folder.equals(path.getParent())) return true;
+        }
+
+        for (Path root : this.directories.values()) {
+            if (folder.startsWith(root)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Used to wait for events, and handle the
+     * changes that have settled.
+     */
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = this.poll();
+                if (key != null) this.handle(key);
+                this.handleSettled();
+            }
+
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+            // The watcher was closed.
+        }
+    }
+
+    /**
+     * Used to wait for the next event, or until
+     * the next change should have settled.
+     *
+     * @return The key with events, or null if
+     *         no events arrived in time.
+     * @throws InterruptedException If the watcher was closed.
+     */
+    private @Nullable WatchKey poll() throws InterruptedException {
+        if (this.pending.isEmpty()) return this.service.take();
+
+        long next = Long.MAX_VALUE;
+        for (Pending changes : this.pending.values()) next = Math.min(next, changes.deadline);
+
+        long wait = next - System.nanoTime();
+        if (wait <= 0) return this.service.poll();
+        return this.service.poll(wait, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Used to record the changes of a key's events.
+     *
+     * @param key The key with events.
+     */
+    private void handle(@NotNull WatchKey key) {
+        long deadline = System.nanoTime() + this.debounce;
+
+        synchronized (this.lock) {
+            Path folder = this.folders.get(key);
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (folder == null) continue;
+
+                // Some events were lost, so check everything in the folder.
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    this.recordFolder(folder, deadline);
+                    continue;
+                }
+
+                Path path = folder.resolve((Path) event.context());
+                this.record(path, deadline);
+
+                // Watch folders created in a directory.
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                    this.registerCreated(path);
+                }
+            }
+
+            if (!key.reset()) this.folders.remove(key);
+        }
+    }
+
+    /**
+     * Used to record a changed file for each target it belongs to.
+     * Should be called while holding the lock.
+     *
+     * @param path     The changed file.
+     * @param deadline When the change will have settled.
+     */
+    private void record(@NotNull Path path, long deadline) {
+        Set<Configuration> watched = this.configurations.get(path);
+        if (watched != null) {
+            for (Configuration configuration : watched) this.getPending(configuration, deadline);
+        }
+
+        for (Map.Entry<ConfigurationDirectory, Path> entry : this.directories.entrySet()) {
+            Path root = entry.getValue();
+            if (!path.startsWith(root) || path.equals(root) || this.isHidden(root, path)) continue;
+            if (path.getFileName().toString().endsWith(ConfigurationDirectory.DATA_FILE_EXTENSION)) continue;
+
+            this.getPending(entry.getKey(), deadline).files.add(path.toFile());
+        }
+    }
+
+    /**
+     * Used to record every target in a folder as changed.
+     * Should be called while holding the lock.
+     *
+     * @param folder   The folder.
+     * @param deadline When the change will have settled.
+     */
+    private void recordFolder(@NotNull Path folder, long deadline) {
+        for (Map.Entry<Path, Set<Configuration>> entry : this.configurations.entrySet()) {
+            if (folder.equals(entry.getKey().getParent())) this.record(entry.getKey(), deadline);
+        }
+
+        try (Stream<Path> stream = Files.list(folder)) {
+            stream.forEach(path -> this.record(path, deadline));
+        } catch (IOException ignored) {
+            // Files that can't be listed were removed.
+        }
+    }
+
+    private void registerCreated(@NotNull Path folder) {
+        for (Path root : this.directories.values()) {
+            if (!folder.startsWith(root) || this.isHidden(root, folder)) continue;
+
+            try {
+                this.registerTree(folder);
+            } catch (IOException exception) {
+                exception.printStackTrace();
+            }
+            return;
+        }
+    }
+
+    private @NotNull Pending getPending(@NotNull Object target, long deadline) {
+        Pending changes = this.pending.computeIfAbsent(target, key -> new Pending());
+        changes.deadline = deadline;
+        return changes;
+    }
+
+    /**
+     * Used to load the targets whose
+     * files have stopped changing.
+     */
+    private void handleSettled() {
+        long now = System.nanoTime();
+        List<Map.Entry<Object, Pending>> settled = new ArrayList<>();
+
+        Iterator<Map.Entry<Object, Pending>> iterator = this.pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Pending> entry = iterator.next();
+            if (entry.getValue().deadline - now > 0) continue;
+
+            settled.add(entry);
+            iterator.remove();
+        }
+
+        for (Map.Entry<Object, Pending> entry : settled) {
+            if (!this.isWatched(entry.getKey())) continue;
+
+            // One failed reload should not stop the watcher.
+            try {
+                if (entry.getKey() instanceof Configuration configuration) {
+
+                    // Deleted files are not created again.
+                    if (configuration.getFile().exists()) configuration.reloadIfChanged();
+
+                } else if (entry.getKey() instanceof ConfigurationDirectory directory) {
+                    directory.reload(entry.getValue().files);
+                }
+
+            } catch (RuntimeException exception) {
+                exception.printStackTrace();
+            }
+        }
+    }
+
+    private boolean isWatched(@NotNull Object target) {
+        synchronized (this.lock) {
+            if (target instanceof ConfigurationDirectory) return this.directories.containsKey(target);
+
+            for (Set<Configuration> watched : this.configurations.values()) {
+                if (watched.contains(target)) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+public class AllocationConfigurationTest {
+
+    private static final int WRITES = 100_000;
+
+    /**
+     * The number of bytes the writes may allocate in total.
+     * Allows for a few objects created by the jvm itself.
+     */
+    private static final long BUDGET = 16 * 1024;
+
+    @Test
+    public void testSetAllocations() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean) || !bean.isThreadAllocatedMemorySupported()) {
+            Console.log("&eSkipped &7Set Allocations");
+            return;
+        }
+
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        Configuration configuration = ConfigurationFactory.YAML.create(new File("allocation.yml"));
+        ConfigPath path = ConfigPath.of("a.b.c.d.e");
+        String stringPath = "a.b.c.d.f";
+
+        configuration.set(path, 1);
+        configuration.set(stringPath, 1);
+        Map<?, ?> section = (Map<?, ?>) configuration.get("a.b");
+
+        // Let the jit compile the write path first.
+        this.write(configuration, path, stringPath);
+
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        this.write(configuration, path, stringPath);
+        long allocated = bean.getThreadAllocatedBytes(threadId) - before;
+
+        Console.log("&7Allocated " + allocated + " bytes for " + WRITES * 2 + " writes");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Set Allocations"))
+                .expect(allocated < BUDGET)
+                .expect(configuration.get("a.b") == section)
+                .expect(configuration.getInteger(path), (WRITES - 1) & 127)
+                .then(() -> Console.log("&aPassed &7Set Allocations"));
+    }
+
+    private void write(Configuration configuration, ConfigPath path, String stringPath) {
+        for (int index = 0; index < WRITES; index++) {
+            configuration.set(path, index & 127);
+            configuration.set(stringPath, index & 127);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncConfigurationTest {
+
+    @Test
+    public void testCoalescedSaves() throws Exception {
+        File folder = this.createFolder();
+        List<Runnable> tasks = new ArrayList<>();
+
+        Configuration configuration = ConfigurationFactory.YAML.create(folder, "coalesced");
+        configuration.setExecutor(tasks::add);
+        configuration.load();
+
+        // None of the saves start until the task is run.
+        configuration.set("value", 1);
+        CompletableFuture<Boolean> first = configuration.saveAsync();
+        configuration.set("value", 2);
+        CompletableFuture<Boolean> second = configuration.saveAsync();
+        configuration.set("value", 3);
+        CompletableFuture<Boolean> third = configuration.saveAsync();
+
+        int queued = tasks.size();
+        for (Runnable task : tasks) task.run();
+
+        Configuration testLoad = ConfigurationFactory.YAML.create(folder, "coalesced");
+        testLoad.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Coalesced Saves"))
+                .expect(queued, 1)
+                .expect(first == second && second == third)
+                .expect(first.getNow(false))
+                .expect(testLoad.getInteger("value"), 3)
+                .expect(!configuration.isDirty())
+                .then(() -> Console.log("&aPassed &7Coalesced Saves"));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        File folder = this.createFolder();
+
+        Configuration configuration = ConfigurationFactory.YAML.create(folder, "async");
+        boolean loaded = configuration.loadAsync().join();
+        configuration.set("value", 1);
+        boolean saved = configuration.saveAsync().join();
+
+        Configuration testLoad = ConfigurationFactory.YAML.create(folder, "async");
+        testLoad.loadAsync().join();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Async"))
+                .expect(loaded)
+                .expect(saved)
+                .expect(testLoad.getInteger("value"), 1)
+                .then(() -> Console.log("&aPassed &7Async"));
+    }
+
+    private File createFolder() throws IOException {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+        return folder;
+    }
+}
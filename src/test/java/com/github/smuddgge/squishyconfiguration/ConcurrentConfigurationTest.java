@@ -0,0 +1,207 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentConfigurationTest {
+
+    private static final int THREADS = 8;
+    private static final int WRITES = 2000;
+    private static final int KEYS = 100;
+
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        Configuration configuration = ConfigurationFactory.YAML.createConcurrent(this.createFolder(), "writes");
+        configuration.load();
+
+        // Each thread writes its own keys into shared sections,
+        // which are created while the other threads write to them.
+        this.run(thread -> {
+            for (int index = 0; index < WRITES; index++) {
+                configuration.set("section" + (index % 4) + ".nested.thread" + thread + "_" + index, index);
+            }
+        });
+
+        int missing = 0;
+        for (int thread = 0; thread < THREADS; thread++) {
+            for (int index = 0; index < WRITES; index++) {
+                String path = "section" + (index % 4) + ".nested.thread" + thread + "_" + index;
+                if (configuration.getInteger(path) != index) missing++;
+            }
+        }
+
+        int keys = 0;
+        for (int section = 0; section < 4; section++) {
+            keys += configuration.getSection("section" + section + ".nested").getKeys().size();
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Concurrent Writes"))
+                .expect(missing, 0)
+                .expect(keys, THREADS * WRITES)
+                .then(() -> Console.log("&aPassed &7Concurrent Writes"));
+    }
+
+    @Test
+    public void testConcurrentLoads() throws Exception {
+        File folder = this.createFolder();
+
+        // Create a file with a known number of keys.
+        Configuration writer = ConfigurationFactory.YAML.create(folder, "loads");
+        writer.load();
+        for (int index = 0; index < KEYS; index++) writer.set("key" + index, index);
+        writer.save();
+
+        Configuration configuration = ConfigurationFactory.YAML.createConcurrent(folder, "loads");
+        configuration.load();
+
+        AtomicBoolean loading = new AtomicBoolean(true);
+        AtomicInteger tornReads = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+
+        // Readers check they only ever see a fully loaded tree.
+        List<Thread> readers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS - 1; thread++) {
+            Thread reader = new Thread(() -> {
+                while (loading.get()) {
+                    Map<String, Object> map = configuration.getMap();
+                    if (map.size() != KEYS || !Integer.valueOf(KEYS - 1).equals(map.get("key" + (KEYS - 1)))) {
+                        tornReads.incrementAndGet();
+                    }
+                    if (configuration.getInteger("key50") != 50) tornReads.incrementAndGet();
+                    reads.incrementAndGet();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (int index = 0; index < 200; index++) configuration.load();
+        loading.set(false);
+        for (Thread reader : readers) reader.join();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Concurrent Loads"))
+                .expect(tornReads.get(), 0)
+                .expect(reads.get() > 0)
+                .then(() -> Console.log("&aPassed &7Concurrent Loads"));
+    }
+
+    @Test
+    public void testSnapshots() throws Exception {
+        Configuration configuration = ConfigurationFactory.YAML.createConcurrent(this.createFolder(), "snapshots");
+        configuration.load();
+        configuration.set("section.value", 1);
+
+        ConfigurationSection snapshot = configuration.snapshot();
+        ConfigurationSection section = configuration.getSection("section").snapshot();
+        configuration.set("section.value", 2);
+
+        boolean frozen;
+        try {
+            snapshot.set("section.value", 3);
+            frozen = false;
+        } catch (UnsupportedOperationException exception) {
+            frozen = true;
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Snapshots"))
+                .expect(snapshot.getInteger("section.value"), 1)
+                .expect(section.getInteger("value"), 1)
+                .expect(configuration.getInteger("section.value"), 2)
+                .expect(configuration.snapshot() == configuration.snapshot())
+                .expect(configuration.snapshot().getInteger("section.value"), 2)
+                .expect(frozen)
+                .then(() -> Console.log("&aPassed &7Snapshots"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReplace() throws Exception {
+        Configuration configuration = ConfigurationFactory.YAML.createConcurrent(this.createFolder(), "replace");
+        configuration.load();
+        configuration.set("old", 1);
+        configuration.set("list", new ArrayList<>(List.of("a", "b")));
+
+        boolean listFrozen;
+        try {
+            ((List<Object>) configuration.get("list")).add("c");
+            listFrozen = false;
+        } catch (UnsupportedOperationException exception) {
+            listFrozen = true;
+        }
+
+        // Writers must not lose values while the data is replaced.
+        this.run(thread -> {
+            if (thread == 0) {
+                for (int index = 0; index < WRITES; index++) configuration.set(Map.of("replaced", index));
+                return;
+            }
+
+            for (int index = 0; index < WRITES; index++) configuration.set("thread" + thread, index);
+        });
+
+        configuration.set(Map.of("replaced", true));
+
+        boolean rejected;
+        try {
+            configuration.set("value");
+            rejected = false;
+        } catch (IllegalArgumentException exception) {
+            rejected = true;
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Concurrent Replace"))
+                .expect(listFrozen)
+                .expect(configuration.getBoolean("replaced"))
+                .expect(configuration.getKeys().size(), 1)
+                .expect(rejected)
+                .then(() -> Console.log("&aPassed &7Concurrent Replace"));
+    }
+
+    private File createFolder() throws IOException {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+        return folder;
+    }
+
+    private void run(ThreadTask task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int id = thread;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(id);
+                } catch (InterruptedException ignored) {
+                }
+            });
+            worker.start();
+            threads.add(worker);
+        }
+
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+public class ConfigPathTest {
+
+    @Test
+    public void testParse() {
+        List<String> paths = List.of("a", "a.b.c", "a..b", ".a", "a.b.", "a..", "", "key with spaces.b");
+        List<String> different = new ArrayList<>();
+
+        for (String path : paths) {
+            ConfigPath configPath = ConfigPath.parse(path);
+            String[] segments = new String[configPath.size()];
+            for (int index = 0; index < segments.length; index++) segments[index] = configPath.getSegment(index);
+
+            if (!Arrays.equals(segments, path.split("\\."))) different.add(path);
+        }
+
+        ConfigPath path = ConfigPath.parse("a.b.c");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Config Path Parse"))
+                .expect(different.isEmpty())
+                .expect(ConfigPath.parse(".").size(), 1)
+                .expect(path.getLastSegment(), "c")
+                .expect(path.getParent(), ConfigPath.parse("a.b"))
+                .expect(path.getParent().getParent().getParent() == null)
+                .expect(path.startsWith(ConfigPath.parse("a.b")))
+                .expect(ConfigPath.parse("a").resolve(ConfigPath.parse("b.c")), path)
+                .expect(path.toString(), "a.b.c")
+                .then(() -> Console.log("&aPassed &7Config Path Parse"));
+    }
+
+    @Test
+    public void testCache() {
+        ConfigPath hot = ConfigPath.of("testCache.hot");
+        ConfigPath cold = ConfigPath.of("testCache.cold");
+
+        // Fill the cache with dynamic paths, using the hot path now and then.
+        for (int index = 0; index < ConfigPath.CACHE_SIZE * 4; index++) {
+            ConfigPath.of("testCache.dynamic." + index);
+            if (index % 100 == 0) ConfigPath.of("testCache.hot");
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Config Path Cache"))
+                .expect(ConfigPath.of("testCache.hot") == hot)
+                .expect(ConfigPath.of("testCache.cold") != cold)
+                .expect(ConfigPath.of("testCache.cold"), cold)
+                .then(() -> Console.log("&aPassed &7Config Path Cache"));
+    }
+
+    @Test
+    public void testOverloads() {
+        MemoryConfigurationSection section = new MemoryConfigurationSection(new HashMap<>());
+        ConfigPath path = ConfigPath.of("a.b.c");
+
+        section.set(path, 1);
+        section.set("a.b.d", "value");
+        ConfigurationSection nested = section.getSection(ConfigPath.of("a.b"));
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Config Path Overloads"))
+                .expect(section.getInteger("a.b.c"), 1)
+                .expect(section.getInteger(path), 1)
+                .expect(section.getString(ConfigPath.of("a.b.d")), "value")
+                .expect(section.getInteger(ConfigPath.of("a.b.missing"), 5), 5)
+                .expect(section.get(ConfigPath.of("a.b.c.missing")) == null)
+                .expect(nested.getInteger(ConfigPath.of("c")), 1)
+                .expect(nested.getInteger("c"), 1)
+                .then(() -> Console.log("&aPassed &7Config Path Overloads"));
+    }
+}
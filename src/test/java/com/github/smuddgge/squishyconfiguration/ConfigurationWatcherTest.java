@@ -0,0 +1,132 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.directory.ConfigurationDirectory;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import com.github.smuddgge.squishyconfiguration.watcher.ConfigurationWatcher;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConfigurationWatcherTest {
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(200);
+
+    @Test
+    public void testWatchConfiguration() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "watched.yml");
+        Files.writeString(file.toPath(), "value: 0");
+
+        YamlConfiguration configuration = new YamlConfiguration(file);
+        configuration.load();
+
+        AtomicInteger reloads = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        configuration.addListener(reloaded -> {
+            reloads.incrementAndGet();
+            latch.countDown();
+        });
+
+        try (ConfigurationWatcher watcher = new ConfigurationWatcher(DEBOUNCE)) {
+            watcher.watch(configuration);
+
+            // A burst of edits should only be loaded once.
+            for (int index = 1; index <= 3; index++) Files.writeString(file.toPath(), "value: " + index);
+
+            boolean reloaded = latch.await(10, TimeUnit.SECONDS);
+            Thread.sleep(DEBOUNCE.toMillis() * 3);
+
+            new ResultChecker()
+                    .fallBack(() -> Console.log("&eFailed &7Watch Configuration"))
+                    .expect(reloaded)
+                    .expect(reloads.get(), 1)
+                    .expect(configuration.getInteger("value"), 3)
+                    .then(() -> Console.log("&aPassed &7Watch Configuration"));
+        }
+    }
+
+    @Test
+    public void testWatchDirectory() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File first = new File(folder, "first.yml");
+        File second = new File(folder, "nested/second.yml");
+        second.getParentFile().mkdirs();
+        Files.writeString(first.toPath(), "first: 1");
+        Files.writeString(second.toPath(), "second: 1");
+
+        ConfigurationDirectory directory = new ConfigurationDirectory(folder, ConfigurationWatcherTest.class);
+        directory.reload();
+
+        // Files that have not changed are not loaded again.
+        boolean unchanged = !directory.reload(List.of(first, second));
+
+        AtomicInteger reloads = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(2);
+        directory.addListener(reloaded -> {
+            reloads.incrementAndGet();
+            latch.countDown();
+        });
+
+        try (ConfigurationWatcher watcher = new ConfigurationWatcher(DEBOUNCE)) {
+            watcher.watch(directory);
+
+            Files.writeString(second.toPath(), "second: 2");
+            Files.writeString(second.toPath(), "second: 3");
+            Thread.sleep(DEBOUNCE.toMillis() * 3);
+
+            // Files created after the directory was loaded are added.
+            Files.writeString(new File(folder, "third.yml").toPath(), "third: 1");
+
+            boolean reloaded = latch.await(10, TimeUnit.SECONDS);
+            Thread.sleep(DEBOUNCE.toMillis() * 3);
+
+            new ResultChecker()
+                    .fallBack(() -> Console.log("&eFailed &7Watch Directory"))
+                    .expect(unchanged)
+                    .expect(reloaded)
+                    .expect(reloads.get(), 2)
+                    .expect(directory.getInteger("first"), 1)
+                    .expect(directory.getInteger("second"), 3)
+                    .expect(directory.getInteger("third"), 1)
+                    .then(() -> Console.log("&aPassed &7Watch Directory"));
+        }
+    }
+
+    @Test
+    public void testDirectoryCopiesSections() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File first = new File(folder, "first.yml");
+        File second = new File(folder, "second.yml");
+        Files.writeString(first.toPath(), "section:\n  value: 1");
+        Files.writeString(second.toPath(), "second: 1");
+
+        ConfigurationDirectory directory = new ConfigurationDirectory(folder, ConfigurationWatcherTest.class);
+        directory.reload();
+        directory.set("section.value", 2);
+
+        // Merging again uses the loaded configuration of the unchanged file.
+        Files.writeString(second.toPath(), "second: 2");
+        boolean reloaded = directory.reload(List.of(second));
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Directory Copies Sections"))
+                .expect(reloaded)
+                .expect(directory.getInteger("second"), 2)
+                .expect(directory.getInteger("section.value"), 1)
+                .then(() -> Console.log("&aPassed &7Directory Copies Sections"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.EnginePool;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EnginePoolTest {
+
+    @Test
+    public void testEnginePool() {
+        AtomicInteger created = new AtomicInteger();
+        EnginePool<Object> pool = new EnginePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 1);
+
+        Object first = pool.use(engine -> engine);
+        Object second = pool.use(engine -> engine);
+
+        // Engines used by a failed action are dropped.
+        boolean failed;
+        try {
+            pool.use(engine -> {
+                throw new IllegalStateException();
+            });
+            failed = false;
+        } catch (IllegalStateException exception) {
+            failed = true;
+        }
+
+        // Engines over the capacity are dropped.
+        Object engine = pool.acquire();
+        Object extra = pool.acquire();
+        pool.release(engine);
+        pool.release(extra);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Engine Pool"))
+                .expect(first == second)
+                .expect(failed)
+                .expect(created.get(), 3)
+                .expect(pool.size(), 1)
+                .then(() -> Console.log("&aPassed &7Engine Pool"));
+    }
+
+    @Test
+    public void testYamlEngines() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        AtomicInteger created = new AtomicInteger();
+        EnginePool<Yaml> engines = new EnginePool<>(() -> {
+            created.incrementAndGet();
+            return YamlConfiguration.createEngine();
+        });
+
+        for (int index = 0; index < 10; index++) {
+            YamlConfiguration configuration = new YamlConfiguration(folder, "engines.yml");
+            configuration.setEngines(engines);
+            configuration.load();
+            configuration.set("value", index);
+            configuration.save();
+        }
+
+        YamlConfiguration configuration = new YamlConfiguration(folder, "engines.yml");
+        configuration.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Yaml Engines"))
+                .expect(created.get(), 1)
+                .expect(configuration.getInteger("value"), 9)
+                .then(() -> Console.log("&aPassed &7Yaml Engines"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.MappedConfiguration;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Set;
+
+public class FilePermissionTest {
+
+    @Test
+    public void testNewFilePermissions() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) return;
+
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        // A file created normally has the default permissions.
+        Path reference = Files.createFile(new File(folder, "reference.yml").toPath());
+        Set<PosixFilePermission> expected = Files.getPosixFilePermissions(reference);
+
+        YamlConfiguration configuration = new YamlConfiguration(new File(folder, "new.yml"));
+        configuration.setSyncOnSave(true);
+        configuration.set("key", "value");
+        boolean saved = configuration.save();
+
+        File mapped = new File(folder, "new.mapped");
+        boolean converted = MappedConfiguration.convert(configuration, mapped);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7New File Permissions"))
+                .expect(saved)
+                .expect(converted)
+                .expect(Files.getPosixFilePermissions(configuration.getFile().toPath()), expected)
+                .expect(Files.getPosixFilePermissions(mapped.toPath()), expected)
+                .then(() -> Console.log("&aPassed &7New File Permissions"));
+    }
+}
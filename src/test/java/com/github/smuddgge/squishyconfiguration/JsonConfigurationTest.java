@@ -0,0 +1,129 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.JsonConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import com.github.smuddgge.squishyconfiguration.utility.AllConfigurationTester;
+import com.github.smuddgge.squishyconfiguration.utility.ConfigurationTester;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class JsonConfigurationTest {
+
+    @Test
+    public void testJson() {
+        ConfigurationTester tester = new AllConfigurationTester(
+                ConfigurationFactory.JSON.createPreparedFactory(
+                        new File("src/main/resources"), "test"
+                )
+        );
+
+        tester.testAll();
+    }
+
+    @Test
+    public void testJsonValues() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "values.json");
+        Files.writeString(file.toPath(), String.join("\n",
+                "{",
+                "  // Comments are allowed.",
+                "  \"integer\": 1,",
+                "  \"long\": 10000000000,",
+                "  \"big\": 100000000000000000000,",
+                "  \"double\": 1.5,",
+                "  \"exponent\": 1e3,",
+                "  \"boolean\": false,",
+                "  \"null\": null,",
+                "  \"list\": [1, \"two\", [3]],",
+                "  \"section\": {\"nested\": {\"value\": \"text\"}}",
+                "}"
+        ));
+
+        JsonConfiguration configuration = new JsonConfiguration(file);
+        boolean loaded = configuration.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Json Values"))
+                .expect(loaded)
+                .expect(configuration.get("integer"), 1)
+                .expect(configuration.get("long"), 10000000000L)
+                .expect(configuration.get("big"), 1.0E20)
+                .expect(configuration.get("double"), 1.5)
+                .expect(configuration.get("exponent"), 1000.0)
+                .expect(configuration.get("boolean"), false)
+                .expect(configuration.getKeys().contains("null"))
+                .expect(configuration.getList("list"), List.of(1, "two", List.of(3)))
+                .expect(configuration.getString("section.nested.value"), "text")
+                .then(() -> Console.log("&aPassed &7Json Values"));
+
+        // Write the values back, and check they are read the same.
+        configuration.set("array", new int[]{1, 2});
+        configuration.set("unicode", "caf\u00e9");
+        configuration.save();
+
+        JsonConfiguration reloaded = new JsonConfiguration(file);
+        reloaded.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Json Save"))
+                .expect(reloaded.get("long"), 10000000000L)
+                .expect(reloaded.get("double"), 1.5)
+                .expect(reloaded.getList("list"), List.of(1, "two", List.of(3)))
+                .expect(reloaded.getString("section.nested.value"), "text")
+                .expect(Arrays.equals(reloaded.getIntArray("array"), new int[]{1, 2}))
+                .expect(reloaded.getString("unicode"), "caf\u00e9")
+                .then(() -> Console.log("&aPassed &7Json Save"));
+    }
+
+    @Test
+    public void testEmptyJson() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "empty.json");
+        Files.writeString(file.toPath(), "");
+
+        JsonConfiguration configuration = new JsonConfiguration(file);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Empty Json"))
+                .expect(configuration.load())
+                .expect(configuration.getKeys().isEmpty())
+                .then(() -> Console.log("&aPassed &7Empty Json"));
+    }
+
+    @Test
+    public void testTrailingJson() throws Exception {
+        List<String> accepted = new ArrayList<>();
+
+        for (String content : List.of("{\"a\": 1} garbage", "{\"a\": 1}{\"b\": 2}", "{\"a\": 1}, 2")) {
+            try {
+                JsonConfiguration.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+                accepted.add(content);
+            } catch (IOException ignored) {
+            }
+        }
+
+        Map<?, ?> commented = JsonConfiguration.parse(new ByteArrayInputStream(
+                "{\"a\": 1}\n// Comment.\n".getBytes(StandardCharsets.UTF_8)
+        ));
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Trailing Json " + accepted))
+                .expect(accepted.isEmpty())
+                .expect(commented.get("a"), 1)
+                .then(() -> Console.log("&aPassed &7Trailing Json"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.MappedConfiguration;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+public class MappedConfigurationTest {
+
+    @Test
+    public void testMapped() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "source.yml");
+        Files.writeString(file.toPath(), String.join("\n",
+                "string: value",
+                "integer: 1",
+                "long: 10000000000",
+                "double: 1.5",
+                "boolean: true",
+                "empty: null",
+                "list: [1, two, 3.0, {key: value}]",
+                "section:",
+                "  nested: {a: 1, b: [x, y]}",
+                "  other: value"
+        ));
+
+        YamlConfiguration source = new YamlConfiguration(file);
+        source.load();
+        source.set("array", new int[]{1, 2, 3});
+
+        // Add enough keys to need the index.
+        for (int index = 0; index < 10000; index++) source.set("items.item" + index + ".name", "Item " + index);
+
+        File mappedFile = new File(folder, "source.mapped");
+        boolean converted = MappedConfiguration.convert(source, mappedFile);
+
+        MappedConfiguration mapped = new MappedConfiguration(mappedFile);
+        boolean loaded = mapped.load();
+
+        ConfigurationSection section = mapped.getSection("section");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Mapped Configuration"))
+                .expect(converted)
+                .expect(loaded)
+                .expect(mapped.getKeys(), source.getKeys())
+                .expect(mapped.getString("string"), "value")
+                .expect(mapped.getInteger("integer"), 1)
+                .expect(mapped.getLong("long"), 10000000000L)
+                .expect(mapped.getDouble("double"), 1.5)
+                .expect(mapped.getBoolean("boolean"))
+                .expect(mapped.getKeys().contains("empty"))
+                .expect(mapped.get("empty") == null)
+                .expect(mapped.get("missing") == null)
+                .expect(mapped.getString("missing", "alternative"), "alternative")
+                .expect(mapped.getList("list").size(), 4)
+                .expect(mapped.getList("list").get(1), "two")
+                .expect(mapped.getListString("section.nested.b"), List.of("x", "y"))
+                .expect(Arrays.equals(mapped.getIntArray("array"), new int[]{1, 2, 3}))
+                .expect(section.getKeys(), List.of("nested", "other"))
+                .expect(section.getInteger("nested.a"), 1)
+                .expect(mapped.getString("items.item9999.name"), "Item 9999")
+                .expect(mapped.getKeys("items").size(), 10000)
+                .expect(mapped.getMap("section"), source.getMap("section"))
+                .expect(mapped.getRetainedSize(), 0L)
+                .then(() -> Console.log("&aPassed &7Mapped Configuration"));
+    }
+
+    @Test
+    public void testMappedReadOnly() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        YamlConfiguration source = new YamlConfiguration(new File(folder, "source.yml"));
+        source.load();
+        source.set("section.value", "first");
+
+        File mappedFile = new File(folder, "source.mapped");
+        MappedConfiguration.convert(source, mappedFile);
+
+        MappedConfiguration mapped = new MappedConfiguration(mappedFile);
+        mapped.load();
+
+        boolean setThrows = this.throwsUnsupported(() -> mapped.set("section.value", "changed"));
+        boolean viewThrows = this.throwsUnsupported(() -> mapped.getSection("section").set("value", "changed"));
+        boolean unchanged = !mapped.reloadIfChanged();
+        ConfigurationSection snapshot = mapped.snapshot();
+
+        // Replace the file, and check the new values are mapped.
+        source.set("section.value", "second");
+        MappedConfiguration.convert(source, mappedFile);
+        boolean reloaded = mapped.reloadIfChanged();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Mapped Configuration Read Only"))
+                .expect(setThrows)
+                .expect(viewThrows)
+                .expect(unchanged)
+                .expect(!mapped.isDirty())
+                .expect(mapped.save())
+                .expect(reloaded)
+                .expect(mapped.getString("section.value"), "second")
+                .expect(snapshot.getString("section.value"), "first")
+                .then(() -> Console.log("&aPassed &7Mapped Configuration Read Only"));
+    }
+
+    private boolean throwsUnsupported(Runnable runnable) {
+        try {
+            runnable.run();
+            return false;
+        } catch (UnsupportedOperationException exception) {
+            return true;
+        }
+    }
+}
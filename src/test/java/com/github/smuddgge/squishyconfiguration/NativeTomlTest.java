@@ -0,0 +1,345 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.TomlConfiguration;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import com.moandjiezana.toml.Toml;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NativeTomlTest {
+
+    /**
+     * Documents that both parsers support,
+     * so the trees must be the same.
+     */
+    private static final String[] SHARED_CORPUS = {
+            "",
+            "# Only a comment.\n",
+            "string = \"value\"\nnumber = 42\nnegative = -17\nfloat = 3.1415\nexponent = 5e+22\nbool = true\n",
+            "escapes = \"tab\\t quote\\\" slash\\\\ unicode\\u00e9\"\nliteral = 'C:\\Users\\path'\n",
+            "multi = \"\"\"\nline one\nline two\"\"\"\ntrimmed = \"\"\"\\\n    The quick \\\n    fox.\"\"\"\n",
+            "raw = '''\nfirst\n  second\n'''\n",
+            "array = [1, 2, 3]\nnested = [[1, 2], [\"a\", \"b\"]]\nmultiline = [\n  1, # comment\n  2,\n]\n",
+            "[table]\nkey = \"value\"\n\n[table.child]\nother = 1\n",
+            "[a.b.c]\nvalue = 1\n\n[a]\ndirect = 2\n",
+            "bare-key_1 = 3\n1234 = \"numeric\"\n",
+            "inline = { x = 1, y = \"two\", z = { nested = true } }\n",
+            "[[products]]\nname = \"Hammer\"\n\n[[products]]\n\n[[products]]\nname = \"Nail\"\ncolor = \"gray\"\n",
+            "[[fruit]]\nname = \"apple\"\n\n[fruit.physical]\ncolor = \"red\"\n\n[[fruit.variety]]\nname = \"red delicious\"\n\n[[fruit]]\nname = \"banana\"\n",
+            "date = 1979-05-27T07:32:00Z\noffset = 1979-05-27T00:32:00-07:00\nfraction = 1979-05-27T00:32:00.999-07:00\n",
+            "  indented = 1\n\t[ spaced . table ]\n  key = 'value' # trailing comment\n",
+            "windows = 1\r\n[table]\r\nkey = 2\r\n",
+            "big = 9223372036854775807\nsmall = -9223372036854775808\nunderscores = 1_000_000\n"
+    };
+
+    /**
+     * Documents that are not valid toml.
+     */
+    private static final String[] INVALID_CORPUS = {
+            "key = ",
+            "key = value",
+            "= 1",
+            "key = 1\nkey = 2",
+            "key = 1 2",
+            "[table]\n[table]",
+            "[table]\nkey = 1\n[table.key]",
+            "a.b = 1\n[a]",
+            "[a]\nb.c = 1\n[a.b]",
+            "inline = { x = 1 }\n[inline]",
+            "inline = { x = 1 }\ninline.y = 2",
+            "inline = { x = 1, }",
+            "inline = { x = 1\n}",
+            "array = [1, 2",
+            "array = [,]",
+            "static = [{ x = 1 }]\n[[static]]",
+            "[[a] ]",
+            "[a",
+            "string = \"unterminated",
+            "string = \"new\nline\"",
+            "string = \"\\q\"",
+            "string = \"\\uD800\"",
+            "multi = \"\"\"a\"\"\"\"\"\"",
+            "number = 01",
+            "number = 1__0",
+            "number = _1",
+            "number = 1_",
+            "number = +0x10",
+            "number = 9223372036854775808",
+            "float = 1.",
+            "float = .5",
+            "float = 1.e5",
+            "bool = True",
+            "bool = truely",
+            "date = 1979-13-27",
+            "date = 1979-02-30",
+            "time = 25:00:00",
+            "time = 07:32",
+            "key = 1 # comment with a control \u0001 character",
+            "\"\"\"multi\"\"\" = 1"
+    };
+
+    @Test
+    public void testSharedCorpus() throws IOException {
+        ResultChecker checker = new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Shared Toml Corpus"));
+
+        for (String document : SHARED_CORPUS) {
+            Map<String, Object> expected = new Toml().read(document).toMap();
+            checker.expect(NativeTomlTest.toDates(NativeTomlTest.parse(document)), expected);
+        }
+
+        checker.then(() -> Console.log("&aPassed &7Shared Toml Corpus"));
+    }
+
+    @Test
+    public void testNativeCorpus() throws IOException {
+        Map<String, Object> values = NativeTomlTest.parse(String.join("\n",
+                "hex = 0xDEAD_beef",
+                "octal = 0o755",
+                "binary = 0b1101",
+                "infinity = -inf",
+                "notNumber = nan",
+                "dotted.key.value = 1",
+                "dotted.key.other = 2",
+                "3.14159 = \"pi\"",
+                "mixed = [1, \"two\", 3.0, [4]]",
+                "localDateTime = 1979-05-27T07:32:00.999999",
+                "spaced = 1979-05-27 07:32:00Z",
+                "localDate = 1979-05-27",
+                "localTime = 00:32:00.5",
+                "quotes = \"\"\"Two \"\"quotes\"\" at the end\"\"\"\"\"",
+                "inline = { a.b = 1 }",
+                "empty = {}",
+                "emoji = \"\\U0001F600\"",
+                "'literal key' = 2",
+                "\"quoted key\" = 3",
+                ""
+        ));
+
+        Map<?, ?> dotted = (Map<?, ?>) ((Map<?, ?>) values.get("dotted")).get("key");
+        Map<?, ?> pi = (Map<?, ?>) values.get("3");
+        Map<?, ?> inline = (Map<?, ?>) ((Map<?, ?>) values.get("inline")).get("a");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Native Toml Corpus"))
+                .expect(values.get("hex"), 0xDEADBEEFL)
+                .expect(values.get("octal"), 493L)
+                .expect(values.get("binary"), 13L)
+                .expect(values.get("infinity"), Double.NEGATIVE_INFINITY)
+                .expect(Double.isNaN((Double) values.get("notNumber")))
+                .expect(dotted.get("value"), 1L)
+                .expect(dotted.get("other"), 2L)
+                .expect(pi.get("14159"), "pi")
+                .expect(values.get("mixed"), List.of(1L, "two", 3.0, List.of(4L)))
+                .expect(values.get("localDateTime"), LocalDateTime.of(1979, 5, 27, 7, 32, 0, 999999000))
+                .expect(values.get("spaced"), OffsetDateTime.of(1979, 5, 27, 7, 32, 0, 0, ZoneOffset.UTC))
+                .expect(values.get("localDate"), LocalDate.of(1979, 5, 27))
+                .expect(values.get("localTime"), LocalTime.of(0, 32, 0, 500000000))
+                .expect(values.get("quotes"), "Two \"\"quotes\"\" at the end\"\"")
+                .expect(inline.get("b"), 1L)
+                .expect(((Map<?, ?>) values.get("empty")).isEmpty())
+                .expect(values.get("emoji"), new String(Character.toChars(0x1F600)))
+                .expect(values.get("literal key"), 2L)
+                .expect(values.get("quoted key"), 3L)
+                .then(() -> Console.log("&aPassed &7Native Toml Corpus"));
+    }
+
+    @Test
+    public void testInvalidCorpus() {
+        List<String> accepted = new ArrayList<>();
+
+        for (String document : INVALID_CORPUS) {
+            try {
+                NativeTomlTest.parse(document);
+                accepted.add(document);
+            } catch (IOException ignored) {
+            }
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Invalid Toml Corpus " + accepted))
+                .expect(accepted.isEmpty())
+                .then(() -> Console.log("&aPassed &7Invalid Toml Corpus"));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "round.toml");
+        Files.writeString(file.toPath(), String.join("\n",
+                "date = 1979-05-27T07:32:00Z",
+                "offset = 1979-05-27T00:32:00-07:00",
+                "localDate = 2020-01-02",
+                "localTime = 07:32:00",
+                ""
+        ));
+
+        TomlConfiguration configuration = new TomlConfiguration(file);
+        configuration.load();
+
+        Map<String, Object> inline = new LinkedHashMap<>();
+        inline.put("key", "value");
+
+        configuration.set("string", "line\nbreak \"quoted\" \u00e9");
+        configuration.set("integer", 5);
+        configuration.set("double", 0.1);
+        configuration.set("special key", true);
+        configuration.set("list", List.of(1, 2, 3));
+        configuration.set("mixed", List.of(inline, 2));
+        configuration.set("section.nested.value", "deep");
+        configuration.set("section.value", 1);
+        configuration.set("tables", List.of(Map.of("name", "first"), Map.of("name", "second")));
+        boolean saved = configuration.save();
+
+        TomlConfiguration reloaded = new TomlConfiguration(file);
+        reloaded.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Toml Round Trip"))
+                .expect(saved)
+                .expect(reloaded.getString("string"), "line\nbreak \"quoted\" \u00e9")
+                .expect(reloaded.getInteger("integer"), 5)
+                .expect(reloaded.getDouble("double"), 0.1)
+                .expect(reloaded.getBoolean("special key"))
+                .expect(reloaded.getListInteger("list"), List.of(1, 2, 3))
+                .expect(reloaded.get("mixed"), List.of(Map.of("key", "value"), 2L))
+                .expect(reloaded.get("date"), OffsetDateTime.of(1979, 5, 27, 7, 32, 0, 0, ZoneOffset.UTC))
+                .expect(reloaded.get("offset"), OffsetDateTime.of(1979, 5, 27, 0, 32, 0, 0, ZoneOffset.ofHours(-7)))
+                .expect(reloaded.get("localDate"), LocalDate.of(2020, 1, 2))
+                .expect(reloaded.get("localTime"), LocalTime.of(7, 32))
+                .expect(reloaded.getString("section.nested.value"), "deep")
+                .expect(reloaded.getInteger("section.value"), 1)
+                .expect(reloaded.get("tables"), List.of(Map.of("name", "first"), Map.of("name", "second")))
+                .then(() -> Console.log("&aPassed &7Toml Round Trip"));
+    }
+
+    @Test
+    public void testDates() throws IOException {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "dates.toml");
+        Files.writeString(file.toPath(), String.join("\n",
+                "offset = 1979-05-27T00:32:00-07:00",
+                "localDate = 2020-01-02",
+                "localTime = 07:32:00",
+                ""
+        ));
+
+        TomlConfiguration toml = new TomlConfiguration(file);
+        toml.load();
+
+        // Set the values read from the file back into it.
+        for (String key : toml.getKeys()) toml.set("copy." + key, toml.get(key));
+        toml.set("date", new Date(0));
+        toml.set("record", new Event("launch", LocalDate.of(2020, 1, 2)));
+
+        // Copy the values into a yaml file.
+        YamlConfiguration yaml = new YamlConfiguration(new File(folder, "dates.yml"));
+        yaml.load();
+        for (String key : toml.getKeys()) yaml.set(key, toml.get(key));
+        boolean saved = yaml.save();
+
+        YamlConfiguration reloaded = new YamlConfiguration(new File(folder, "dates.yml"));
+        reloaded.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Toml Dates"))
+                .expect(toml.get("copy.offset"), OffsetDateTime.of(1979, 5, 27, 0, 32, 0, 0, ZoneOffset.ofHours(-7)))
+                .expect(toml.get("copy.localDate"), LocalDate.of(2020, 1, 2))
+                .expect(toml.get("copy.localTime"), LocalTime.of(7, 32))
+                .expect(toml.get("date"), new Date(0))
+                .expect(toml.getClass("record", Event.class), new Event("launch", LocalDate.of(2020, 1, 2)))
+                .expect(saved)
+                .expect(reloaded.getString("offset"), "1979-05-27T00:32-07:00")
+                .expect(reloaded.getString("localDate"), "2020-01-02")
+                .expect(reloaded.getString("localTime"), "07:32")
+                .expect(reloaded.get("date"), new Date(0))
+                .expect(reloaded.getString("record.date"), "2020-01-02")
+                .then(() -> Console.log("&aPassed &7Toml Dates"));
+    }
+
+    @Test
+    public void testBenchmark() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int table = 0; table < 2000; table++) {
+            builder.append("[table").append(table).append("]\n")
+                    .append("name = \"Table ").append(table).append("\"\n")
+                    .append("amount = ").append(table * 31).append('\n')
+                    .append("ratio = ").append(table / 7.0).append('\n')
+                    .append("enabled = ").append(table % 2 == 0).append('\n')
+                    .append("tags = [\"first\", \"second\", \"third\"]\n")
+                    .append("point = { x = 1, y = 2 }\n\n");
+        }
+
+        String document = builder.toString();
+        Map<String, Object> expected = new Toml().read(document).toMap();
+        Map<String, Object> actual = NativeTomlTest.parse(document);
+
+        // Warm up both parsers before they are timed.
+        for (int index = 0; index < 3; index++) {
+            new Toml().read(document).toMap();
+            NativeTomlTest.parse(document);
+        }
+
+        long start = System.nanoTime();
+        for (int index = 0; index < 5; index++) new Toml().read(document).toMap();
+        long toml4jTime = (System.nanoTime() - start) / 5_000_000;
+
+        start = System.nanoTime();
+        for (int index = 0; index < 5; index++) NativeTomlTest.parse(document);
+        long nativeTime = (System.nanoTime() - start) / 5_000_000;
+
+        Console.log("&7Toml benchmark, toml4j &f" + toml4jTime + "ms &7native &f" + nativeTime + "ms");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Toml Benchmark"))
+                .expect(actual, expected)
+                .then(() -> Console.log("&aPassed &7Toml Benchmark"));
+    }
+
+    private static Map<String, Object> parse(String document) throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> map = (Map<String, Object>) TomlConfiguration.parse(
+                new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8))
+        );
+        return map;
+    }
+
+    /**
+     * Used to convert offset date times into dates,
+     * as toml4j reads them as dates.
+     */
+    private static Object toDates(Object value) {
+        if (value instanceof OffsetDateTime dateTime) return Date.from(dateTime.toInstant());
+        if (value instanceof List<?> list) return list.stream().map(NativeTomlTest::toDates).toList();
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> converted = new LinkedHashMap<>();
+            map.forEach((key, item) -> converted.put(key, NativeTomlTest.toDates(item)));
+            return converted;
+        }
+        return value;
+    }
+
+    public record Event(String name, LocalDate date) {
+    }
+}
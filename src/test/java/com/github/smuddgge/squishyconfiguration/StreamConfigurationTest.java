@@ -0,0 +1,95 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class StreamConfigurationTest {
+
+    @Test
+    public void testLoadBytes() throws Exception {
+        MemoryConfigurationSection yaml = ConfigurationFactory.YAML.load(
+                "section:\n  value: 1\nlist: [a, b]\n".getBytes(StandardCharsets.UTF_8)
+        );
+        MemoryConfigurationSection toml = ConfigurationFactory.TOML.load(
+                "list = [\"a\", \"b\"]\n[section]\nvalue = 1\n".getBytes(StandardCharsets.UTF_8)
+        );
+        MemoryConfigurationSection json = ConfigurationFactory.JSON.load(
+                "{\"section\": {\"value\": 1}, \"list\": [\"a\", \"b\"]}".getBytes(StandardCharsets.UTF_8)
+        );
+        MemoryConfigurationSection empty = ConfigurationFactory.YAML.load(new byte[0]);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Load Bytes"))
+                .expect(yaml.getInteger("section.value"), 1)
+                .expect(yaml.getListString("list").size(), 2)
+                .expect(toml.getLong("section.value"), 1L)
+                .expect(toml.getListString("list").size(), 2)
+                .expect(json.getInteger("section.value"), 1)
+                .expect(json.getListString("list").size(), 2)
+                .expect(empty.getKeys().isEmpty())
+                .expect(!yaml.isDirty())
+                .then(() -> Console.log("&aPassed &7Load Bytes"));
+    }
+
+    @Test
+    public void testLoadBuffer() throws Exception {
+        byte[] content = "value: text\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+        buffer.put(content).flip();
+
+        MemoryConfigurationSection section = ConfigurationFactory.YAML.load(buffer);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Load Buffer"))
+                .expect(section.getString("value"), "text")
+                .expect(buffer.position(), 0)
+                .expect(buffer.remaining(), content.length)
+                .then(() -> Console.log("&aPassed &7Load Buffer"));
+    }
+
+    @Test
+    public void testLoadStream() throws Exception {
+        boolean[] closed = new boolean[1];
+        ByteArrayInputStream inputStream = new ByteArrayInputStream("{\"value\": true}".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        MemoryConfigurationSection section = ConfigurationFactory.JSON.load(inputStream);
+        section.set("other", 2);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Load Stream"))
+                .expect(section.getBoolean("value"))
+                .expect(section.getInteger("other"), 2)
+                .expect(!closed[0])
+                .then(() -> Console.log("&aPassed &7Load Stream"));
+    }
+
+    @Test
+    public void testLoadResource() throws Exception {
+        MemoryConfigurationSection section = ConfigurationFactory.YAML.loadResource("test.yml");
+
+        boolean missing = false;
+        try {
+            ConfigurationFactory.YAML.loadResource("missing.yml");
+        } catch (FileNotFoundException exception) {
+            missing = true;
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Load Resource"))
+                .expect(section.getString("testStrings"), "testStrings")
+                .expect(missing)
+                .then(() -> Console.log("&aPassed &7Load Resource"));
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.EnginePool;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class TreeCacheTest {
+
+    private static final String CONTENT = String.join("\n",
+            "string: value",
+            "integer: 1",
+            "long: 10000000000",
+            "double: 1.5",
+            "boolean: true",
+            "list: [1, two, 3.0]",
+            "section:",
+            "  nested: {a: 1}",
+            "empty: null"
+    );
+
+    @Test
+    public void testTreeCache() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "cache.yml");
+        Files.writeString(file.toPath(), CONTENT);
+
+        YamlConfiguration configuration = this.create(file);
+        configuration.load();
+        Path cache = configuration.getTreeCachePath();
+        boolean written = Files.exists(cache);
+
+        // Loading with engines that can't parse proves the cache is used.
+        YamlConfiguration cached = this.create(file);
+        cached.setEngines(new EnginePool<Yaml>(() -> {
+            throw new IllegalStateException("The file should not be parsed.");
+        }));
+        boolean loaded = cached.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Tree Cache"))
+                .expect(written)
+                .expect(cache.getFileName().toString(), ".cache.yml.cache")
+                .expect(loaded)
+                .expect(cached.getMap(), configuration.getMap())
+                .expect(cached.getString("string"), "value")
+                .expect(cached.getLong("long"), 10000000000L)
+                .expect(cached.getList("list"), List.of(1, "two", 3.0))
+                .expect(cached.getInteger("section.nested.a"), 1)
+                .expect(cached.getKeys().contains("empty"))
+                .then(() -> Console.log("&aPassed &7Tree Cache"));
+    }
+
+    @Test
+    public void testTreeCacheFallback() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        File file = new File(folder, "fallback.yml");
+        Files.writeString(file.toPath(), CONTENT);
+
+        YamlConfiguration configuration = this.create(file);
+        configuration.setTreeCacheFolder(new File(folder, "cache"));
+        configuration.load();
+        Path cache = configuration.getTreeCachePath();
+
+        // Damage the cache.
+        byte[] bytes = Files.readAllBytes(cache);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(cache, bytes);
+
+        YamlConfiguration damaged = this.create(file);
+        damaged.setTreeCacheFolder(new File(folder, "cache"));
+        boolean loadedDamaged = damaged.load();
+
+        // Change the file.
+        Files.writeString(file.toPath(), CONTENT.replace("string: value", "string: changed"));
+        YamlConfiguration changed = this.create(file);
+        changed.setTreeCacheFolder(new File(folder, "cache"));
+        boolean loadedChanged = changed.load();
+        String changedValue = changed.getString("string");
+
+        // Save the file, which removes the cache until it is parsed again.
+        changed.set("string", "saved");
+        changed.set("number", 5L);
+        changed.save();
+        boolean removed = !Files.exists(cache);
+
+        YamlConfiguration parsed = this.create(file);
+        parsed.setTreeCacheFolder(new File(folder, "cache"));
+        parsed.load();
+
+        YamlConfiguration saved = this.create(file);
+        saved.setTreeCacheFolder(new File(folder, "cache"));
+        saved.setEngines(new EnginePool<Yaml>(() -> {
+            throw new IllegalStateException("The file should not be parsed.");
+        }));
+        boolean loadedSaved = saved.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Tree Cache Fallback"))
+                .expect(cache.getParent().getFileName().toString(), "cache")
+                .expect(loadedDamaged)
+                .expect(damaged.getMap(), configuration.getMap())
+                .expect(loadedChanged)
+                .expect(changedValue, "changed")
+                .expect(removed)
+                .expect(loadedSaved)
+                .expect(saved.getString("string"), "saved")
+                .expect(saved.getMap().get("number"), 5)
+                .expect(saved.getMap(), parsed.getMap())
+                .then(() -> Console.log("&aPassed &7Tree Cache Fallback"));
+    }
+
+    @Test
+    public void testTreeCacheRacilyClean() throws Exception {
+        File folder = Files.createTempDirectory("squishyconfiguration").toFile();
+        folder.deleteOnExit();
+
+        // Use a time the file system can store exactly.
+        File file = new File(folder, "racy.yml");
+        long lastModified = System.currentTimeMillis() / 1000 * 1000;
+        Files.writeString(file.toPath(), CONTENT);
+        file.setLastModified(lastModified);
+
+        YamlConfiguration configuration = this.create(file);
+        configuration.load();
+
+        // Change the file without changing its size or last modified time.
+        Files.writeString(file.toPath(), CONTENT.replace("string: value", "string: other"));
+        file.setLastModified(lastModified);
+
+        YamlConfiguration changed = this.create(file);
+        boolean loaded = changed.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Tree Cache Racily Clean"))
+                .expect(Files.exists(configuration.getTreeCachePath()))
+                .expect(loaded)
+                .expect(changed.getString("string"), "other")
+                .then(() -> Console.log("&aPassed &7Tree Cache Racily Clean"));
+    }
+
+    private YamlConfiguration create(File file) {
+        YamlConfiguration configuration = new YamlConfiguration(file);
+        configuration.setTreeCache(true);
+        return configuration;
+    }
+}
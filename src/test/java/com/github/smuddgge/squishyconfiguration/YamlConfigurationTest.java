@@ -1,10 +1,15 @@
 package com.github.smuddgge.squishyconfiguration;
 
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
 import com.github.smuddgge.squishyconfiguration.utility.AllConfigurationTester;
 import com.github.smuddgge.squishyconfiguration.utility.ConfigurationTester;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
 
 public class YamlConfigurationTest {
 
@@ -18,4 +23,52 @@ public class YamlConfigurationTest {
 
         tester.testAll();
     }
+
+    @Test
+    public void testPartialLoad() throws Exception {
+        File file = Files.createTempFile("squishyconfiguration", ".yml").toFile();
+        file.deleteOnExit();
+
+        Files.writeString(file.toPath(), String.join("\n",
+                "skipped:",
+                "  anchor: &value [1, 2]",
+                "  nested: {a: 1}",
+                "kept:",
+                "  list: [1, 2, 3]",
+                "  section:",
+                "    value: true",
+                "parent:",
+                "  kept: 2.5",
+                "  skipped: text",
+                "  list: [4, 5]",
+                "last: value"
+        ));
+
+        YamlConfiguration configuration = new YamlConfiguration(file);
+        boolean loaded = configuration.load(List.of("kept", "parent.kept", "parent.list.0", "missing.path"));
+        configuration.set("kept.new", 1);
+        boolean saved = configuration.save();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Partial Load"))
+                .expect(loaded)
+                .expect(!saved)
+                .expect(configuration.isPartial())
+                .expect(configuration.getKeys(), List.of("kept", "parent"))
+                .expect(configuration.getListInteger("kept.list"), List.of(1, 2, 3))
+                .expect(configuration.getBoolean("kept.section.value"))
+                .expect(Files.readString(file.toPath()).contains("last: value"))
+                .expect(configuration.getKeys("parent"), List.of("kept"))
+                .expect(configuration.getDouble("parent.kept"), 2.5)
+                .then(() -> Console.log("&aPassed &7Partial Load"));
+
+        configuration.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Full Load After Partial Load"))
+                .expect(!configuration.isPartial())
+                .expect(configuration.getString("last"), "value")
+                .expect(configuration.getListInteger("skipped.anchor"), List.of(1, 2))
+                .then(() -> Console.log("&aPassed &7Full Load After Partial Load"));
+    }
 }
@@ -0,0 +1,223 @@
+package com.github.smuddgge.squishyconfiguration;
+
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.implementation.EnginePool;
+import com.github.smuddgge.squishyconfiguration.implementation.YamlConfiguration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import com.github.smuddgge.squishyconfiguration.utility.AllConfigurationTester;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class YamlFastParserTest {
+
+    /**
+     * Documents the fast parser supports,
+     * so snakeyaml must not be used.
+     */
+    private static final String[] SUPPORTED_CORPUS = {
+            "",
+            "# Only a comment.\n",
+            "string: value\ninteger: 42\nnegative: -17\nlong: 9999999999\nbig: 99999999999999999999\ndouble: 3.14\n",
+            "yes: yes\noff: Off\nbool: TRUE\nnothing: ~\nnull: Null\nempty:\nspaced: a  b c   \n",
+            "single: 'it''s'\ndouble: \"tab\\t quote\\\" slash\\\\ \\u00e9\"\n'quoted key': 1\n\"other\" : 2\n",
+            "# Header.\nkey: value # trailing\nhash: a#b\n\n  # Indented comment.\nlast: 1\n",
+            "a:\n  b:\n    c: 1\n  d: 2\ne: 3\n",
+            "list:\n  - 1\n  - two\nsame:\n- a\n- b\nnested:\n  - - 1\n    - 2\n  - key: value\n    other: 1\n  -\n  - last\n",
+            "compact:\n- key:\n  - a\n- key:\n- b\n",
+            "flow: [1, two, 'three', [4], {a: 1}]\nmap: {a: 1, 'b': [x, y], c: ~}\nempty: []\nnone: {}\n",
+            "1: one\non: two\n~: three\nurl: http://example.com/path\nkey with spaces: value\npath[0]: x\n",
+            "windows: 1\r\nsection:\r\n  value: 2\r\n",
+            "\uFEFFbom: true\n",
+            "a: 1\nb: 2\na: 3\n",
+            "unicode: \u00e9\u4e2d\u6587\n"
+    };
+
+    /**
+     * Documents the fast parser leaves to snakeyaml.
+     */
+    private static final String[] FALLBACK_CORPUS = {
+            "base: &base {a: 1}\ncopy: *base\n",
+            "value: !!str 1\n",
+            "? complex\n: value\n",
+            "text: |\n  line one\n  line two\n",
+            "text: >\n  folded\n  text\n",
+            "text: first\n  second\n",
+            "quoted: 'first\n  second'\n",
+            "octal: 012\nhex: 0x1F\nexponent: 1e5\ninfinity: .inf\n",
+            "date: 2001-12-14\ntime: 12:30\n",
+            "base: &b {a: 1}\nmerged:\n  <<: *b\n  c: 2\n",
+            "---\nkey: value\n",
+            "list: [1,\n  2]\n",
+            "list: [a, b, ]\n",
+            "escape: \"\\x41\"\n",
+            "dash: -value\n",
+            "sign: +1.5e3\n"
+    };
+
+    @Test
+    public void testResource() throws IOException {
+        String document = Files.readString(new File("src/main/resources/test.yml").toPath());
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Fast Yaml Resource"))
+                .expect(YamlFastParserTest.isSame(document, YamlFastParserTest.parseFast(document)))
+                .then(() -> Console.log("&aPassed &7Fast Yaml Resource"));
+    }
+
+    @Test
+    public void testSupportedCorpus() throws IOException {
+        List<String> different = new ArrayList<>();
+
+        for (String document : SUPPORTED_CORPUS) {
+            if (!YamlFastParserTest.isSame(document, YamlFastParserTest.parseFast(document))) different.add(document);
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Fast Yaml Supported Corpus " + different))
+                .expect(different.isEmpty())
+                .then(() -> Console.log("&aPassed &7Fast Yaml Supported Corpus"));
+    }
+
+    @Test
+    public void testFallbackCorpus() throws IOException {
+        List<String> different = new ArrayList<>();
+
+        for (String document : FALLBACK_CORPUS) {
+            AtomicInteger engines = new AtomicInteger();
+            FastYamlConfiguration configuration = new FastYamlConfiguration(new EnginePool<>(() -> {
+                engines.incrementAndGet();
+                return new Yaml();
+            }));
+
+            Map<?, ?> actual = configuration.parse(document);
+            if (engines.get() != 1 || !YamlFastParserTest.isSame(document, actual)) different.add(document);
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Fast Yaml Fallback Corpus " + different))
+                .expect(different.isEmpty())
+                .then(() -> Console.log("&aPassed &7Fast Yaml Fallback Corpus"));
+    }
+
+    @Test
+    public void testInvalidEscape() throws IOException {
+        AtomicInteger engines = new AtomicInteger();
+        FastYamlConfiguration configuration = new FastYamlConfiguration(new EnginePool<>(() -> {
+            engines.incrementAndGet();
+            return new Yaml();
+        }));
+
+        // Snakeyaml rejects an escaped slash, so the fast parser must leave it to snakeyaml.
+        boolean rejected;
+        try {
+            configuration.parse("escape: \"\\/\"\n");
+            rejected = false;
+        } catch (YAMLException exception) {
+            rejected = true;
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Fast Yaml Invalid Escape"))
+                .expect(rejected)
+                .expect(engines.get(), 1)
+                .then(() -> Console.log("&aPassed &7Fast Yaml Invalid Escape"));
+    }
+
+    @Test
+    public void testConfiguration() {
+        ConfigurationFactory.setFastYaml(true);
+
+        try {
+            new AllConfigurationTester(
+                    ConfigurationFactory.YAML.createPreparedFactory(
+                            new File("src/main/resources"), "test"
+                    )
+            ).testAll();
+        } finally {
+            ConfigurationFactory.setFastYaml(false);
+        }
+    }
+
+    @Test
+    public void testBenchmark() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int section = 0; section < 2000; section++) {
+            builder.append("section").append(section).append(":\n")
+                    .append("  name: Section ").append(section).append('\n')
+                    .append("  amount: ").append(section * 31).append('\n')
+                    .append("  ratio: ").append(section / 8.0).append('\n')
+                    .append("  enabled: ").append(section % 2 == 0).append('\n')
+                    .append("  tags:\n  - first\n  - second\n")
+                    .append("  point: {x: 1, y: 2}\n");
+        }
+
+        String document = builder.toString();
+        Map<?, ?> actual = YamlFastParserTest.parseFast(document);
+
+        // Warm up both parsers before they are timed.
+        for (int index = 0; index < 3; index++) {
+            new Yaml().load(document);
+            YamlFastParserTest.parseFast(document);
+        }
+
+        long start = System.nanoTime();
+        for (int index = 0; index < 5; index++) new Yaml().load(document);
+        long snakeyamlTime = (System.nanoTime() - start) / 5_000_000;
+
+        start = System.nanoTime();
+        for (int index = 0; index < 5; index++) YamlFastParserTest.parseFast(document);
+        long fastTime = (System.nanoTime() - start) / 5_000_000;
+
+        Console.log("&7Yaml benchmark, snakeyaml &f" + snakeyamlTime + "ms &7fast &f" + fastTime + "ms");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Yaml Benchmark"))
+                .expect(YamlFastParserTest.isSame(document, actual))
+                .then(() -> Console.log("&aPassed &7Yaml Benchmark"));
+    }
+
+    /**
+     * Used to parse a document with the fast parser,
+     * failing if snakeyaml is needed.
+     */
+    private static Map<?, ?> parseFast(String document) throws IOException {
+        return new FastYamlConfiguration(new EnginePool<>(() -> {
+            throw new IllegalStateException("The document was not supported by the fast parser.");
+        })).parse(document);
+    }
+
+    /**
+     * Used to check if a tree is the same as the
+     * one snakeyaml creates, including the order.
+     */
+    private static boolean isSame(String document, Map<?, ?> actual) {
+        Object expected = new Yaml().load(document);
+        return Objects.equals(actual, expected)
+                && String.valueOf(actual).equals(String.valueOf(expected));
+    }
+
+    private static class FastYamlConfiguration extends YamlConfiguration {
+
+        public FastYamlConfiguration(EnginePool<Yaml> engines) {
+            super(new File("fast.yml"));
+            this.setEngines(engines);
+            this.setFastParser(true);
+        }
+
+        public Map<?, ?> parse(String document) throws IOException {
+            return this.read(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
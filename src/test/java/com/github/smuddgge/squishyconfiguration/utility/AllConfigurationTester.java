@@ -23,6 +23,14 @@ public class AllConfigurationTester extends ConfigurationCreator implements Conf
     @Override
     public void testAll() {
         this.testDataTypes();
+        this.testBinding();
+        this.testSectionViews();
+        this.testValueCache();
+        this.testPathIndex();
+        this.testBatch();
+        this.testDirty();
+        this.testSave();
+        this.testReload();
     }
 
     /**
@@ -33,4 +41,76 @@ public class AllConfigurationTester extends ConfigurationCreator implements Conf
         ConfigurationTester tester = new DataTypeConfigurationTester(this.getFactory());
         tester.testAll();
     }
+
+    /**
+     * Used to test binding objects.
+     */
+    public void testBinding() {
+        Console.log("&dTesting Binding");
+        ConfigurationTester tester = new BindingConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test live section views.
+     */
+    public void testSectionViews() {
+        Console.log("&dTesting Section Views");
+        ConfigurationTester tester = new SectionViewConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test the value cache.
+     */
+    public void testValueCache() {
+        Console.log("&dTesting Value Cache");
+        ConfigurationTester tester = new ValueCacheConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test the path index.
+     */
+    public void testPathIndex() {
+        Console.log("&dTesting Path Index");
+        ConfigurationTester tester = new PathIndexConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test setting values in batches.
+     */
+    public void testBatch() {
+        Console.log("&dTesting Batches");
+        ConfigurationTester tester = new BatchConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test tracking changes to save.
+     */
+    public void testDirty() {
+        Console.log("&dTesting Dirty Tracking");
+        ConfigurationTester tester = new DirtyConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test saving the file.
+     */
+    public void testSave() {
+        Console.log("&dTesting Saving");
+        ConfigurationTester tester = new SaveConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
+
+    /**
+     * Used to test reloading the file when it changes.
+     */
+    public void testReload() {
+        Console.log("&dTesting Reloading");
+        ConfigurationTester tester = new ReloadConfigurationTester(this.getFactory());
+        tester.testAll();
+    }
 }
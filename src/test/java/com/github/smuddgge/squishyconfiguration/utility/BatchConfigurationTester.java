@@ -0,0 +1,86 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Represents a tester for setting values
+ * in batches in the configuration instance.
+ */
+public class BatchConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public BatchConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testBatch();
+        this.testBatchAndSave();
+    }
+
+    /**
+     * Used to test that a batch is applied in
+     * order and counted as one change.
+     */
+    public void testBatch() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        MemoryConfigurationSection section = (MemoryConfigurationSection) configuration;
+        long modificationCount = section.getModificationCount();
+
+        configuration.getSection("testBatch").batch(batch -> batch
+                .set("a.b", 1)
+                .set("a.c", 2)
+                .set("d.e", 3)
+                .set("d", Map.of("f", 4))
+                .set("d.g", 5)
+                .remove("a.c")
+        );
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Batch"))
+                .expect(section.getModificationCount(), modificationCount + 1)
+                .expect(configuration.getInteger("testBatch.a.b"), 1)
+                .expect(configuration.isInteger("testBatch.a.c"), false)
+                .expect(configuration.isInteger("testBatch.d.e"), false)
+                .expect(configuration.getInteger("testBatch.d.f"), 4)
+                .expect(configuration.getInteger("testBatch.d.g"), 5)
+                .then(() -> Console.log("&aPassed &7Batch"));
+    }
+
+    /**
+     * Used to test that a batch can be saved.
+     */
+    public void testBatchAndSave() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.batchAndSave(batch -> batch
+                .set("testBatch", null)
+                .set("testIntegers", 64)
+        );
+
+        Configuration testLoad = this.create();
+        testLoad.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Batch And Save"))
+                .expect(testLoad.isMap("testBatch"), false)
+                .expect(testLoad.getInteger("testIntegers"), 64)
+                .then(() -> Console.log("&aPassed &7Batch And Save"));
+    }
+}
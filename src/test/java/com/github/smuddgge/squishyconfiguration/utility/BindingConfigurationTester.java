@@ -0,0 +1,193 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a tester for binding objects
+ * to the configuration instance.
+ */
+public class BindingConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public BindingConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    public enum Mode {
+        FAST, SAFE
+    }
+
+    public record Point(int x, int y) {
+    }
+
+    public static class Settings {
+        private String name;
+        private int amount;
+        private long total;
+        private float scale;
+        private boolean enabled;
+        private Mode mode;
+        private Point origin;
+        private List<Point> points = new ArrayList<>();
+        private String missing;
+        private transient String cache;
+
+        @SerializedName("display_name")
+        private String displayName;
+    }
+
+    public static class Holder {
+        private Object value;
+    }
+
+    public static class Immutable {
+        private final String value;
+
+        public Immutable(String value) {
+            this.value = value;
+        }
+    }
+
+    @Override
+    public void testAll() {
+        this.testClass();
+        this.testRecord();
+        this.testGsonFallback();
+        this.testObjectCopies();
+        this.testFractions();
+    }
+
+    /**
+     * Used to test that a class with nested records,
+     * enums, null and transient fields can be set and read.
+     */
+    public void testClass() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        Settings settings = new Settings();
+        settings.name = "name";
+        settings.amount = 3;
+        settings.total = 5_000_000_000L;
+        settings.scale = 1.5F;
+        settings.enabled = true;
+        settings.mode = Mode.SAFE;
+        settings.origin = new Point(0, 1);
+        settings.points.add(new Point(1, 2));
+        settings.points.add(new Point(3, 4));
+        settings.cache = "cache";
+        settings.displayName = "Display Name";
+
+        configuration.set("testBinding.settings", settings);
+        Settings result = configuration.getClass("testBinding.settings", Settings.class);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Binding Class"))
+                .expect(result.name, "name")
+                .expect(result.amount, 3)
+                .expect(result.total, 5_000_000_000L)
+                .expect(result.scale, 1.5F)
+                .expect(result.enabled)
+                .expect(result.mode, Mode.SAFE)
+                .expect(configuration.getString("testBinding.settings.mode"), "SAFE")
+                .expect(result.origin, new Point(0, 1))
+                .expect(result.points, List.of(new Point(1, 2), new Point(3, 4)))
+                .expect(result.missing == null)
+                .expect(!configuration.getSection("testBinding.settings").getKeys().contains("missing"))
+                .expect(result.cache == null)
+                .expect(!configuration.getSection("testBinding.settings").getKeys().contains("cache"))
+                .expect(result.displayName, "Display Name")
+                .expect(configuration.getString("testBinding.settings.display_name"), "Display Name")
+                .then(() -> Console.log("&aPassed &7Binding Class"));
+    }
+
+    /**
+     * Used to test that a record can be set and read.
+     */
+    public void testRecord() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.set("testBinding.point", new Point(5, 6));
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Binding Record"))
+                .expect(configuration.getInteger("testBinding.point.x"), 5)
+                .expect(configuration.getClass("testBinding.point", Point.class), new Point(5, 6))
+                .then(() -> Console.log("&aPassed &7Binding Record"));
+    }
+
+    /**
+     * Used to test that a class without a no argument
+     * constructor is created by gson instead.
+     */
+    public void testGsonFallback() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.set("testBinding.immutable", new Immutable("value"));
+        Immutable result = configuration.getClass("testBinding.immutable", Immutable.class);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Binding Gson Fallback"))
+                .expect(configuration.getString("testBinding.immutable.value"), "value")
+                .expect(result.value, "value")
+                .then(() -> Console.log("&aPassed &7Binding Gson Fallback"));
+    }
+
+    /**
+     * Used to test that maps and lists bound to object
+     * fields are copies of the configuration's values.
+     */
+    @SuppressWarnings("unchecked")
+    public void testObjectCopies() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.set("testBinding.holder.value.list", List.of("a"));
+        Holder holder = configuration.getClass("testBinding.holder", Holder.class);
+
+        Map<String, Object> value = (Map<String, Object>) holder.value;
+        ((List<Object>) value.get("list")).add("b");
+        value.put("other", 1);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Binding Object Copies"))
+                .expect(configuration.getList("testBinding.holder.value.list"), List.of("a"))
+                .expect(configuration.getSection("testBinding.holder.value").getKeys(), List.of("list"))
+                .then(() -> Console.log("&aPassed &7Binding Object Copies"));
+    }
+
+    /**
+     * Used to test that a number with a fraction
+     * can't be bound to an integer.
+     */
+    public void testFractions() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.set("testBinding.fraction", Map.of("x", 1.5, "y", 2));
+        configuration.set("testBinding.whole", Map.of("x", 1.0, "y", 2));
+        Point alternative = new Point(0, 0);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Binding Fractions"))
+                .expect(configuration.getClass("testBinding.fraction", Point.class, alternative), alternative)
+                .expect(configuration.getClass("testBinding.whole", Point.class, alternative), new Point(1, 2))
+                .then(() -> Console.log("&aPassed &7Binding Fractions"));
+    }
+}
@@ -3,11 +3,14 @@ package com.github.smuddgge.squishyconfiguration.utility;
 import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
 import com.github.smuddgge.squishyconfiguration.console.Console;
 import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.path.ConfigPath;
 import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
 import com.github.smuddgge.squishyconfiguration.results.types.ResultNotNull;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +44,7 @@ public class DataTypeConfigurationTester extends ConfigurationCreator implements
     @Override
     public void testAll() {
         this.testObjects();
+        this.testMissingNestedRead();
         this.testStrings();
         this.testIntegers();
         this.testLongs();
@@ -48,6 +52,9 @@ public class DataTypeConfigurationTester extends ConfigurationCreator implements
         this.testBooleans();
         this.testStringList();
         this.testIntegerList();
+        this.testPrimitiveArrays();
+        this.testPrimitiveArrayCopies();
+        this.testCompact();
         this.testStringToObjectMap();
         this.testClass();
     }
@@ -73,6 +80,32 @@ public class DataTypeConfigurationTester extends ConfigurationCreator implements
                 .then(() -> Console.log("&aPassed &7Objects"));
     }
 
+    /**
+     * Used to test that reading missing nested
+     * paths doesn't change the configuration.
+     */
+    public void testMissingNestedRead() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        List<String> keys = configuration.getKeys();
+        Map<String, Object> data = ConversionUtility.copyMap(configuration.getMap());
+
+        configuration.get("testMissing.a.b");
+        configuration.getString("testMissing.a.b", "alternative");
+        configuration.getInteger(ConfigPath.of("testMissing.a.c"));
+        configuration.getList("testMissing.list");
+        configuration.getSection("testMissing.section").getString("value");
+        configuration.get("testClass.value.deeper");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Missing Nested Read"))
+                .expect(configuration.getKeys(), keys)
+                .expect(configuration.getMap(), data)
+                .expect(!configuration.isDirty())
+                .then(() -> Console.log("&aPassed &7Missing Nested Read"));
+    }
+
     /**
      * Used to test getting and setting strings.
      */
@@ -215,6 +248,92 @@ public class DataTypeConfigurationTester extends ConfigurationCreator implements
                 .then(() -> Console.log("&aPassed &7Integer List"));
     }
 
+    /**
+     * Used to test getting and setting lists
+     * stored as primitive arrays.
+     */
+    public void testPrimitiveArrays() {
+        Configuration configuration = this.create();
+        configuration.getOptions().setPrimitiveLists(true);
+        configuration.load();
+
+        configuration.set("testIntegerArray", new int[]{2, 3});
+        configuration.set("testDoubleArray", List.of(1.5D, 2.5D));
+
+        configuration.save();
+        Configuration testLoad = this.create();
+        testLoad.getOptions().setPrimitiveLists(true);
+        testLoad.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Primitive Arrays"))
+                .expect(configuration.get("testDoubleArray") instanceof double[], true)
+                .expect(Arrays.equals(testLoad.getIntArray("testIntegerArray"), new int[]{2, 3}), true)
+                .expect(Arrays.equals(testLoad.getLongArray("testIntegerArray"), new long[]{2, 3}), true)
+                .expect(Arrays.equals(testLoad.getDoubleArray("testDoubleArray"), new double[]{1.5D, 2.5D}), true)
+                .expect(testLoad.getListInteger("testIntegerArray").get(1), 3)
+                .then(() -> Console.log("&aPassed &7Primitive Arrays"));
+    }
+
+    /**
+     * Used to test that changing a returned array
+     * or list doesn't change the section or its snapshots.
+     */
+    @SuppressWarnings("unchecked")
+    public void testPrimitiveArrayCopies() {
+        Configuration configuration = this.create();
+        configuration.getOptions().setPrimitiveLists(true);
+        configuration.load();
+
+        configuration.set("testArrayCopy", new int[]{1, 2});
+        ConfigurationSection snapshot = configuration.snapshot();
+
+        configuration.getIntArray("testArrayCopy")[0] = 5;
+        configuration.getLongArray("testArrayCopy")[0] = 5;
+        snapshot.getIntArray("testArrayCopy")[1] = 5;
+
+        boolean readOnly;
+        try {
+            ((List<Object>) configuration.getList("testArrayCopy")).set(0, 5);
+            readOnly = false;
+        } catch (UnsupportedOperationException exception) {
+            readOnly = true;
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Primitive Array Copies"))
+                .expect(readOnly)
+                .expect(Arrays.equals(configuration.getIntArray("testArrayCopy"), new int[]{1, 2}))
+                .expect(Arrays.equals(snapshot.getIntArray("testArrayCopy"), new int[]{1, 2}))
+                .then(() -> Console.log("&aPassed &7Primitive Array Copies"));
+    }
+
+    /**
+     * Used to test loading and setting values
+     * with the compact memory option.
+     */
+    public void testCompact() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        Configuration compact = this.create();
+        compact.getOptions().setCompact(true);
+        compact.load();
+        compact.set("testCompact.value", "testCompact");
+
+        compact.save();
+        Configuration testLoad = this.create();
+        testLoad.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Compact"))
+                .expect(compact.getRetainedSize() - compact.getSection("testCompact").getRetainedSize() < configuration.getRetainedSize())
+                .expect(testLoad.getString("testCompact.value"), "testCompact")
+                .expect(testLoad.getMap("testStringToObjectMap"), configuration.getMap("testStringToObjectMap"))
+                .expect(testLoad.getListString("testStringList"), configuration.getListString("testStringList"))
+                .then(() -> Console.log("&aPassed &7Compact"));
+    }
+
     /**
      * Used to test getting and setting string to object maps.
      */
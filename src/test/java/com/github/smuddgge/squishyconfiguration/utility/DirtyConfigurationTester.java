@@ -0,0 +1,111 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.Set;
+
+/**
+ * Represents a tester for tracking the changes
+ * made to the configuration instance.
+ */
+public class DirtyConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public DirtyConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testDirty();
+        this.testCleanSave();
+        this.testDirtyPaths();
+    }
+
+    /**
+     * Used to test that changes made through the
+     * configuration and its sections are tracked.
+     */
+    public void testDirty() {
+        Configuration configuration = this.create();
+        boolean dirtyBeforeLoad = configuration.isDirty();
+        configuration.load();
+        boolean dirtyAfterLoad = configuration.isDirty();
+
+        configuration.getSection("testDirty").set("value", 1);
+        boolean dirtyAfterSection = configuration.isDirty();
+        configuration.save();
+        boolean dirtyAfterSave = configuration.isDirty();
+
+        configuration.set("testDirty", null);
+        boolean dirtyAfterRemove = configuration.isDirty();
+        configuration.save();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Dirty"))
+                .expect(dirtyBeforeLoad)
+                .expect(!dirtyAfterLoad)
+                .expect(dirtyAfterSection)
+                .expect(!dirtyAfterSave)
+                .expect(dirtyAfterRemove)
+                .expect(!configuration.isDirty())
+                .then(() -> Console.log("&aPassed &7Dirty"));
+    }
+
+    /**
+     * Used to test that saving a configuration
+     * without changes doesn't write the file.
+     */
+    public void testCleanSave() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        File file = configuration.getFile();
+        long lastModified = file.lastModified();
+        file.setLastModified(1000);
+
+        boolean saved = configuration.save();
+        long cleanModified = file.lastModified();
+        file.setLastModified(lastModified);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Clean Save"))
+                .expect(saved)
+                .expect(cleanModified, 1000L)
+                .then(() -> Console.log("&aPassed &7Clean Save"));
+    }
+
+    /**
+     * Used to test that the changed paths are
+     * recorded and cleared when saved.
+     */
+    public void testDirtyPaths() {
+        Configuration configuration = this.create();
+        configuration.getOptions().setDirtyPaths(true);
+        configuration.load();
+
+        configuration.set("testDirty.a", 1);
+        configuration.getSection("testDirty").set("b.c", 2);
+        configuration.batch(batch -> batch.set("testDirty.d", 3));
+        Set<String> paths = Set.copyOf(configuration.getDirtyPaths());
+
+        configuration.set("testDirty", null);
+        configuration.save();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Dirty Paths"))
+                .expect(paths, Set.of("testDirty.a", "testDirty.b.c", "testDirty.d"))
+                .expect(configuration.getDirtyPaths().isEmpty())
+                .then(() -> Console.log("&aPassed &7Dirty Paths"));
+    }
+}
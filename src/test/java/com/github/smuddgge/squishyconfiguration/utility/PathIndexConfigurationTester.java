@@ -0,0 +1,103 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a tester for the path index
+ * of the configuration instance.
+ */
+public class PathIndexConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public PathIndexConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testDeepValues();
+        this.testReplacedSections();
+        this.testBatch();
+    }
+
+    /**
+     * Used to test that deep values can be
+     * read and set with the index enabled.
+     */
+    public void testDeepValues() {
+        Configuration configuration = this.create();
+        configuration.getPathIndex().setEnabled(true);
+        configuration.load();
+
+        configuration.set("testPathIndex.a.b.c.d.e", 1);
+        configuration.getSection("testPathIndex.a.b").set("c.d.f", 2);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Path Index Deep Values"))
+                .expect(configuration.getInteger("testPathIndex.a.b.c.d.e"), 1)
+                .expect(configuration.getInteger("testPathIndex.a.b.c.d.f"), 2)
+                .expect(configuration.getSection("testPathIndex.a.b.c").getInteger("d.e"), 1)
+                .expect(configuration.getInteger("testIntegers"), 64)
+                .then(() -> Console.log("&aPassed &7Path Index Deep Values"));
+    }
+
+    /**
+     * Used to test that replacing a section
+     * removes its old values from the index.
+     */
+    public void testReplacedSections() {
+        Configuration configuration = this.create();
+        configuration.getPathIndex().setEnabled(true);
+        configuration.load();
+
+        configuration.set("testPathIndex.a.b.c", 1);
+        configuration.getInteger("testPathIndex.a.b.c");
+        configuration.set("testPathIndex.a", "value");
+
+        // An index that never contained the old section.
+        Configuration expected = this.create();
+        expected.getPathIndex().setEnabled(true);
+        expected.load();
+        expected.set("testPathIndex.a", "value");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Path Index Replaced Sections"))
+                .expect(configuration.getInteger("testPathIndex.a.b.c", 0), 0)
+                .expect(configuration.getString("testPathIndex.a"), "value")
+                .expect(configuration.getPathIndex().size(), expected.getPathIndex().size())
+                .then(() -> Console.log("&aPassed &7Path Index Replaced Sections"));
+    }
+
+    /**
+     * Used to test that a batch keeps
+     * the index up to date.
+     */
+    public void testBatch() {
+        Configuration configuration = this.create();
+        configuration.getPathIndex().setEnabled(true);
+        configuration.load();
+
+        int size = configuration.getPathIndex().size();
+        configuration.batch(batch -> batch
+                .set("testPathIndex.batch.a", 1)
+                .set("testPathIndex.batch.b", 2)
+                .set("testPathIndex.batch.b", null)
+        );
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Path Index Batch"))
+                .expect(configuration.getInteger("testPathIndex.batch.a"), 1)
+                .expect(configuration.getInteger("testPathIndex.batch.b", 0), 0)
+                .expect(configuration.getPathIndex().size(), size + 3)
+                .then(() -> Console.log("&aPassed &7Path Index Batch"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * Represents a tester for reloading the
+ * configuration instance when it changes.
+ */
+public class ReloadConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public ReloadConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testReloadIfChanged();
+        this.testRacilyClean();
+    }
+
+    /**
+     * Used to test that the file is only loaded
+     * again when its content changes.
+     */
+    public void testReloadIfChanged() {
+        Configuration configuration = this.create();
+        configuration.load();
+        boolean unchanged = configuration.reloadIfChanged();
+
+        // Change the file with another instance.
+        Configuration editor = this.create();
+        editor.load();
+        editor.set("testReload", 12345);
+        editor.save();
+
+        boolean changed = configuration.reloadIfChanged();
+        int value = configuration.getInteger("testReload");
+
+        // Change the last modified time without changing the content.
+        File file = configuration.getFile();
+        file.setLastModified(file.lastModified() - 10000);
+        boolean touched = configuration.reloadIfChanged();
+
+        editor.set("testReload", null);
+        editor.save();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Reload If Changed"))
+                .expect(!unchanged)
+                .expect(changed)
+                .expect(value, 12345)
+                .expect(!touched)
+                .expect(configuration.reloadIfChanged())
+                .expect(!configuration.isInteger("testReload"))
+                .then(() -> Console.log("&aPassed &7Reload If Changed"));
+    }
+
+    /**
+     * Used to test that a file changed again without
+     * changing its size or last modified time is
+     * still loaded again.
+     */
+    public void testRacilyClean() {
+        Configuration editor = this.create();
+        editor.load();
+        editor.set("testReload", 11111);
+        editor.save();
+
+        // Use a time the file system can store exactly.
+        File file = editor.getFile();
+        long lastModified = System.currentTimeMillis() / 1000 * 1000;
+        file.setLastModified(lastModified);
+
+        Configuration configuration = this.create();
+        configuration.load();
+
+        editor.set("testReload", 22222);
+        editor.save();
+        file.setLastModified(lastModified);
+
+        boolean changed = configuration.reloadIfChanged();
+        int value = configuration.getInteger("testReload");
+
+        editor.set("testReload", null);
+        editor.save();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Racily Clean"))
+                .expect(changed)
+                .expect(value, 22222)
+                .then(() -> Console.log("&aPassed &7Racily Clean"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Represents a tester for saving
+ * the configuration instance.
+ */
+public class SaveConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public SaveConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testAtomicSave();
+    }
+
+    /**
+     * Used to test that a synced save keeps unicode
+     * values and doesn't leave temporary files.
+     */
+    public void testAtomicSave() {
+        Configuration configuration = this.create();
+        configuration.setSyncOnSave(true);
+        configuration.load();
+
+        configuration.set("testSave", "h\u00e9llo \u2713");
+        boolean saved = configuration.save();
+
+        Configuration testLoad = this.create();
+        testLoad.load();
+        String value = testLoad.getString("testSave");
+
+        configuration.set("testSave", null);
+        configuration.save();
+
+        File folder = configuration.getFile().getAbsoluteFile().getParentFile();
+        String[] temporary = Objects.requireNonNull(folder.list((directory, name) -> name.endsWith(".tmp")));
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Atomic Save"))
+                .expect(saved)
+                .expect(value, "h\u00e9llo \u2713")
+                .expect(temporary.length, 0)
+                .then(() -> Console.log("&aPassed &7Atomic Save"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a tester for the live section
+ * views of the configuration instance.
+ */
+public class SectionViewConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public SectionViewConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testDetachedView();
+        this.testWriteThrough();
+        this.testReplacedSection();
+        this.testReloadedSection();
+    }
+
+    /**
+     * Used to test that a view of a missing section
+     * is empty until the section is created.
+     */
+    public void testDetachedView() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        ConfigurationSection section = configuration.getSection("testViews.missing");
+        boolean detached = section.getKeys().isEmpty();
+        configuration.set("testViews.missing.early", 0);
+
+        section.set("value", 1);
+        configuration.set("testViews.missing.later", 2);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Detached View"))
+                .expect(detached)
+                .expect(configuration.getInteger("testViews.missing.value"), 1)
+                .expect(section.getInteger("early"), 0)
+                .expect(section.getInteger("later"), 2)
+                .then(() -> Console.log("&aPassed &7Detached View"));
+    }
+
+    /**
+     * Used to test that values set through a view
+     * are set in the base section, and the other way.
+     */
+    public void testWriteThrough() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.set("testViews.existing.a", 1);
+        ConfigurationSection section = configuration.getSection("testViews.existing");
+
+        section.set("b", 2);
+        section.getSection("nested").set("c", 3);
+        configuration.set("testViews.existing.d", 4);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7View Write Through"))
+                .expect(configuration.getInteger("testViews.existing.b"), 2)
+                .expect(configuration.getInteger("testViews.existing.nested.c"), 3)
+                .expect(section.getInteger("d"), 4)
+                .expect(section.getKeys().containsAll(List.of("a", "b", "nested", "d")))
+                .then(() -> Console.log("&aPassed &7View Write Through"));
+    }
+
+    /**
+     * Used to test that a view finds its new
+     * map when its section is replaced.
+     */
+    public void testReplacedSection() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        configuration.set("testViews.stale.value", 1);
+        ConfigurationSection section = configuration.getSection("testViews.stale");
+
+        configuration.set("testViews.stale", Map.of("value", 5));
+        int replaced = section.getInteger("value");
+
+        section.set("other", 2);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Replaced Section View"))
+                .expect(replaced, 5)
+                .expect(section.getInteger("value"), 5)
+                .expect(configuration.getInteger("testViews.stale.value"), 5)
+                .expect(configuration.getInteger("testViews.stale.other"), 2)
+                .then(() -> Console.log("&aPassed &7Replaced Section View"));
+    }
+
+    /**
+     * Used to test that a view finds its new map
+     * when the configuration is loaded again.
+     */
+    public void testReloadedSection() {
+        Configuration configuration = this.create();
+        configuration.load();
+
+        ConfigurationSection section = configuration.getSection("testCompact");
+        configuration.set("testCompact", Map.of("value", "changed"));
+        String changed = section.getString("value");
+
+        configuration.load();
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Reloaded Section View"))
+                .expect(changed, "changed")
+                .expect(section.getString("value"), "testCompact")
+                .then(() -> Console.log("&aPassed &7Reloaded Section View"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.smuddgge.squishyconfiguration.utility;
+
+import com.github.smuddgge.squishyconfiguration.PreparedConfigurationFactory;
+import com.github.smuddgge.squishyconfiguration.console.Console;
+import com.github.smuddgge.squishyconfiguration.interfaces.Configuration;
+import com.github.smuddgge.squishyconfiguration.results.ResultChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents a tester for the value cache
+ * of the configuration instance.
+ */
+public class ValueCacheConfigurationTester extends ConfigurationCreator implements ConfigurationTester {
+
+    /**
+     * Used to create a configuration creator.
+     *
+     * @param factory The instance of the prepared
+     *                configuration factory.
+     */
+    public ValueCacheConfigurationTester(@NotNull PreparedConfigurationFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void testAll() {
+        this.testHits();
+        this.testInvalidation();
+        this.testLists();
+    }
+
+    /**
+     * Used to test that repeated reads are cached.
+     */
+    public void testHits() {
+        Configuration configuration = this.create();
+        configuration.load();
+        configuration.getValueCache().setEnabled(true);
+
+        for (int index = 0; index < 10; index++) {
+            configuration.getInteger("testIntegers");
+        }
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Value Cache Hits"))
+                .expect(configuration.getInteger("testIntegers"), 64)
+                .expect(configuration.getValueCache().getMisses(), 1L)
+                .expect(configuration.getValueCache().getHits(), 10L)
+                .then(() -> Console.log("&aPassed &7Value Cache Hits"));
+    }
+
+    /**
+     * Used to test that setting a value
+     * invalidates the cached values.
+     */
+    public void testInvalidation() {
+        Configuration configuration = this.create();
+        configuration.load();
+        configuration.getValueCache().setEnabled(true);
+
+        configuration.getInteger("testIntegers");
+        configuration.set("testIntegers", 32);
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Value Cache Invalidation"))
+                .expect(configuration.getInteger("testIntegers"), 32)
+                .expect(configuration.getValueCache().getMisses(), 2L)
+                .then(() -> Console.log("&aPassed &7Value Cache Invalidation"));
+    }
+
+    /**
+     * Used to test that cached lists can be
+     * changed like lists from a disabled cache,
+     * without changing the cached list.
+     */
+    public void testLists() {
+        Configuration configuration = this.create();
+        configuration.load();
+        configuration.set("testCacheList", List.of("a", "b"));
+
+        List<String> uncached = configuration.getListString("testCacheList");
+        uncached.add("c");
+
+        configuration.getValueCache().setEnabled(true);
+        List<String> first = configuration.getListString("testCacheList");
+        first.add("c");
+        List<String> second = configuration.getListString("testCacheList");
+
+        new ResultChecker()
+                .fallBack(() -> Console.log("&eFailed &7Value Cache Lists"))
+                .expect(uncached.getClass(), first.getClass())
+                .expect(first, List.of("a", "b", "c"))
+                .expect(second, List.of("a", "b"))
+                .expect(configuration.getValueCache().getHits(), 1L)
+                .then(() -> Console.log("&aPassed &7Value Cache Lists"));
+    }
+}